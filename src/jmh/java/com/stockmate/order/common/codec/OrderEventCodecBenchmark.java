@@ -0,0 +1,77 @@
+package com.stockmate.order.common.codec;
+
+import com.stockmate.order.api.order.dto.PayRequestEvent;
+import com.stockmate.order.api.order.entity.OrderStatus;
+import com.stockmate.order.api.order.entity.PaymentType;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 이벤트 JSON vs 바이너리 코덱 비교
+ * - 인코딩/디코딩 평균 시간 측정, 직렬화 크기는 Setup 시 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderEventCodecBenchmark {
+
+    private static final String TOPIC = "pay-request";
+
+    private PayRequestEvent event;
+    private JsonSerializer<Object> jsonSerializer;
+    private JsonDeserializer<PayRequestEvent> jsonDeserializer;
+    private OrderEventSerializer binarySerializer;
+    private OrderEventDeserializer binaryDeserializer;
+    private byte[] jsonBytes;
+    private byte[] binaryBytes;
+    private RecordHeaders binaryHeaders;
+
+    @Setup
+    public void setUp() {
+        event = PayRequestEvent.builder()
+                .orderId(1024L)
+                .memberId(77L)
+                .orderNumber("SO-20251019-000123")
+                .paymentType(PaymentType.DEPOSIT)
+                .totalPrice(1_250_000)
+                .orderStatus(OrderStatus.ORDER_COMPLETED)
+                .build();
+
+        jsonSerializer = new JsonSerializer<>();
+        jsonSerializer.setAddTypeInfo(false);
+        jsonDeserializer = new JsonDeserializer<>(PayRequestEvent.class, false);
+        binarySerializer = new OrderEventSerializer(jsonSerializer, Set.of(TOPIC));
+        binaryDeserializer = new OrderEventDeserializer(new JsonDeserializer<>(Object.class, false));
+
+        jsonBytes = jsonSerializer.serialize(TOPIC, new RecordHeaders(), event);
+        binaryHeaders = new RecordHeaders();
+        binaryBytes = binarySerializer.serialize(TOPIC, binaryHeaders, event);
+
+        System.out.printf("[OrderEventCodec] JSON: %d bytes, Binary: %d bytes%n", jsonBytes.length, binaryBytes.length);
+    }
+
+    @Benchmark
+    public byte[] jsonEncode() {
+        return jsonSerializer.serialize(TOPIC, new RecordHeaders(), event);
+    }
+
+    @Benchmark
+    public byte[] binaryEncode() {
+        return binarySerializer.serialize(TOPIC, new RecordHeaders(), event);
+    }
+
+    @Benchmark
+    public PayRequestEvent jsonDecode() {
+        return jsonDeserializer.deserialize(TOPIC, new RecordHeaders(), jsonBytes);
+    }
+
+    @Benchmark
+    public Object binaryDecode() {
+        return binaryDeserializer.deserialize(TOPIC, binaryHeaders, binaryBytes);
+    }
+}
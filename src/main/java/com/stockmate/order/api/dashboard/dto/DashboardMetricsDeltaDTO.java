@@ -0,0 +1,32 @@
+package com.stockmate.order.api.dashboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 대시보드 지표 증분 (주문 상태 변경 시 전송)
+ * - 모든 수치는 증감값 (클라이언트는 스냅샷에 더해서 반영)
+ * - topParts 는 상위 10개 구성이 바뀐 경우에만 전체 목록으로 포함
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DashboardMetricsDeltaDTO {
+    private String type; // "DASHBOARD_METRICS_DELTA"
+    private LocalDate date;
+    private TodayDashboardResponseDTO.TodaySummary summary; // 요약 증감
+    private List<TodayDashboardResponseDTO.HourlyStats> hourlyStats; // 변경된 시간대 증감
+    private List<CategorySalesResponseDTO.CategorySale> categories; // 카테고리별 수량 증감
+    private List<TopPartsResponseDTO.TopPart> partDeltas; // 부품별 판매 수량 증감
+    private List<TopPartsResponseDTO.TopPart> topParts; // 변경된 상위 10개 (변경 없으면 null)
+
+    public boolean isEmpty() {
+        return hourlyStats.isEmpty() && categories.isEmpty() && partDeltas.isEmpty();
+    }
+}
@@ -0,0 +1,25 @@
+package com.stockmate.order.api.dashboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 대시보드 지표 전체 스냅샷 (SUBSCRIBE_METRICS 구독 직후 1회 전송)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DashboardMetricsSnapshotDTO {
+    private String type; // "DASHBOARD_METRICS_SNAPSHOT"
+    private LocalDate date;
+    private TodayDashboardResponseDTO.TodaySummary summary;
+    private List<TodayDashboardResponseDTO.HourlyStats> hourlyStats; // 0~23시
+    private List<CategorySalesResponseDTO.CategorySale> categories;
+    private List<TopPartsResponseDTO.TopPart> topParts; // 상위 10개
+}
@@ -0,0 +1,553 @@
+package com.stockmate.order.api.dashboard.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stockmate.order.api.dashboard.dto.CategorySalesResponseDTO;
+import com.stockmate.order.api.dashboard.dto.DashboardMetricsDeltaDTO;
+import com.stockmate.order.api.dashboard.dto.DashboardMetricsSnapshotDTO;
+import com.stockmate.order.api.dashboard.dto.HourlyInOutResponseDTO;
+import com.stockmate.order.api.dashboard.dto.TodayDashboardResponseDTO;
+import com.stockmate.order.api.dashboard.dto.TopPartsResponseDTO;
+import com.stockmate.order.api.order.entity.Order;
+import com.stockmate.order.api.order.entity.OrderItem;
+import com.stockmate.order.api.order.entity.OrderStatus;
+import com.stockmate.order.api.order.repository.OrderRepository;
+import com.stockmate.order.api.websocket.bus.WebSocketBroadcast;
+import com.stockmate.order.api.websocket.bus.WebSocketBroadcastBus;
+import com.stockmate.order.common.event.OrderStatusChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 대시보드 실시간 지표
+ * - 금일 지표를 시간대별 LongAdder 카운터로 메모리에 유지 (기동 시 / 자정에 DB 집계로 적재)
+ * - 커밋된 주문 상태 변경마다 증분을 계산하여 반영하고 구독 세션에 전송
+ * - 증분은 버스로 다른 인스턴스에도 전달되어 각 인스턴스의 지표와 구독 세션에 반영
+ * - 주기적으로 DB 집계와 대조하여 누락/중복 반영으로 생긴 오차 보정
+ *   (재적재 중 도착한 증분은 모아 두었다가 새 지표에 다시 반영 후 교체, 교체 후 구독 세션에 스냅샷 전송)
+ * - 집계 기준은 DashboardService 의 조회 쿼리와 동일 (금일 조회는 SQL 없이 이 카운터로 응답)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardMetricsService {
+
+    private static final int TOP_PARTS_LIMIT = 10;
+
+    private final OrderRepository orderRepository;
+    private final WebSocketBroadcastBus broadcastBus;
+    private final ObjectMapper objectMapper;
+
+    private final List<Consumer<DashboardMetricsDeltaDTO>> deltaListeners = new CopyOnWriteArrayList<>();
+    private final List<Consumer<DashboardMetricsSnapshotDTO>> snapshotListeners = new CopyOnWriteArrayList<>();
+
+    // 금일 지표 (재적재 시 통째로 교체)
+    private volatile MetricsState state;
+
+    // 재적재 중 도착한 증분 (재적재 중이 아니면 null) - state 교체와 함께 seedLock 으로 보호
+    private final Object seedLock = new Object();
+    private List<DashboardMetricsDeltaDTO> deltasDuringSeed;
+
+    @PostConstruct
+    void subscribeBroadcastBus() {
+        // 다른 인스턴스에서 계산된 증분 반영
+        broadcastBus.subscribe(broadcast -> {
+            if (!WebSocketBroadcast.CHANNEL_METRICS.equals(broadcast.getChannel())) {
+                return;
+            }
+            try {
+                DashboardMetricsDeltaDTO delta = objectMapper.readValue(broadcast.getPayload(), DashboardMetricsDeltaDTO.class);
+                applyDelta(delta);
+                notifyListeners(delta);
+            } catch (Exception e) {
+                log.warn("[DashboardMetrics] 원격 증분 반영 실패 - Error: {}", e.getMessage());
+            }
+        });
+    }
+
+    // 기동 시 금일 지표 적재 (실패 시 첫 조회에서 다시 적재)
+    @EventListener(ApplicationReadyEvent.class)
+    void seedOnStartup() {
+        try {
+            currentState();
+        } catch (Exception e) {
+            log.warn("[DashboardMetrics] 기동 시 지표 적재 실패 - Error: {}", e.getMessage());
+        }
+    }
+
+    // 증분 수신 등록 (대시보드 WebSocket 핸들러)
+    public void onDelta(Consumer<DashboardMetricsDeltaDTO> listener) {
+        deltaListeners.add(listener);
+    }
+
+    // 재적재(보정 / 자정 전환) 후 전체 스냅샷 수신 등록 (대시보드 WebSocket 핸들러)
+    public void onSnapshot(Consumer<DashboardMetricsSnapshotDTO> listener) {
+        snapshotListeners.add(listener);
+    }
+
+    // 금일 전체 스냅샷
+    public DashboardMetricsSnapshotDTO snapshot() {
+        return snapshotOf(currentState());
+    }
+
+    private DashboardMetricsSnapshotDTO snapshotOf(MetricsState current) {
+        TodayDashboardResponseDTO today = current.toDashboard();
+
+        return DashboardMetricsSnapshotDTO.builder()
+                .type("DASHBOARD_METRICS_SNAPSHOT")
+                .date(current.date)
+                .summary(today.getSummary())
+                .hourlyStats(today.getHourlyStats())
+                .categories(current.toCategorySales())
+                .topParts(toTopParts(current.topParts))
+                .build();
+    }
+
+    // 금일 대시보드 (요약 + 시간대별)
+    public TodayDashboardResponseDTO todayDashboard() {
+        return currentState().toDashboard();
+    }
+
+    // 금일 시간대별 입출고 추이
+    public HourlyInOutResponseDTO todayInboundOutbound() {
+        MetricsState current = currentState();
+        List<HourlyInOutResponseDTO.HourStat> hours = new ArrayList<>();
+        for (int hour = 0; hour < 24; hour++) {
+            hours.add(HourlyInOutResponseDTO.HourStat.builder()
+                    .hour(hour)
+                    .inboundOrders(current.orderCount[hour].sum())
+                    .outboundShipped(current.shippingProcessed[hour].sum())
+                    .build());
+        }
+        return HourlyInOutResponseDTO.builder()
+                .hours(hours)
+                .build();
+    }
+
+    // 금일 카테고리별 판매량
+    public CategorySalesResponseDTO todayCategorySales() {
+        return CategorySalesResponseDTO.builder()
+                .categories(currentState().toCategorySales())
+                .build();
+    }
+
+    // 금일 TOP 판매 부품
+    public TopPartsResponseDTO todayTopParts() {
+        return TopPartsResponseDTO.builder()
+                .parts(toTopParts(currentState().topParts))
+                .build();
+    }
+
+    /**
+     * DB 집계로 재적재 후 교체 (스케줄러 - 자정 / 주기 보정)
+     * - 기존 카운터와의 차이는 오차로 기록
+     * - 교체 후 구독 세션에 새 스냅샷 전송 (클라이언트가 누적한 증분도 함께 보정)
+     */
+    public void reconcile() {
+        LocalDate today = LocalDate.now();
+        MetricsState previous = state;
+        MetricsState reloaded = reload(today);
+
+        notifySnapshotListeners(snapshotOf(reloaded));
+
+        if (previous == null || !previous.date.equals(today)) {
+            return;
+        }
+        long orderDrift = sum(reloaded.orderCount) - sum(previous.orderCount);
+        long revenueDrift = sum(reloaded.revenue) - sum(previous.revenue);
+        if (orderDrift != 0 || revenueDrift != 0) {
+            log.warn("[DashboardMetrics] 지표 오차 보정 - 날짜: {}, 주문 수 오차: {}, 매출 오차: {}", today, orderDrift, revenueDrift);
+        }
+    }
+
+    /**
+     * DB 집계로 새 지표를 만들어 교체
+     * - 집계 쿼리 동안 도착한 증분은 기존 지표에 반영하면서 따로 모아 두고, 교체 직전에 새 지표에도 반영
+     *   (집계 시점 이후 커밋된 변경이 교체로 사라지지 않도록, 집계에 이미 포함된 변경의 중복은 다음 보정에서 정리)
+     * - 동시에 두 번 재적재하지 않도록 this 로 직렬화
+     */
+    private synchronized MetricsState reload(LocalDate date) {
+        synchronized (seedLock) {
+            deltasDuringSeed = new ArrayList<>();
+        }
+
+        MetricsState reloaded;
+        try {
+            reloaded = seed(date);
+        } catch (RuntimeException e) {
+            synchronized (seedLock) {
+                deltasDuringSeed = null;
+            }
+            throw e;
+        }
+
+        synchronized (seedLock) {
+            List<DashboardMetricsDeltaDTO> buffered = deltasDuringSeed;
+            deltasDuringSeed = null;
+            for (DashboardMetricsDeltaDTO delta : buffered) {
+                applyDelta(reloaded, delta);
+            }
+            if (!buffered.isEmpty()) {
+                log.info("[DashboardMetrics] 재적재 중 도착한 증분 반영 - 날짜: {}, 증분 수: {}", date, buffered.size());
+            }
+            state = reloaded;
+        }
+        return reloaded;
+    }
+
+    /**
+     * 커밋된 주문 상태 변경을 지표 증분으로 변환하여 반영 후 전송
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleOrderStatusChange(OrderStatusChangedEvent event) {
+        try {
+            DashboardMetricsDeltaDTO delta = computeDelta(event);
+            if (delta.isEmpty()) {
+                return;
+            }
+
+            List<TopPartsResponseDTO.TopPart> changedTopParts = applyDelta(delta);
+            DashboardMetricsDeltaDTO published = DashboardMetricsDeltaDTO.builder()
+                    .type(delta.getType())
+                    .date(delta.getDate())
+                    .summary(delta.getSummary())
+                    .hourlyStats(delta.getHourlyStats())
+                    .categories(delta.getCategories())
+                    .partDeltas(delta.getPartDeltas())
+                    .topParts(changedTopParts)
+                    .build();
+
+            notifyListeners(published);
+            broadcastBus.publish(WebSocketBroadcast.metrics(objectMapper.writeValueAsString(published)));
+        } catch (Exception e) {
+            log.error("[DashboardMetrics] 지표 증분 처리 실패 - Order ID: {}, Error: {}",
+                    event.order().getOrderId(), e.getMessage(), e);
+        }
+    }
+
+    // 상태 전이 전/후의 집계 포함 여부 차이로 증분 계산
+    private DashboardMetricsDeltaDTO computeDelta(OrderStatusChangedEvent event) {
+        Order order = event.order();
+        OrderStatus previous = event.previousStatus();
+        OrderStatus current = event.status();
+        LocalDate today = LocalDate.now();
+
+        long[][] hourly = new long[24][4]; // [hour][주문 수, 배송 처리, 배송 중, 매출]
+        Map<String, Long> categoryDeltas = new LinkedHashMap<>();
+        Map<PartKey, Long> partDeltas = new LinkedHashMap<>();
+
+        LocalDateTime createdAt = order.getCreatedAt();
+        if (createdAt != null && createdAt.toLocalDate().equals(today)) {
+            int hour = createdAt.getHour();
+            hourly[hour][0] += indicator(isCounted(current)) - indicator(isCounted(previous));
+            hourly[hour][2] += indicator(current == OrderStatus.SHIPPING) - indicator(previous == OrderStatus.SHIPPING);
+            hourly[hour][3] += (indicator(isRevenue(current)) - indicator(isRevenue(previous))) * (long) order.getTotalPrice();
+
+            int salesSign = indicator(current == OrderStatus.PAY_COMPLETED) - indicator(previous == OrderStatus.PAY_COMPLETED);
+            if (salesSign != 0) {
+                for (OrderItem item : loadItems(order)) {
+                    long amount = (long) salesSign * item.getAmount();
+                    categoryDeltas.merge(item.getCategoryName(), amount, Long::sum);
+                    partDeltas.merge(new PartKey(item.getName(), item.getCategoryName()), amount, Long::sum);
+                }
+            }
+        }
+
+        // 배송 처리 수는 수정 시각 기준
+        LocalDateTime previousUpdatedAt = event.previousUpdatedAt();
+        if (previous == OrderStatus.SHIPPING && previousUpdatedAt != null && previousUpdatedAt.toLocalDate().equals(today)) {
+            hourly[previousUpdatedAt.getHour()][1] -= 1;
+        }
+        LocalDateTime updatedAt = event.updatedAt();
+        if (current == OrderStatus.SHIPPING && updatedAt != null && updatedAt.toLocalDate().equals(today)) {
+            hourly[updatedAt.getHour()][1] += 1;
+        }
+
+        List<TodayDashboardResponseDTO.HourlyStats> hourlyStats = new ArrayList<>();
+        long[] totals = new long[4];
+        for (int hour = 0; hour < 24; hour++) {
+            long[] values = hourly[hour];
+            if (values[0] == 0 && values[1] == 0 && values[2] == 0 && values[3] == 0) {
+                continue;
+            }
+            for (int i = 0; i < 4; i++) {
+                totals[i] += values[i];
+            }
+            hourlyStats.add(TodayDashboardResponseDTO.HourlyStats.builder()
+                    .hour(hour)
+                    .orderCount(values[0])
+                    .shippingProcessedCount(values[1])
+                    .shippingInProgressCount(values[2])
+                    .revenue(values[3])
+                    .build());
+        }
+
+        return DashboardMetricsDeltaDTO.builder()
+                .type("DASHBOARD_METRICS_DELTA")
+                .date(today)
+                .summary(TodayDashboardResponseDTO.TodaySummary.builder()
+                        .totalOrders(totals[0])
+                        .shippingProcessed(totals[1])
+                        .shippingInProgress(totals[2])
+                        .totalRevenue(totals[3])
+                        .build())
+                .hourlyStats(hourlyStats)
+                .categories(categoryDeltas.entrySet().stream()
+                        .filter(entry -> entry.getValue() != 0)
+                        .map(entry -> CategorySalesResponseDTO.CategorySale.builder()
+                                .categoryName(entry.getKey())
+                                .totalQuantity(entry.getValue())
+                                .build())
+                        .collect(Collectors.toList()))
+                .partDeltas(partDeltas.entrySet().stream()
+                        .filter(entry -> entry.getValue() != 0)
+                        .map(entry -> TopPartsResponseDTO.TopPart.builder()
+                                .name(entry.getKey().name())
+                                .categoryName(entry.getKey().categoryName())
+                                .salesCount(entry.getValue())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    /**
+     * 증분 반영 - 상위 10개 부품 구성이 바뀌면 새 목록 반환 (그 외 null)
+     * - 재적재 중이면 새 지표에도 반영되도록 함께 모아 둠
+     */
+    private List<TopPartsResponseDTO.TopPart> applyDelta(DashboardMetricsDeltaDTO delta) {
+        MetricsState current;
+        synchronized (seedLock) {
+            current = state;
+            if (deltasDuringSeed != null) {
+                deltasDuringSeed.add(delta);
+            }
+        }
+        return applyDelta(current, delta);
+    }
+
+    /**
+     * 지정 지표에 증분 반영
+     * - 시간대별 / 카테고리별 / 부품별 카운터는 잠금 없이 누적, 상위 10개 재계산만 직렬화
+     * - 아직 적재되지 않았거나 날짜가 다른 경우 무시 (다음 적재 시 DB 집계에 포함됨)
+     */
+    private List<TopPartsResponseDTO.TopPart> applyDelta(MetricsState current, DashboardMetricsDeltaDTO delta) {
+        if (current == null || !current.date.equals(delta.getDate())) {
+            return null;
+        }
+
+        for (TodayDashboardResponseDTO.HourlyStats stats : delta.getHourlyStats()) {
+            int hour = stats.getHour();
+            current.orderCount[hour].add(stats.getOrderCount());
+            current.shippingProcessed[hour].add(stats.getShippingProcessedCount());
+            current.shippingInProgress[hour].add(stats.getShippingInProgressCount());
+            current.revenue[hour].add(stats.getRevenue());
+        }
+        for (CategorySalesResponseDTO.CategorySale category : delta.getCategories()) {
+            current.categoryQuantity.computeIfAbsent(category.getCategoryName(), key -> new LongAdder())
+                    .add(category.getTotalQuantity());
+        }
+        if (delta.getPartDeltas().isEmpty()) {
+            return null;
+        }
+        for (TopPartsResponseDTO.TopPart part : delta.getPartDeltas()) {
+            current.partSales.computeIfAbsent(new PartKey(part.getName(), part.getCategoryName()), key -> new LongAdder())
+                    .add(part.getSalesCount());
+        }
+
+        synchronized (current) {
+            List<Map.Entry<PartKey, Long>> topParts = rankTopParts(current.partSales);
+            if (topParts.equals(current.topParts)) {
+                return null;
+            }
+            current.topParts = topParts;
+            return toTopParts(topParts);
+        }
+    }
+
+    private void notifySnapshotListeners(DashboardMetricsSnapshotDTO snapshot) {
+        for (Consumer<DashboardMetricsSnapshotDTO> listener : snapshotListeners) {
+            try {
+                listener.accept(snapshot);
+            } catch (Exception e) {
+                log.error("[DashboardMetrics] 스냅샷 전송 실패 - Error: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void notifyListeners(DashboardMetricsDeltaDTO delta) {
+        for (Consumer<DashboardMetricsDeltaDTO> listener : deltaListeners) {
+            try {
+                listener.accept(delta);
+            } catch (Exception e) {
+                log.error("[DashboardMetrics] 증분 전송 실패 - Error: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    // 금일 지표 반환 (미적재 또는 날짜 변경 시 DB 집계로 적재)
+    private MetricsState currentState() {
+        LocalDate today = LocalDate.now();
+        MetricsState current = state;
+        if (current != null && current.date.equals(today)) {
+            return current;
+        }
+        synchronized (this) {
+            if (state == null || !state.date.equals(today)) {
+                return reload(today);
+            }
+            return state;
+        }
+    }
+
+    private MetricsState seed(LocalDate date) {
+        LocalDateTime startOfDay = date.atStartOfDay();
+        LocalDateTime endOfDay = date.atTime(23, 59, 59);
+
+        MetricsState seeded = new MetricsState(date);
+        fillHourly(seeded.orderCount, orderRepository.countOrdersByHour(startOfDay, endOfDay));
+        fillHourly(seeded.shippingProcessed, orderRepository.countShippingProcessedByHour(startOfDay, endOfDay));
+        fillHourly(seeded.shippingInProgress, orderRepository.countShippingInProgressByHour(startOfDay, endOfDay));
+        fillHourly(seeded.revenue, orderRepository.calculateRevenueByHour(startOfDay, endOfDay));
+
+        for (Object[] row : orderRepository.getCategorySalesByDate(startOfDay, endOfDay)) {
+            seeded.categoryQuantity.computeIfAbsent((String) row[0], key -> new LongAdder()).add(((Number) row[1]).longValue());
+        }
+        for (Object[] row : orderRepository.getTopPartsByDate(startOfDay, endOfDay)) {
+            seeded.partSales.computeIfAbsent(new PartKey((String) row[0], (String) row[1]), key -> new LongAdder())
+                    .add(((Number) row[2]).longValue());
+        }
+        seeded.topParts = rankTopParts(seeded.partSales);
+
+        log.info("[DashboardMetrics] 금일 지표 적재 완료 - 날짜: {}, 주문 수: {}, 부품 수: {}",
+                date, sum(seeded.orderCount), seeded.partSales.size());
+        return seeded;
+    }
+
+    private List<OrderItem> loadItems(Order order) {
+        return orderRepository.findByIdWithItems(order.getOrderId())
+                .map(Order::getOrderItems)
+                .orElse(List.of());
+    }
+
+    private static List<Map.Entry<PartKey, Long>> rankTopParts(Map<PartKey, LongAdder> partSales) {
+        return partSales.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue().sum()))
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<PartKey, Long>comparingByValue().reversed())
+                .limit(TOP_PARTS_LIMIT)
+                .collect(Collectors.toList());
+    }
+
+    private static List<TopPartsResponseDTO.TopPart> toTopParts(List<Map.Entry<PartKey, Long>> topParts) {
+        return topParts.stream()
+                .map(entry -> TopPartsResponseDTO.TopPart.builder()
+                        .name(entry.getKey().name())
+                        .categoryName(entry.getKey().categoryName())
+                        .salesCount(entry.getValue())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private static void fillHourly(LongAdder[] target, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            target[(Integer) row[0]].add(((Number) row[1]).longValue());
+        }
+    }
+
+    private static long sum(LongAdder[] counters) {
+        long total = 0;
+        for (LongAdder counter : counters) {
+            total += counter.sum();
+        }
+        return total;
+    }
+
+    // 주문 수 집계 대상 (취소 제외)
+    private static boolean isCounted(OrderStatus status) {
+        return status != null && status != OrderStatus.CANCELLED;
+    }
+
+    // 매출 집계 대상 (취소, 반려 제외)
+    private static boolean isRevenue(OrderStatus status) {
+        return status != null && status != OrderStatus.CANCELLED && status != OrderStatus.REJECTED;
+    }
+
+    private static int indicator(boolean value) {
+        return value ? 1 : 0;
+    }
+
+    private record PartKey(String name, String categoryName) {
+    }
+
+    private static final class MetricsState {
+        private final LocalDate date;
+        private final LongAdder[] orderCount = hourlyCounters();
+        private final LongAdder[] shippingProcessed = hourlyCounters();
+        private final LongAdder[] shippingInProgress = hourlyCounters();
+        private final LongAdder[] revenue = hourlyCounters();
+        private final Map<String, LongAdder> categoryQuantity = new ConcurrentHashMap<>();
+        private final Map<PartKey, LongAdder> partSales = new ConcurrentHashMap<>();
+        private volatile List<Map.Entry<PartKey, Long>> topParts = List.of();
+
+        private MetricsState(LocalDate date) {
+            this.date = date;
+        }
+
+        private TodayDashboardResponseDTO toDashboard() {
+            List<TodayDashboardResponseDTO.HourlyStats> hourlyStats = new ArrayList<>();
+            for (int hour = 0; hour < 24; hour++) {
+                hourlyStats.add(TodayDashboardResponseDTO.HourlyStats.builder()
+                        .hour(hour)
+                        .orderCount(orderCount[hour].sum())
+                        .shippingProcessedCount(shippingProcessed[hour].sum())
+                        .shippingInProgressCount(shippingInProgress[hour].sum())
+                        .revenue(revenue[hour].sum())
+                        .build());
+            }
+
+            return TodayDashboardResponseDTO.builder()
+                    .summary(TodayDashboardResponseDTO.TodaySummary.builder()
+                            .totalOrders(sum(orderCount))
+                            .shippingProcessed(sum(shippingProcessed))
+                            .shippingInProgress(sum(shippingInProgress))
+                            .totalRevenue(sum(revenue))
+                            .build())
+                    .hourlyStats(hourlyStats)
+                    .build();
+        }
+
+        private List<CategorySalesResponseDTO.CategorySale> toCategorySales() {
+            return categoryQuantity.entrySet().stream()
+                    .map(entry -> Map.entry(entry.getKey(), entry.getValue().sum()))
+                    .filter(entry -> entry.getValue() > 0)
+                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                    .map(entry -> CategorySalesResponseDTO.CategorySale.builder()
+                            .categoryName(entry.getKey())
+                            .totalQuantity(entry.getValue())
+                            .build())
+                    .collect(Collectors.toList());
+        }
+
+        private static LongAdder[] hourlyCounters() {
+            LongAdder[] counters = new LongAdder[24];
+            for (int hour = 0; hour < 24; hour++) {
+                counters[hour] = new LongAdder();
+            }
+            return counters;
+        }
+    }
+}
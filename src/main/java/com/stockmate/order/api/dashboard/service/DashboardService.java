@@ -5,8 +5,10 @@ import com.stockmate.order.api.dashboard.dto.TodayDashboardResponseDTO;
 import com.stockmate.order.api.order.dto.UserBatchResponseDTO;
 import com.stockmate.order.api.order.repository.OrderRepository;
 import com.stockmate.order.api.order.service.UserService;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,6 +27,22 @@ public class DashboardService {
 
     private final OrderRepository orderRepository;
     private final UserService userService;
+    // 금일 조회는 메모리 카운터로 응답 (SQL 미사용)
+    private final DashboardMetricsService dashboardMetricsService;
+
+    // 명시하지 않으면 Kafka 버스일 때만 사용 (로컬 버스는 인스턴스마다 자기 인스턴스의 주문만 카운터에 반영)
+    @Value("${dashboard.live.enabled:#{'${websocket.bus.type:local}' == 'kafka'}}")
+    private boolean liveEnabled;
+
+    @Value("${websocket.bus.type:local}")
+    private String busType;
+
+    @PostConstruct
+    void warnLocalLiveMode() {
+        if (liveEnabled && !"kafka".equals(busType)) {
+            log.warn("대시보드 실시간 카운터가 로컬 버스로 활성화됨 - 다중 인스턴스 환경에서는 인스턴스별 주문만 집계됩니다.");
+        }
+    }
 
     @Transactional(readOnly = true)
     public TodayDashboardResponseDTO getDashboard(String date) {
@@ -43,6 +61,11 @@ public class DashboardService {
             }
         }
 
+        if (isLiveDate(targetDate)) {
+            log.info("대시보드 조회 - 실시간 카운터 사용: {}", targetDate);
+            return dashboardMetricsService.todayDashboard();
+        }
+
         // 해당 날짜의 시작/종료 시간 계산
         LocalDateTime startOfDay = targetDate.atStartOfDay();
         LocalDateTime endOfDay = targetDate.atTime(23, 59, 59);
@@ -115,6 +138,11 @@ public class DashboardService {
             }
         }
 
+        if (isLiveDate(targetDate)) {
+            log.info("입출고 추이 조회 - 실시간 카운터 사용: {}", targetDate);
+            return dashboardMetricsService.todayInboundOutbound();
+        }
+
         // 해당 날짜의 시작/종료 시간 계산
         LocalDateTime startOfDay = targetDate.atStartOfDay();
         LocalDateTime endOfDay = targetDate.atTime(23, 59, 59);
@@ -159,6 +187,11 @@ public class DashboardService {
             }
         }
 
+        if (isLiveDate(targetDate)) {
+            log.info("카테고리별 판매량 조회 - 실시간 카운터 사용: {}", targetDate);
+            return dashboardMetricsService.todayCategorySales();
+        }
+
         // 해당 날짜의 시작/종료 시간 계산
         LocalDateTime startOfDay = targetDate.atStartOfDay();
         LocalDateTime endOfDay = targetDate.atTime(23, 59, 59);
@@ -205,6 +238,11 @@ public class DashboardService {
             }
         }
 
+        if (isLiveDate(targetDate)) {
+            log.info("TOP 판매 부품 조회 - 실시간 카운터 사용: {}", targetDate);
+            return dashboardMetricsService.todayTopParts();
+        }
+
         // 해당 날짜의 시작/종료 시간 계산
         LocalDateTime startOfDay = targetDate.atStartOfDay();
         LocalDateTime endOfDay = targetDate.atTime(23, 59, 59);
@@ -318,6 +356,11 @@ public class DashboardService {
                 .build();
     }
 
+    // 금일 여부 (실시간 카운터 사용 대상)
+    private boolean isLiveDate(LocalDate targetDate) {
+        return liveEnabled && targetDate.equals(LocalDate.now());
+    }
+
     /**
      * Object[] 배열을 Map으로 변환
      * Object[0]: hour (Integer)
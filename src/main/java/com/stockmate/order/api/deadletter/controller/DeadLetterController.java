@@ -0,0 +1,36 @@
+package com.stockmate.order.api.deadletter.controller;
+
+import com.stockmate.order.api.deadletter.dto.DeadLetterReplayResponseDTO;
+import com.stockmate.order.api.deadletter.service.DeadLetterReplayService;
+import com.stockmate.order.common.response.ApiResponse;
+import com.stockmate.order.common.response.SuccessStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/order/dead-letter")
+@RequiredArgsConstructor
+@Tag(name = "DeadLetter", description = "Kafka DLT 관리 API 입니다.")
+public class DeadLetterController {
+
+    private final DeadLetterReplayService deadLetterReplayService;
+
+    @Operation(summary = "DLT 재전송 API", description = "DLT에 쌓인 주문 이벤트를 원본 토픽으로 묶음 단위 재전송합니다. (ADMIN/SUPER_ADMIN만 가능)")
+    @PostMapping("/replay")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SUPER_ADMIN')")
+    public ResponseEntity<ApiResponse<DeadLetterReplayResponseDTO>> replay(@RequestParam String topic,
+                                                                          @RequestParam(defaultValue = "500") int maxRecords) {
+        log.info("DLT 재전송 요청 - DLT: {}, 최대 건수: {}", topic, maxRecords);
+        DeadLetterReplayResponseDTO response = deadLetterReplayService.replay(topic, maxRecords);
+        return ApiResponse.success(SuccessStatus.REPLAY_DEAD_LETTER_SUCCESS, response);
+    }
+}
@@ -0,0 +1,15 @@
+package com.stockmate.order.api.deadletter.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DeadLetterReplayResponseDTO {
+    private String deadLetterTopic; // 재전송한 DLT
+    private int replayedCount; // 원본 토픽으로 재전송한 레코드 수
+}
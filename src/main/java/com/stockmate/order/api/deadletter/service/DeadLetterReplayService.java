@@ -0,0 +1,138 @@
+package com.stockmate.order.api.deadletter.service;
+
+import com.stockmate.order.api.deadletter.dto.DeadLetterReplayResponseDTO;
+import com.stockmate.order.common.exception.BadRequestException;
+import com.stockmate.order.common.exception.InternalServerException;
+import com.stockmate.order.common.response.ErrorStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * DLT 재전송
+ * - 전용 Consumer 그룹으로 DLT 를 읽어 원본 토픽으로 묶음 단위 재발행
+ * - 묶음 발행이 모두 성공한 뒤에만 오프셋 커밋 (중간 실패 시 다음 재전송에서 이어서 처리)
+ */
+@Slf4j
+@Service
+public class DeadLetterReplayService {
+
+    private static final int MAX_EMPTY_POLLS = 3;
+
+    private final KafkaTemplate<String, Object> deadLetterKafkaTemplate;
+
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String bootstrapServers;
+
+    @Value("${kafka.dlt.suffix:-dlt}")
+    private String dltSuffix;
+
+    @Value("${kafka.dlt.replay.group-id:order-service-dlt-replay}")
+    private String replayGroupId;
+
+    @Value("${kafka.dlt.replay.batch-size:100}")
+    private int replayBatchSize;
+
+    public DeadLetterReplayService(@Qualifier("deadLetterKafkaTemplate") KafkaTemplate<String, Object> deadLetterKafkaTemplate) {
+        this.deadLetterKafkaTemplate = deadLetterKafkaTemplate;
+    }
+
+    public DeadLetterReplayResponseDTO replay(String deadLetterTopic, int maxRecords) {
+        if (deadLetterTopic == null || !deadLetterTopic.endsWith(dltSuffix)) {
+            throw new BadRequestException(ErrorStatus.INVALID_DEAD_LETTER_TOPIC_EXCEPTION.getMessage());
+        }
+
+        log.info("[DLT Replay] 재전송 시작 - DLT: {}, 최대 건수: {}", deadLetterTopic, maxRecords);
+
+        int replayed = 0;
+        try (KafkaConsumer<byte[], byte[]> consumer = new KafkaConsumer<>(consumerProperties())) {
+            consumer.subscribe(List.of(deadLetterTopic));
+
+            int emptyPolls = 0;
+            while (replayed < maxRecords && emptyPolls < MAX_EMPTY_POLLS) {
+                ConsumerRecords<byte[], byte[]> records = consumer.poll(Duration.ofSeconds(1));
+                if (records.isEmpty()) {
+                    emptyPolls++;
+                    continue;
+                }
+                emptyPolls = 0;
+
+                Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+                List<CompletableFuture<?>> sends = new ArrayList<>();
+                for (ConsumerRecord<byte[], byte[]> record : records) {
+                    if (replayed >= maxRecords) {
+                        break;
+                    }
+                    sends.add(deadLetterKafkaTemplate.send(toOriginalRecord(deadLetterTopic, record)));
+                    offsets.put(new TopicPartition(record.topic(), record.partition()), new OffsetAndMetadata(record.offset() + 1));
+                    replayed++;
+                }
+
+                CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).join();
+                consumer.commitSync(offsets);
+                log.info("[DLT Replay] 묶음 재전송 완료 - DLT: {}, 묶음: {}건, 누적: {}건", deadLetterTopic, sends.size(), replayed);
+            }
+        } catch (Exception e) {
+            log.error("[DLT Replay] 재전송 실패 - DLT: {}, 재전송 완료: {}건, 에러: {}", deadLetterTopic, replayed, e.getMessage(), e);
+            throw new InternalServerException(ErrorStatus.DEAD_LETTER_REPLAY_EXCEPTION.getMessage());
+        }
+
+        log.info("[DLT Replay] 재전송 종료 - DLT: {}, 재전송: {}건", deadLetterTopic, replayed);
+        return DeadLetterReplayResponseDTO.builder()
+                .deadLetterTopic(deadLetterTopic)
+                .replayedCount(replayed)
+                .build();
+    }
+
+    private Properties consumerProperties() {
+        Properties props = new Properties();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, replayGroupId);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, replayBatchSize);
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        return props;
+    }
+
+    // DLT 레코드를 원본 토픽 레코드로 변환 (DLT/역직렬화 예외 헤더 제거)
+    private ProducerRecord<String, Object> toOriginalRecord(String deadLetterTopic, ConsumerRecord<byte[], byte[]> record) {
+        Header originalTopicHeader = record.headers().lastHeader(KafkaHeaders.DLT_ORIGINAL_TOPIC);
+        String originalTopic = originalTopicHeader != null
+                ? new String(originalTopicHeader.value(), StandardCharsets.UTF_8)
+                : deadLetterTopic.substring(0, deadLetterTopic.length() - dltSuffix.length());
+
+        RecordHeaders headers = new RecordHeaders();
+        for (Header header : record.headers()) {
+            if (header.key().startsWith(KafkaHeaders.PREFIX + "dlt-")
+                    || header.key().equals(SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER)
+                    || header.key().equals(SerializationUtils.KEY_DESERIALIZER_EXCEPTION_HEADER)) {
+                continue;
+            }
+            headers.add(header);
+        }
+
+        String key = record.key() != null ? new String(record.key(), StandardCharsets.UTF_8) : null;
+        return new ProducerRecord<>(originalTopic, null, key, record.value(), headers);
+    }
+}
@@ -0,0 +1,61 @@
+package com.stockmate.order.api.idempotency.entity;
+
+import com.stockmate.order.common.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+        name = "idempotency_record",
+        indexes = @Index(name = "idx_idempotency_expires_at", columnList = "expires_at")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class IdempotencyRecord extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "idempotency_key", nullable = false, unique = true, length = 200)
+    private String idempotencyKey; // 회원 ID + 작업 + 클라이언트 키
+
+    @Column(nullable = false, length = 64)
+    private String fingerprint; // 요청 본문 SHA-256
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private IdempotencyStatus status;
+
+    @Column(name = "response_body", columnDefinition = "TEXT")
+    private String responseBody; // 직렬화된 응답 데이터
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    /**
+     * 처리 완료 - 응답 저장 및 만료 시간 갱신
+     */
+    public void complete(String responseBody, LocalDateTime expiresAt) {
+        this.status = IdempotencyStatus.COMPLETED;
+        this.responseBody = responseBody;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * 응답 저장 실패 - 같은 키의 재요청이 작업을 다시 실행하지 않도록 표시
+     */
+    public void fail(LocalDateTime expiresAt) {
+        this.status = IdempotencyStatus.FAILED;
+        this.responseBody = null;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt.isBefore(now);
+    }
+}
@@ -0,0 +1,7 @@
+package com.stockmate.order.api.idempotency.entity;
+
+public enum IdempotencyStatus {
+    IN_PROGRESS, // 최초 요청 처리 중
+    COMPLETED,   // 처리 완료 (응답 저장됨)
+    FAILED       // 처리는 끝났으나 응답 저장 실패 (재실행 금지)
+}
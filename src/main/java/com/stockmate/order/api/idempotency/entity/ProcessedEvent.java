@@ -0,0 +1,56 @@
+package com.stockmate.order.api.idempotency.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 처리 완료된 Kafka 이벤트 (Consumer 중복 처리 방지)
+ * - 키는 "토픽-파티션@오프셋", 조회 없이 바로 INSERT 하도록 Persistable 구현
+ */
+@Entity
+@Table(
+        name = "processed_event",
+        indexes = @Index(name = "idx_processed_event_processed_at", columnList = "processed_at")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProcessedEvent implements Persistable<String> {
+
+    @Id
+    @Column(name = "event_key", length = 200)
+    private String eventKey;
+
+    @Column(name = "processed_at", nullable = false)
+    private LocalDateTime processedAt;
+
+    @Transient
+    private boolean newEntity = true;
+
+    public static ProcessedEvent of(String eventKey, LocalDateTime processedAt) {
+        ProcessedEvent event = new ProcessedEvent();
+        event.eventKey = eventKey;
+        event.processedAt = processedAt;
+        return event;
+    }
+
+    @Override
+    public String getId() {
+        return eventKey;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
@@ -0,0 +1,17 @@
+package com.stockmate.order.api.idempotency.repository;
+
+import com.stockmate.order.api.idempotency.entity.ProcessedEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface ProcessedEventRepository extends JpaRepository<ProcessedEvent, String> {
+
+    // 보관 기간이 지난 레코드 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM ProcessedEvent e WHERE e.processedAt < :before")
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,225 @@
+package com.stockmate.order.api.idempotency.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stockmate.order.api.idempotency.entity.IdempotencyRecord;
+import com.stockmate.order.api.idempotency.entity.IdempotencyStatus;
+import com.stockmate.order.api.idempotency.repository.IdempotencyRecordRepository;
+import com.stockmate.order.common.exception.BadRequestException;
+import com.stockmate.order.common.exception.ConflictException;
+import com.stockmate.order.common.exception.InternalServerException;
+import com.stockmate.order.common.response.ErrorStatus;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 기반 중복 요청 처리
+ * - 최초 요청: IN_PROGRESS 레코드 선점 → 처리 → 응답 저장 (COMPLETED)
+ * - 재요청: 저장된 응답을 그대로 반환 (부품/결제 서버 호출 없음)
+ * - 메모리 LRU 캐시를 앞단에 두어 재요청은 대부분 조회 1회로 끝남
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${order.idempotency.ttl-hours:24}")
+    private long ttlHours;
+
+    @Value("${order.idempotency.in-progress-timeout-minutes:10}")
+    private long inProgressTimeoutMinutes;
+
+    @Value("${order.idempotency.cache-size:10000}")
+    private int cacheSize;
+
+    // 완료된 응답만 보관하는 LRU 캐시
+    private Map<String, CachedResponse> cache;
+
+    @PostConstruct
+    void initCache() {
+        cache = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    /**
+     * 멱등 실행
+     * @param idempotencyKey 클라이언트가 보낸 Idempotency-Key (없으면 그대로 실행)
+     * @param memberId 요청자 ID (키 범위)
+     * @param operation 작업 식별자 (예: "POST /api/v1/order")
+     * @param request 요청 본문 (지문 계산용)
+     * @param responseType 응답 타입 (저장된 응답 역직렬화용)
+     * @param action 실제 처리 로직
+     */
+    public <T> T execute(String idempotencyKey, Long memberId, String operation, Object request,
+                         Class<T> responseType, Supplier<T> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new BadRequestException(ErrorStatus.IDEMPOTENCY_KEY_TOO_LONG_EXCEPTION.getMessage());
+        }
+
+        String scopedKey = memberId + ":" + operation + ":" + idempotencyKey;
+        String fingerprint = fingerprint(request);
+        LocalDateTime now = LocalDateTime.now();
+
+        // 1. 메모리 캐시 조회
+        CachedResponse cached = cache.get(scopedKey);
+        if (cached != null && !cached.isExpired(now)) {
+            return replay(scopedKey, cached.fingerprint(), cached.responseBody(), fingerprint, responseType);
+        }
+
+        // 2. DB 조회
+        Optional<IdempotencyRecord> existing = idempotencyRecordRepository.findByIdempotencyKey(scopedKey);
+        if (existing.isPresent()) {
+            IdempotencyRecord record = existing.get();
+            if (!record.isExpired(now)) {
+                return handleExisting(scopedKey, record, fingerprint, responseType);
+            }
+            // 만료된 레코드는 삭제 후 새로 처리
+            idempotencyRecordRepository.delete(record);
+        }
+
+        // 3. IN_PROGRESS 레코드 선점 (다른 인스턴스와의 동시 요청은 unique 제약으로 차단)
+        IdempotencyRecord reserved;
+        try {
+            reserved = idempotencyRecordRepository.saveAndFlush(IdempotencyRecord.builder()
+                    .idempotencyKey(scopedKey)
+                    .fingerprint(fingerprint)
+                    .status(IdempotencyStatus.IN_PROGRESS)
+                    .expiresAt(now.plusMinutes(inProgressTimeoutMinutes))
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            IdempotencyRecord record = idempotencyRecordRepository.findByIdempotencyKey(scopedKey)
+                    .orElseThrow(() -> new ConflictException(ErrorStatus.IDEMPOTENCY_REQUEST_IN_PROGRESS_EXCEPTION.getMessage()));
+            return handleExisting(scopedKey, record, fingerprint, responseType);
+        }
+
+        // 4. 실제 처리 - 실패 시 선점 해제 (재시도 가능하도록)
+        T response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            idempotencyRecordRepository.delete(reserved);
+            throw e;
+        }
+
+        // 5. 응답 저장 - 실패해도 작업은 끝났으므로 응답은 그대로 반환하고 레코드만 FAILED 로 표시
+        LocalDateTime expiresAt = LocalDateTime.now().plusHours(ttlHours);
+        try {
+            String responseBody = serialize(response);
+            reserved.complete(responseBody, expiresAt);
+            idempotencyRecordRepository.save(reserved);
+            cache.put(scopedKey, new CachedResponse(fingerprint, responseBody, expiresAt));
+            log.info("[Idempotency] 응답 저장 완료 - Key: {}", scopedKey);
+        } catch (RuntimeException e) {
+            log.error("[Idempotency] 응답 저장 실패 - Key: {}, Error: {}", scopedKey, e.getMessage(), e);
+            markFailed(scopedKey, reserved, expiresAt);
+        }
+        return response;
+    }
+
+    // 재요청 시 작업이 다시 실행되지 않도록 FAILED 로 표시 (IN_PROGRESS 만료 후 재실행 방지)
+    private void markFailed(String scopedKey, IdempotencyRecord reserved, LocalDateTime expiresAt) {
+        try {
+            reserved.fail(expiresAt);
+            idempotencyRecordRepository.save(reserved);
+        } catch (RuntimeException e) {
+            log.error("[Idempotency] FAILED 표시 실패, IN_PROGRESS 레코드 잔존 - Key: {}, Error: {}", scopedKey, e.getMessage(), e);
+        }
+    }
+
+    // 만료된 레코드 정리 (스케줄러)
+    @Transactional
+    public int purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        synchronized (cache) {
+            cache.values().removeIf(cached -> cached.isExpired(now));
+        }
+        return idempotencyRecordRepository.deleteExpired(now);
+    }
+
+    private <T> T handleExisting(String scopedKey, IdempotencyRecord record, String fingerprint, Class<T> responseType) {
+        if (record.getStatus() == IdempotencyStatus.IN_PROGRESS) {
+            if (!record.getFingerprint().equals(fingerprint)) {
+                throw new BadRequestException(ErrorStatus.IDEMPOTENCY_KEY_REUSED_EXCEPTION.getMessage());
+            }
+            log.warn("[Idempotency] 동일 요청 처리 중 - Key: {}", scopedKey);
+            throw new ConflictException(ErrorStatus.IDEMPOTENCY_REQUEST_IN_PROGRESS_EXCEPTION.getMessage());
+        }
+
+        if (record.getStatus() == IdempotencyStatus.FAILED) {
+            if (!record.getFingerprint().equals(fingerprint)) {
+                throw new BadRequestException(ErrorStatus.IDEMPOTENCY_KEY_REUSED_EXCEPTION.getMessage());
+            }
+            log.warn("[Idempotency] 응답 저장에 실패한 요청 재시도 - Key: {}", scopedKey);
+            throw new ConflictException(ErrorStatus.IDEMPOTENCY_RESPONSE_UNAVAILABLE_EXCEPTION.getMessage());
+        }
+
+        cache.put(scopedKey, new CachedResponse(record.getFingerprint(), record.getResponseBody(), record.getExpiresAt()));
+        return replay(scopedKey, record.getFingerprint(), record.getResponseBody(), fingerprint, responseType);
+    }
+
+    private <T> T replay(String scopedKey, String storedFingerprint, String responseBody, String fingerprint, Class<T> responseType) {
+        if (!storedFingerprint.equals(fingerprint)) {
+            log.warn("[Idempotency] 동일 키로 다른 요청 - Key: {}", scopedKey);
+            throw new BadRequestException(ErrorStatus.IDEMPOTENCY_KEY_REUSED_EXCEPTION.getMessage());
+        }
+
+        log.info("[Idempotency] 저장된 응답 반환 - Key: {}", scopedKey);
+        try {
+            return objectMapper.readValue(responseBody, responseType);
+        } catch (JsonProcessingException e) {
+            log.error("[Idempotency] 저장된 응답 역직렬화 실패 - Key: {}, Error: {}", scopedKey, e.getMessage());
+            throw new InternalServerException(e.getMessage());
+        }
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(request);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new InternalServerException(e.getMessage());
+        }
+    }
+
+    private String serialize(Object response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new InternalServerException(e.getMessage());
+        }
+    }
+
+    private record CachedResponse(String fingerprint, String responseBody, LocalDateTime expiresAt) {
+        boolean isExpired(LocalDateTime now) {
+            return expiresAt.isBefore(now);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.stockmate.order.api.idempotency.service;
+
+import com.stockmate.order.api.idempotency.entity.ProcessedEvent;
+import com.stockmate.order.api.idempotency.repository.ProcessedEventRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Kafka Consumer 중복 이벤트 필터
+ * - 리밸런스 등으로 재전달된 레코드를 OrderService 호출 전에 걸러냄
+ * - 메모리 LRU(최근 처리 키) → processed_event 테이블 순으로 확인
+ * - 처리 기록은 주문 상태 변경과 같은 트랜잭션에서 저장 (둘 중 하나만 커밋되지 않도록)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProcessedEventStore {
+
+    private final ProcessedEventRepository processedEventRepository;
+
+    @Value("${order.processed-event.ttl-hours:72}")
+    private long ttlHours;
+
+    @Value("${order.processed-event.cache-size:50000}")
+    private int cacheSize;
+
+    // 최근 처리한 이벤트 키 LRU
+    private Map<String, Boolean> recent;
+
+    @PostConstruct
+    void initCache() {
+        recent = Collections.synchronizedMap(new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    public static String keyOf(String topic, int partition, long offset) {
+        return topic + "-" + partition + "@" + offset;
+    }
+
+    public static String keyOf(ConsumerRecord<?, ?> record) {
+        return keyOf(record.topic(), record.partition(), record.offset());
+    }
+
+    public boolean isProcessed(String eventKey) {
+        if (recent.containsKey(eventKey)) {
+            return true;
+        }
+        boolean processed = processedEventRepository.existsById(eventKey);
+        if (processed) {
+            recent.put(eventKey, Boolean.TRUE);
+        }
+        return processed;
+    }
+
+    // 여러 키 중 이미 처리된 키 목록 (DB 조회는 1회)
+    public Set<String> findProcessed(Collection<String> eventKeys) {
+        Set<String> processed = new HashSet<>();
+        List<String> unknown = new ArrayList<>();
+        for (String eventKey : eventKeys) {
+            if (recent.containsKey(eventKey)) {
+                processed.add(eventKey);
+            } else {
+                unknown.add(eventKey);
+            }
+        }
+
+        if (!unknown.isEmpty()) {
+            processedEventRepository.findAllById(unknown).forEach(event -> {
+                processed.add(event.getEventKey());
+                recent.put(event.getEventKey(), Boolean.TRUE);
+            });
+        }
+        return processed;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void markProcessed(String eventKey) {
+        markProcessed(List.of(eventKey));
+    }
+
+    /**
+     * 처리 기록 - 반드시 상태 변경 트랜잭션 안에서 호출
+     * - 다른 인스턴스가 같은 키를 먼저 기록했다면 PK 충돌로 상태 변경까지 함께 롤백되고, 재전달 시 처리 완료로 걸러짐
+     * - LRU 는 커밋 이후에 반영 (롤백된 키가 처리 완료로 보이지 않도록)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void markProcessed(Collection<String> eventKeys) {
+        if (eventKeys.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        processedEventRepository.saveAllAndFlush(eventKeys.stream()
+                .map(eventKey -> ProcessedEvent.of(eventKey, now))
+                .toList());
+
+        List<String> committedKeys = List.copyOf(eventKeys);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                committedKeys.forEach(eventKey -> recent.put(eventKey, Boolean.TRUE));
+            }
+        });
+    }
+
+    // 보관 기간이 지난 레코드 정리 (스케줄러)
+    @Transactional
+    public int purgeExpired() {
+        return processedEventRepository.deleteProcessedBefore(LocalDateTime.now().minusHours(ttlHours));
+    }
+}
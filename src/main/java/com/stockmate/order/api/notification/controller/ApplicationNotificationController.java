@@ -1,6 +1,7 @@
 package com.stockmate.order.api.notification.controller;
 
 import com.stockmate.order.api.notification.dto.ApplicationNotificationResponseDTO;
+import com.stockmate.order.api.notification.dto.NotificationCursorPageDTO;
 import com.stockmate.order.api.notification.entity.ApplicationNotification;
 import com.stockmate.order.api.notification.service.ApplicationNotificationService;
 import com.stockmate.order.common.config.security.SecurityUser;
@@ -14,8 +15,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @Tag(name = "지점 알림 API", description = "지점 알림 조회 및 관리")
 @RestController
 @RequestMapping("/api/v1/order/store/notifications")
@@ -24,21 +23,27 @@ import java.util.List;
 public class ApplicationNotificationController {
     private final ApplicationNotificationService applicationNotificationService;
 
-    @Operation(summary = "알림 전체 조회")
+    @Operation(summary = "알림 전체 조회", description = "최신순 커서 페이지로 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다.")
     @GetMapping("/")
-    public ResponseEntity<ApiResponse<List<ApplicationNotificationResponseDTO>>> getNotifications(
-            @AuthenticationPrincipal SecurityUser securityUser
+    public ResponseEntity<ApiResponse<NotificationCursorPageDTO<ApplicationNotificationResponseDTO>>> getNotifications(
+            @AuthenticationPrincipal SecurityUser securityUser,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
     ) {
-        List<ApplicationNotificationResponseDTO> response = applicationNotificationService.getNotification(securityUser.getMemberId());
+        NotificationCursorPageDTO<ApplicationNotificationResponseDTO> response =
+                applicationNotificationService.getNotification(securityUser.getMemberId(), cursor, size);
         return ApiResponse.success(SuccessStatus.GET_ALL_STORE_NOTIFICATION, response);
     }
 
-    @Operation(summary = "읽지 않은 알림 조회")
+    @Operation(summary = "읽지 않은 알림 조회", description = "최신순 커서 페이지로 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다.")
     @GetMapping("/unread")
-    public ResponseEntity<ApiResponse<List<ApplicationNotificationResponseDTO>>> getUnread(
-            @AuthenticationPrincipal SecurityUser securityUser
+    public ResponseEntity<ApiResponse<NotificationCursorPageDTO<ApplicationNotificationResponseDTO>>> getUnread(
+            @AuthenticationPrincipal SecurityUser securityUser,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
     ) {
-        List<ApplicationNotificationResponseDTO> response = applicationNotificationService.getUnreadNotifications(securityUser.getMemberId());
+        NotificationCursorPageDTO<ApplicationNotificationResponseDTO> response =
+                applicationNotificationService.getUnreadNotifications(securityUser.getMemberId(), cursor, size);
         return ApiResponse.success(SuccessStatus.GET_UNREAD_STORE_NOTIFICATION, response);
     }
 
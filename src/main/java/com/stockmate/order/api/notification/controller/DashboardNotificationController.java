@@ -1,8 +1,8 @@
 package com.stockmate.order.api.notification.controller;
 
+import com.stockmate.order.api.notification.dto.NotificationCursorPageDTO;
 import com.stockmate.order.api.notification.dto.NotificationListResponseDTO;
 import com.stockmate.order.api.notification.dto.UnreadCountResponseDTO;
-import com.stockmate.order.api.notification.entity.DashboardNotification;
 import com.stockmate.order.api.notification.entity.NotificationType;
 import com.stockmate.order.api.notification.service.DashboardNotificationService;
 import com.stockmate.order.common.response.ApiResponse;
@@ -14,9 +14,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 @Tag(name = "Web Notification", description = "웹 알림 관련 API 입니다.")
 @RestController
 @RequestMapping("/api/v1/order/notifications")
@@ -26,37 +23,35 @@ public class DashboardNotificationController {
 
     private final DashboardNotificationService notificationService;
 
-    @Operation(summary = "읽지 않은 알림 조회", description = "특정 타입(admin/warehouse)의 읽지 않은 알림을 조회합니다.")
+    @Operation(summary = "읽지 않은 알림 조회", description = "특정 타입(admin/warehouse)의 읽지 않은 알림을 최신순 커서 페이지로 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다.")
     @GetMapping("/unread")
-    public ResponseEntity<ApiResponse<List<NotificationListResponseDTO>>> getUnreadNotifications(@RequestParam String type) {
+    public ResponseEntity<ApiResponse<NotificationCursorPageDTO<NotificationListResponseDTO>>> getUnreadNotifications(
+            @RequestParam String type,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
         
-        log.info("읽지 않은 알림 조회 요청 - Type: {}", type);
+        log.info("읽지 않은 알림 조회 요청 - Type: {}, Size: {}", type, size);
         
         NotificationType notificationType = parseType(type);
-        List<DashboardNotification> notifications = notificationService.getUnreadNotifications(notificationType);
-        
-        List<NotificationListResponseDTO> response = notifications.stream()
-                .map(NotificationListResponseDTO::from)
-                .collect(Collectors.toList());
+        NotificationCursorPageDTO<NotificationListResponseDTO> response = notificationService.getUnreadNotifications(notificationType, cursor, size);
         
-        log.info("읽지 않은 알림 조회 완료 - Type: {}, Count: {}", type, response.size());
+        log.info("읽지 않은 알림 조회 완료 - Type: {}, Count: {}, HasNext: {}", type, response.getSize(), response.isHasNext());
         return ApiResponse.success(SuccessStatus.GET_UNREAD_NOTIFICATIONS_SUCCESS, response);
     }
 
-    @Operation(summary = "모든 알림 조회", description = "특정 타입(admin/warehouse)의 모든 알림을 조회합니다.")
+    @Operation(summary = "모든 알림 조회", description = "특정 타입(admin/warehouse)의 모든 알림을 최신순 커서 페이지로 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다.")
     @GetMapping
-    public ResponseEntity<ApiResponse<List<NotificationListResponseDTO>>> getAllNotifications(@RequestParam String type) {
+    public ResponseEntity<ApiResponse<NotificationCursorPageDTO<NotificationListResponseDTO>>> getAllNotifications(
+            @RequestParam String type,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
         
-        log.info("모든 알림 조회 요청 - Type: {}", type);
+        log.info("모든 알림 조회 요청 - Type: {}, Size: {}", type, size);
         
         NotificationType notificationType = parseType(type);
-        List<DashboardNotification> notifications = notificationService.getAllNotifications(notificationType);
-        
-        List<NotificationListResponseDTO> response = notifications.stream()
-                .map(NotificationListResponseDTO::from)
-                .collect(Collectors.toList());
+        NotificationCursorPageDTO<NotificationListResponseDTO> response = notificationService.getAllNotifications(notificationType, cursor, size);
         
-        log.info("모든 알림 조회 완료 - Type: {}, Count: {}", type, response.size());
+        log.info("모든 알림 조회 완료 - Type: {}, Count: {}, HasNext: {}", type, response.getSize(), response.isHasNext());
         return ApiResponse.success(SuccessStatus.GET_ALL_NOTIFICATIONS_SUCCESS, response);
     }
 
@@ -0,0 +1,39 @@
+package com.stockmate.order.api.notification.dto;
+
+import com.stockmate.order.common.exception.BadRequestException;
+import com.stockmate.order.common.response.ErrorStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 알림 목록 커서 (created_at, id)
+ * - 마지막으로 받은 알림의 생성 시각과 ID 를 불투명 문자열로 인코딩
+ * - 다음 페이지는 (created_at, id) 가 이 값보다 작은 알림부터 조회
+ */
+public record NotificationCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서 문자열 해석 (없으면 null = 첫 페이지)
+    public static NotificationCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new NotificationCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (Exception e) {
+            throw new BadRequestException(ErrorStatus.INVALID_NOTIFICATION_CURSOR_EXCEPTION.getMessage());
+        }
+    }
+}
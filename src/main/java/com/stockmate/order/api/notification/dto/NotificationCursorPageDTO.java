@@ -0,0 +1,49 @@
+package com.stockmate.order.api.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 알림 목록 커서 페이지
+ * - hasNext 가 true 면 nextCursor 를 cursor 파라미터로 전달하여 다음 페이지 조회
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationCursorPageDTO<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor; // 다음 페이지 커서 (마지막 페이지면 null)
+
+    /**
+     * size + 1 건 조회 결과로 페이지 구성 (초과분이 있으면 다음 페이지 존재)
+     */
+    public static <E, T> NotificationCursorPageDTO<T> of(List<E> rows, int size,
+                                                         Function<E, LocalDateTime> createdAtOf,
+                                                         Function<E, Long> idOf,
+                                                         Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            E last = page.get(page.size() - 1);
+            nextCursor = new NotificationCursor(createdAtOf.apply(last), idOf.apply(last)).encode();
+        }
+
+        return NotificationCursorPageDTO.<T>builder()
+                .content(page.stream().map(mapper).toList())
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
@@ -8,7 +8,9 @@ import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
 @Entity
-@Table(name = "app_notification")
+@Table(name = "app_notification", indexes = {
+        @Index(name = "idx_app_notification_user_read_created", columnList = "user_id, is_read, created_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
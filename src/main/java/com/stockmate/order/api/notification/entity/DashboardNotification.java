@@ -5,7 +5,9 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "dashboard_notification")
+@Table(name = "dashboard_notification", indexes = {
+        @Index(name = "idx_dashboard_notification_type_read_created", columnList = "notification_type, is_read, created_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
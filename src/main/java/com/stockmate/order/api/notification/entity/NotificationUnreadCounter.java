@@ -0,0 +1,29 @@
+package com.stockmate.order.api.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 읽지 않은 알림 수 카운터
+ * - counterKey: "user:{userId}" (지점 알림) 또는 "type:{NotificationType}" (대시보드 알림)
+ * - 알림 저장 / 읽음 처리 커밋 후 누적한 증감을 주기적으로 묶어서 반영 (write-behind)
+ */
+@Entity
+@Table(name = "notification_unread_counter")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class NotificationUnreadCounter {
+
+    @Id
+    @Column(length = 64)
+    private String counterKey;
+
+    @Column(nullable = false)
+    private long unreadCount;
+
+    private LocalDateTime updatedAt;
+}
@@ -2,22 +2,49 @@ package com.stockmate.order.api.notification.repository;
 
 import com.stockmate.order.api.notification.entity.ApplicationNotification;
 import com.stockmate.order.api.notification.entity.NotificationType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ApplicationNotificationRepository extends JpaRepository<ApplicationNotification, Long> {
-    // 알림 조회
-    List<ApplicationNotification> findByUserIdOrderByCreatedAtDesc(Long userId);
+    // 알림 조회 - 첫 페이지 (최신순)
+    List<ApplicationNotification> findByUserIdOrderByCreatedAtDescIdDesc(Long userId, Pageable pageable);
+
+    // 알림 조회 - 커서 이후 페이지 (created_at, id 기준 keyset)
+    @Query("""
+        SELECT a FROM ApplicationNotification a
+        WHERE a.userId = :userId
+          AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id))
+        ORDER BY a.createdAt DESC, a.id DESC
+    """)
+    List<ApplicationNotification> findPageByUserIdAfter(@Param("userId") Long userId,
+                                                        @Param("createdAt") LocalDateTime createdAt,
+                                                        @Param("id") Long id,
+                                                        Pageable pageable);
 
     // 읽지 않은 알림 갯수
     Long countByUserIdAndIsReadFalse(Long userId);
 
-    // 읽지 않은 알림 조회
-    List<ApplicationNotification> findByUserIdAndIsReadFalseOrderByCreatedAtDesc(Long userId);
+    // 읽지 않은 알림 조회 - 첫 페이지 (최신순)
+    List<ApplicationNotification> findByUserIdAndIsReadFalseOrderByCreatedAtDescIdDesc(Long userId, Pageable pageable);
+
+    // 읽지 않은 알림 조회 - 커서 이후 페이지
+    @Query("""
+        SELECT a FROM ApplicationNotification a
+        WHERE a.userId = :userId
+          AND a.isRead = false
+          AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id))
+        ORDER BY a.createdAt DESC, a.id DESC
+    """)
+    List<ApplicationNotification> findUnreadPageByUserIdAfter(@Param("userId") Long userId,
+                                                              @Param("createdAt") LocalDateTime createdAt,
+                                                              @Param("id") Long id,
+                                                              Pageable pageable);
 
     // 모든 알림을 읽음 처리 (Bulk Update)
     @Modifying
@@ -27,5 +54,5 @@ public interface ApplicationNotificationRepository extends JpaRepository<Applica
         WHERE a.userId = :userId
           AND a.isRead = false
     """)
-    void markAllAsReadByUserId(@Param("userId") Long userId);
+    int markAllAsReadByUserId(@Param("userId") Long userId);
 }
@@ -2,20 +2,62 @@ package com.stockmate.order.api.notification.repository;
 
 import com.stockmate.order.api.notification.entity.DashboardNotification;
 import com.stockmate.order.api.notification.entity.NotificationType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface DashboardNotificationRepository extends JpaRepository<DashboardNotification, Long> {
 
-    // 특정 타입의 읽지 않은 알림 조회 (최신순)
-    List<DashboardNotification> findByNotificationTypeAndIsReadFalseOrderByCreatedAtDesc(NotificationType notificationType);
+    // 특정 타입의 읽지 않은 알림 조회 - 첫 페이지 (최신순)
+    List<DashboardNotification> findByNotificationTypeAndIsReadFalseOrderByCreatedAtDescIdDesc(NotificationType notificationType, Pageable pageable);
 
-    // 특정 타입의 모든 알림 조회 (최신순)
-    List<DashboardNotification> findByNotificationTypeOrderByCreatedAtDesc(NotificationType notificationType);
+    // 특정 타입의 읽지 않은 알림 조회 - 커서 이후 페이지 (created_at, id 기준 keyset)
+    @Query("""
+        SELECT n FROM DashboardNotification n
+        WHERE n.notificationType = :notificationType
+          AND n.isRead = false
+          AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id))
+        ORDER BY n.createdAt DESC, n.id DESC
+    """)
+    List<DashboardNotification> findUnreadPageByTypeAfter(@Param("notificationType") NotificationType notificationType,
+                                                          @Param("createdAt") LocalDateTime createdAt,
+                                                          @Param("id") Long id,
+                                                          Pageable pageable);
+
+    // 특정 타입의 모든 알림 조회 - 첫 페이지 (최신순)
+    List<DashboardNotification> findByNotificationTypeOrderByCreatedAtDescIdDesc(NotificationType notificationType, Pageable pageable);
+
+    // 특정 타입의 모든 알림 조회 - 커서 이후 페이지
+    @Query("""
+        SELECT n FROM DashboardNotification n
+        WHERE n.notificationType = :notificationType
+          AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id))
+        ORDER BY n.createdAt DESC, n.id DESC
+    """)
+    List<DashboardNotification> findPageByTypeAfter(@Param("notificationType") NotificationType notificationType,
+                                                    @Param("createdAt") LocalDateTime createdAt,
+                                                    @Param("id") Long id,
+                                                    Pageable pageable);
+
+    // 특정 타입의 지정 순번(ID) 이후 알림 조회 (오래된 순) - WebSocket 재연결 시 재전송용
+    List<DashboardNotification> findByNotificationTypeAndIdGreaterThanOrderByIdAsc(NotificationType notificationType, Long id, Pageable pageable);
+
+    // 지정 순번 이후 + since 이후 생성된 알림 (늦게 커밋되어 더 작은 ID 를 가진 알림 포함, 오래된 순)
+    @Query("""
+        SELECT n FROM DashboardNotification n
+        WHERE n.notificationType = :notificationType
+          AND (n.id > :id OR n.createdAt >= :since)
+        ORDER BY n.id ASC
+    """)
+    List<DashboardNotification> findReplayAfter(@Param("notificationType") NotificationType notificationType,
+                                                @Param("id") Long id,
+                                                @Param("since") LocalDateTime since,
+                                                Pageable pageable);
 
     // 특정 타입의 읽지 않은 알림 개수 조회
     long countByNotificationTypeAndIsReadFalse(NotificationType notificationType);
@@ -0,0 +1,34 @@
+package com.stockmate.order.api.notification.repository;
+
+import com.stockmate.order.api.notification.entity.NotificationUnreadCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+// 증감 / 생성 / 보정은 호출 트랜잭션에 참여 (없으면 단독 트랜잭션) - 증감은 카운터 서비스의 반영 주기에만 호출
+public interface NotificationUnreadCounterRepository extends JpaRepository<NotificationUnreadCounter, String> {
+
+    // 카운터 증감 - 대상 행이 없으면 0 반환
+    @Transactional
+    @Modifying
+    @Query("UPDATE NotificationUnreadCounter c SET c.unreadCount = c.unreadCount + :delta, c.updatedAt = CURRENT_TIMESTAMP WHERE c.counterKey = :counterKey")
+    int addDelta(@Param("counterKey") String counterKey, @Param("delta") long delta);
+
+    // 카운터 최초 생성 (동시에 생성된 경우 증감만 반영)
+    @Transactional
+    @Modifying
+    @Query(value = """
+        INSERT INTO notification_unread_counter (counter_key, unread_count, updated_at)
+        VALUES (:counterKey, :initialCount, NOW())
+        ON DUPLICATE KEY UPDATE unread_count = unread_count + :delta, updated_at = NOW()
+    """, nativeQuery = true)
+    int insertOrAdd(@Param("counterKey") String counterKey, @Param("initialCount") long initialCount, @Param("delta") long delta);
+
+    // 카운터 보정
+    @Transactional
+    @Modifying
+    @Query("UPDATE NotificationUnreadCounter c SET c.unreadCount = :unreadCount, c.updatedAt = CURRENT_TIMESTAMP WHERE c.counterKey = :counterKey")
+    int setCount(@Param("counterKey") String counterKey, @Param("unreadCount") long unreadCount);
+}
@@ -1,6 +1,8 @@
 package com.stockmate.order.api.notification.service;
 
 import com.stockmate.order.api.notification.dto.ApplicationNotificationResponseDTO;
+import com.stockmate.order.api.notification.dto.NotificationCursor;
+import com.stockmate.order.api.notification.dto.NotificationCursorPageDTO;
 import com.stockmate.order.api.notification.entity.ApplicationNotification;
 import com.stockmate.order.api.notification.entity.DashboardNotification;
 import com.stockmate.order.api.notification.entity.NotificationType;
@@ -9,6 +11,9 @@ import com.stockmate.order.api.order.entity.Order;
 import com.stockmate.order.common.exception.NotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,58 +24,61 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ApplicationNotificationService {
     private final ApplicationNotificationRepository applicationNotificationRepository;
+    private final NotificationUnreadCounterService unreadCounterService;
+    private final ApplicationNotificationWriteBehindSink writeBehindSink;
 
-    // 알림 저장
-    @Transactional
-    public ApplicationNotification saveNotification(Order orderId, String orderNumber, String message, Long userId) {
+    @Value("${notification.page.max-size:100}")
+    private int maxPageSize;
+
+    // 알림 저장 - 커밋 후 지연 저장 대기열에 적재 (주문 트랜잭션에서 INSERT 하지 않음)
+    public void saveNotification(Order orderId, String orderNumber, String message, Long userId) {
         log.info("[Notification][SAVE] 요청 - orderId={}, orderNumber={}, userId={}, message={}",
                 orderId != null ? orderId.getOrderId() : null,
                 orderNumber, userId, message);
 
-        ApplicationNotification notification = ApplicationNotification.builder()
-                .orderId(orderId)
-                .userId(userId)
-                .orderNumber(orderNumber)
-                .message(message)
-                .isRead(false)
-                .build();
-
-        ApplicationNotification saved = applicationNotificationRepository.save(notification);
-
-        log.info("[Notification][SAVE] 완료 - notificationId={}", saved.getId());
-        return saved;
+        writeBehindSink.enqueue(orderId != null ? orderId.getOrderId() : null, userId, orderNumber, message);
     }
 
-    // 알림 조회
-    public List<ApplicationNotificationResponseDTO> getNotification(Long userId) {
-        log.info("[Notification][GET] 요청 - userId={}", userId);
-        List<ApplicationNotification> data = applicationNotificationRepository.findByUserIdOrderByCreatedAtDesc(userId);
+    // 알림 조회 (커서 페이지, 최신순)
+    public NotificationCursorPageDTO<ApplicationNotificationResponseDTO> getNotification(Long userId, String cursor, int size) {
+        log.info("[Notification][GET] 요청 - userId={}, size={}", userId, size);
+        int pageSize = clampPageSize(size);
+        NotificationCursor after = NotificationCursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
 
-        List<ApplicationNotificationResponseDTO> result = data.stream()
-                .map(ApplicationNotificationResponseDTO::of)
-                .toList();
+        List<ApplicationNotification> data = after == null
+                ? applicationNotificationRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, limit)
+                : applicationNotificationRepository.findPageByUserIdAfter(userId, after.createdAt(), after.id(), limit);
 
-        log.info("[Notification][GET] 조회결과 - count={}", data.size());
+        NotificationCursorPageDTO<ApplicationNotificationResponseDTO> result = NotificationCursorPageDTO.of(
+                data, pageSize, ApplicationNotification::getCreatedAt, ApplicationNotification::getId, ApplicationNotificationResponseDTO::of);
+
+        log.info("[Notification][GET] 조회결과 - count={}, hasNext={}", result.getSize(), result.isHasNext());
         return result;
     }
 
-    // 읽지 않은 알림 조회
-    public List<ApplicationNotificationResponseDTO> getUnreadNotifications(Long userId) {
-        log.info("[Notification][GET-UNREAD] 요청 - userId={}", userId);
-        List<ApplicationNotification> data = applicationNotificationRepository.findByUserIdAndIsReadFalseOrderByCreatedAtDesc(userId);
+    // 읽지 않은 알림 조회 (커서 페이지, 최신순)
+    public NotificationCursorPageDTO<ApplicationNotificationResponseDTO> getUnreadNotifications(Long userId, String cursor, int size) {
+        log.info("[Notification][GET-UNREAD] 요청 - userId={}, size={}", userId, size);
+        int pageSize = clampPageSize(size);
+        NotificationCursor after = NotificationCursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<ApplicationNotification> data = after == null
+                ? applicationNotificationRepository.findByUserIdAndIsReadFalseOrderByCreatedAtDescIdDesc(userId, limit)
+                : applicationNotificationRepository.findUnreadPageByUserIdAfter(userId, after.createdAt(), after.id(), limit);
 
-        List<ApplicationNotificationResponseDTO> result = data.stream()
-                        .map(ApplicationNotificationResponseDTO::of)
-                        .toList();
+        NotificationCursorPageDTO<ApplicationNotificationResponseDTO> result = NotificationCursorPageDTO.of(
+                data, pageSize, ApplicationNotification::getCreatedAt, ApplicationNotification::getId, ApplicationNotificationResponseDTO::of);
 
-        log.info("[Notification][GET-UNREAD] 조회결과 - count={}", data.size());
+        log.info("[Notification][GET-UNREAD] 조회결과 - count={}, hasNext={}", result.getSize(), result.isHasNext());
         return result;
     }
 
     // 읽지 않은 알림 개수 조회
     public Long getUnreadCount(Long userId) {
         log.info("[Notification][GET-UNREAD-COUNT] 요청 - userId={}", userId);
-        Long count = applicationNotificationRepository.countByUserIdAndIsReadFalse(userId);
+        Long count = unreadCounterService.userUnread(userId);
 
         log.info("[Notification][GET-UNREAD-COUNT] 조회결과 - count={}", count);
         return count;
@@ -85,14 +93,23 @@ public class ApplicationNotificationService {
                     log.warn("[Notification][MARK-READ] 실패 → notificationId={} 존재하지 않음", notificationId);
                     return new NotFoundException("알림을 찾을 수 없습니다.");
                 });
-        notification.markAsRead();
+        if (!notification.getIsRead()) {
+            notification.markAsRead();
+            unreadCounterService.decrementUser(notification.getUserId(), 1);
+        }
         log.info("[Notification][MARK-READ] 완료 - notificationId={}", notificationId);
     }
 
     // 모든 알림 읽음 처리
     @Transactional
     public void markAllAsRead(Long userID) {
-        applicationNotificationRepository.markAllAsReadByUserId(userID);
-        log.info("알림 전체 읽음 처리 완료");
+        int count = applicationNotificationRepository.markAllAsReadByUserId(userID);
+        unreadCounterService.decrementUser(userID, count);
+        log.info("알림 전체 읽음 처리 완료 - count={}", count);
+    }
+
+    // 페이지 크기 제한 (1 ~ notification.page.max-size)
+    private int clampPageSize(int size) {
+        return Math.min(Math.max(size, 1), maxPageSize);
     }
 }
@@ -0,0 +1,269 @@
+package com.stockmate.order.api.notification.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 지점 알림 지연 저장 (write-behind)
+ * - 주문 트랜잭션은 알림을 커밋 후 대기열에 적재만 하고, 전용 스레드가 묶음 INSERT 로 저장
+ * - batch-size 만큼 모이거나 flush-interval-ms 가 지나면 저장
+ * - 대기열이 가득 차면 overflow-wait-ms 동안만 대기 (배압), 그래도 자리가 없으면 overflow 메트릭 증가 후
+ *   보조 저장 스레드(크기/대기열 제한)에 단건 저장을 넘김 (커밋된 주문의 알림이므로 버리지 않음)
+ * - 보조 저장 스레드 대기열까지 가득 차면 마지막 수단으로 호출 스레드에서 저장
+ * - 종료 시 대기열에 남은 알림을 모두 저장, 종료 이후 들어온 알림은 호출 스레드에서 바로 저장
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApplicationNotificationWriteBehindSink {
+
+    private static final String INSERT_SQL = "INSERT INTO app_notification "
+            + "(order_id, user_id, order_number, message, is_read, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, false, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final NotificationUnreadCounterService unreadCounterService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${notification.write-behind.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${notification.write-behind.batch-size:200}")
+    private int batchSize;
+
+    @Value("${notification.write-behind.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    @Value("${notification.write-behind.overflow-wait-ms:50}")
+    private long overflowWaitMs;
+
+    @Value("${notification.write-behind.overflow-threads:2}")
+    private int overflowThreads;
+
+    @Value("${notification.write-behind.overflow-queue-capacity:1000}")
+    private int overflowQueueCapacity;
+
+    @Value("${notification.write-behind.shutdown-timeout-ms:10000}")
+    private long shutdownTimeoutMs;
+
+    private BlockingQueue<PendingNotification> queue;
+    private ExecutorService flusher;
+    // 대기열 초과분 단건 저장용
+    private ThreadPoolExecutor overflowWriter;
+    // 커밋 후 콜백에서도 호출되므로 항상 새 트랜잭션으로 저장
+    private TransactionTemplate transactionTemplate;
+    private volatile boolean running;
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        Gauge.builder("order.notification.write-behind.queue", queue, BlockingQueue::size)
+                .description("저장 대기 중인 지점 알림 수")
+                .register(meterRegistry);
+
+        flusher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger overflowThreadCount = new AtomicInteger();
+        overflowWriter = new ThreadPoolExecutor(overflowThreads, overflowThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(overflowQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "notification-overflow-" + overflowThreadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                // 보조 대기열도 가득 찼거나 종료된 경우 호출 스레드에서 저장 (CallerRunsPolicy 는 종료 후 작업을 버림)
+                (task, executor) -> task.run());
+
+        running = true;
+        flusher.execute(this::flushLoop);
+        log.info("[NotificationWriteBehind] 시작 - 용량: {}, 배치 크기: {}, 저장 주기: {}ms", queueCapacity, batchSize, flushIntervalMs);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        flusher.shutdown();
+        if (!flusher.awaitTermination(shutdownTimeoutMs, TimeUnit.MILLISECONDS)) {
+            log.warn("[NotificationWriteBehind] 종료 대기 시간 초과 - 미저장 알림 수: {}", queue.size());
+            flusher.shutdownNow();
+        }
+        overflowWriter.shutdown();
+        if (!overflowWriter.awaitTermination(shutdownTimeoutMs, TimeUnit.MILLISECONDS)) {
+            log.warn("[NotificationWriteBehind] 보조 저장 종료 대기 시간 초과 - 미저장 알림 수: {}", overflowWriter.getQueue().size());
+        }
+        // 저장 스레드 종료와 엇갈려 적재된 알림
+        flushRemaining();
+    }
+
+    /**
+     * 알림 적재 - 트랜잭션 안이면 커밋 후 적재 (롤백 시 버림)
+     */
+    public void enqueue(Long orderId, Long userId, String orderNumber, String message) {
+        PendingNotification notification = new PendingNotification(orderId, userId, orderNumber, message, LocalDateTime.now());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            offer(notification);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                offer(notification);
+            }
+        });
+    }
+
+    private void offer(PendingNotification notification) {
+        if (!running) {
+            // 종료 이후 - 저장 스레드가 없으므로 호출 스레드에서 바로 저장
+            flush(List.of(notification));
+            return;
+        }
+
+        boolean queued;
+        try {
+            queued = queue.offer(notification, overflowWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queued = false;
+        }
+        if (!queued) {
+            log.warn("[NotificationWriteBehind] 대기열 초과, 보조 저장으로 전환 - User ID: {}, Order Number: {}, 대기 알림 수: {}",
+                    notification.userId(), notification.orderNumber(), queue.size());
+            meterRegistry.counter("order.notification.write-behind.overflow").increment();
+            overflowWriter.execute(() -> flush(List.of(notification)));
+            return;
+        }
+
+        // 적재 직후 종료된 경우 저장 스레드가 이미 빠져나갔을 수 있으므로 남은 알림을 직접 저장
+        if (!running) {
+            flushRemaining();
+        }
+    }
+
+    // 대기열에 남은 알림을 호출 스레드에서 저장 (저장 스레드와 동시에 꺼내도 중복 없음)
+    private void flushRemaining() {
+        List<PendingNotification> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            flush(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+        }
+    }
+
+    private void flushLoop() {
+        // 종료 시에도 대기열에 남은 알림은 모두 저장
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingNotification first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<PendingNotification> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                fillBatch(batch);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("[NotificationWriteBehind] 저장 스레드 처리 중 예외 발생 - Error: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    // 첫 알림 이후 flush-interval-ms 동안 batch-size 까지 추가로 모음
+    private void fillBatch(List<PendingNotification> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                return;
+            }
+            PendingNotification next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    // 묶음 저장 - 실패 시 알림별 저장으로 재시도하여 실패 알림만 제외
+    private void flush(List<PendingNotification> batch) {
+        try {
+            insert(batch);
+            meterRegistry.counter("order.notification.write-behind.flushed").increment(batch.size());
+            return;
+        } catch (Exception e) {
+            log.warn("[NotificationWriteBehind] 묶음 저장 실패, 알림별 저장으로 전환 - 알림 수: {}, 에러: {}", batch.size(), e.getMessage());
+        }
+
+        for (PendingNotification notification : batch) {
+            try {
+                insert(List.of(notification));
+                meterRegistry.counter("order.notification.write-behind.flushed").increment();
+            } catch (Exception e) {
+                log.error("[NotificationWriteBehind] 알림 저장 실패 - User ID: {}, Order Number: {}, 에러: {}",
+                        notification.userId(), notification.orderNumber(), e.getMessage(), e);
+                meterRegistry.counter("order.notification.write-behind.dropped").increment();
+            }
+        }
+    }
+
+    private void insert(List<PendingNotification> batch) {
+        List<Object[]> rows = new ArrayList<>(batch.size());
+        Map<Long, Long> countByUserId = new LinkedHashMap<>();
+        for (PendingNotification notification : batch) {
+            rows.add(new Object[]{
+                    notification.orderId(),
+                    notification.userId(),
+                    notification.orderNumber(),
+                    notification.message(),
+                    notification.createdAt(),
+                    notification.createdAt()
+            });
+            countByUserId.merge(notification.userId(), 1L, Long::sum);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+            countByUserId.forEach(unreadCounterService::incrementUser);
+        });
+        log.debug("[NotificationWriteBehind] 저장 완료 - 알림 수: {}, 사용자 수: {}", batch.size(), countByUserId.size());
+    }
+
+    private record PendingNotification(Long orderId, Long userId, String orderNumber, String message, LocalDateTime createdAt) {
+    }
+}
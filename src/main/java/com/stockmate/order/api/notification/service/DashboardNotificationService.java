@@ -1,14 +1,21 @@
 package com.stockmate.order.api.notification.service;
 
+import com.stockmate.order.api.notification.dto.NotificationCursor;
+import com.stockmate.order.api.notification.dto.NotificationCursorPageDTO;
+import com.stockmate.order.api.notification.dto.NotificationListResponseDTO;
 import com.stockmate.order.api.notification.entity.DashboardNotification;
 import com.stockmate.order.api.notification.entity.NotificationType;
 import com.stockmate.order.api.notification.repository.DashboardNotificationRepository;
 import com.stockmate.order.common.exception.NotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.List;
 
 @Slf4j
@@ -17,6 +24,14 @@ import java.util.List;
 public class DashboardNotificationService {
 
     private final DashboardNotificationRepository notificationRepository;
+    private final NotificationUnreadCounterService unreadCounterService;
+
+    @Value("${notification.page.max-size:100}")
+    private int maxPageSize;
+
+    // ID 는 커밋 순서가 아니므로 lastSeq 알림 생성 시각 기준 이 시간 안에 생성된 알림도 재전송 대상에 포함
+    @Value("${websocket.dashboard.replay.late-commit-window-ms:10000}")
+    private long lateCommitWindowMs;
 
     // 알림 저장
     @Transactional
@@ -30,26 +45,55 @@ public class DashboardNotificationService {
                 .build();
 
         DashboardNotification saved = notificationRepository.save(notification);
+        unreadCounterService.incrementType(type);
         log.info("알림 저장 완료 - ID: {}, Type: {}, Order ID: {}", saved.getId(), type, orderId);
         return saved;
     }
 
-    // 특정 타입의 읽지 않은 알림 조회
+    // 특정 타입의 읽지 않은 알림 조회 (커서 페이지, 최신순)
     @Transactional(readOnly = true)
-    public List<DashboardNotification> getUnreadNotifications(NotificationType type) {
-        return notificationRepository.findByNotificationTypeAndIsReadFalseOrderByCreatedAtDesc(type);
+    public NotificationCursorPageDTO<NotificationListResponseDTO> getUnreadNotifications(NotificationType type, String cursor, int size) {
+        int pageSize = clampPageSize(size);
+        NotificationCursor after = NotificationCursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<DashboardNotification> rows = after == null
+                ? notificationRepository.findByNotificationTypeAndIsReadFalseOrderByCreatedAtDescIdDesc(type, limit)
+                : notificationRepository.findUnreadPageByTypeAfter(type, after.createdAt(), after.id(), limit);
+        return NotificationCursorPageDTO.of(rows, pageSize,
+                DashboardNotification::getCreatedAt, DashboardNotification::getId, NotificationListResponseDTO::from);
     }
 
-    // 특정 타입의 모든 알림 조회
+    // 특정 타입의 모든 알림 조회 (커서 페이지, 최신순)
     @Transactional(readOnly = true)
-    public List<DashboardNotification> getAllNotifications(NotificationType type) {
-        return notificationRepository.findByNotificationTypeOrderByCreatedAtDesc(type);
+    public NotificationCursorPageDTO<NotificationListResponseDTO> getAllNotifications(NotificationType type, String cursor, int size) {
+        int pageSize = clampPageSize(size);
+        NotificationCursor after = NotificationCursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<DashboardNotification> rows = after == null
+                ? notificationRepository.findByNotificationTypeOrderByCreatedAtDescIdDesc(type, limit)
+                : notificationRepository.findPageByTypeAfter(type, after.createdAt(), after.id(), limit);
+        return NotificationCursorPageDTO.of(rows, pageSize,
+                DashboardNotification::getCreatedAt, DashboardNotification::getId, NotificationListResponseDTO::from);
     }
 
-    // 특정 타입의 읽지 않은 알림 개수 조회
+    /**
+     * 특정 타입의 지정 순번 이후 알림 조회 (오래된 순, 최대 limit 건)
+     * - lastSeq 알림보다 늦게 커밋된 더 작은 ID 의 알림도 포함 (이미 받은 알림이 섞일 수 있음 → 클라이언트는 seq 로 중복 제거)
+     */
     @Transactional(readOnly = true)
+    public List<DashboardNotification> getNotificationsAfter(NotificationType type, Long lastSeq, int limit) {
+        Pageable page = PageRequest.of(0, limit);
+        return notificationRepository.findById(lastSeq)
+                .map(last -> notificationRepository.findReplayAfter(type, lastSeq,
+                        last.getCreatedAt().minus(Duration.ofMillis(lateCommitWindowMs)), page))
+                .orElseGet(() -> notificationRepository.findByNotificationTypeAndIdGreaterThanOrderByIdAsc(type, lastSeq, page));
+    }
+
+    // 특정 타입의 읽지 않은 알림 개수 조회 (메모리 카운터)
     public long getUnreadCount(NotificationType type) {
-        return notificationRepository.countByNotificationTypeAndIsReadFalse(type);
+        return unreadCounterService.typeUnread(type);
     }
 
     // 특정 알림을 읽음 처리
@@ -58,7 +102,10 @@ public class DashboardNotificationService {
         DashboardNotification notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new NotFoundException("알림을 찾을 수 없습니다. ID: " + notificationId));
 
-        notification.markAsRead();
+        if (!notification.getIsRead()) {
+            notification.markAsRead();
+            unreadCounterService.decrementType(notification.getNotificationType(), 1);
+        }
         log.info("알림 읽음 처리 완료 - ID: {}", notificationId);
     }
 
@@ -66,8 +113,13 @@ public class DashboardNotificationService {
     @Transactional
     public int markAllAsRead(NotificationType type) {
         int count = notificationRepository.markAllAsReadByType(type);
+        unreadCounterService.decrementType(type, count);
         log.info("알림 전체 읽음 처리 완료 - Type: {}, Count: {}", type, count);
         return count;
     }
-}
 
+    // 페이지 크기 제한 (1 ~ notification.page.max-size)
+    private int clampPageSize(int size) {
+        return Math.min(Math.max(size, 1), maxPageSize);
+    }
+}
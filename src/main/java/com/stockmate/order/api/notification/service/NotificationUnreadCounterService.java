@@ -0,0 +1,262 @@
+package com.stockmate.order.api.notification.service;
+
+import com.stockmate.order.api.notification.entity.NotificationType;
+import com.stockmate.order.api.notification.entity.NotificationUnreadCounter;
+import com.stockmate.order.api.notification.repository.ApplicationNotificationRepository;
+import com.stockmate.order.api.notification.repository.DashboardNotificationRepository;
+import com.stockmate.order.api.notification.repository.NotificationUnreadCounterRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 읽지 않은 알림 수 카운터
+ * - 조회는 메모리 카운터로 응답 (COUNT 쿼리 없음), 미적재 키만 카운터 테이블 → COUNT 순으로 적재
+ * - 증감은 커밋 후 메모리에 반영하고 미반영 증감으로 누적, 스케줄러가 키별로 합쳐 카운터 테이블에 반영
+ *   (주문 트랜잭션이 공유 카운터 행(type:ADMIN 등)의 잠금을 커밋까지 잡지 않도록)
+ * - 다른 인스턴스의 증감은 카운터 테이블 재조회로, 누적 오차는 COUNT 대조로 보정 (스케줄러)
+ * - 사용자 카운터는 idle-ttl-ms 동안 조회가 없으면 메모리에서 제거 (재조회 대상에서도 제외)
+ * - 반영 전 종료되면 미반영 증감은 유실되며 COUNT 대조로 보정됨
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationUnreadCounterService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final NotificationUnreadCounterRepository counterRepository;
+    private final ApplicationNotificationRepository applicationNotificationRepository;
+    private final DashboardNotificationRepository dashboardNotificationRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${notification.unread-counter.idle-ttl-ms:600000}")
+    private long idleTtlMs;
+
+    private final Map<String, CachedCount> counters = new ConcurrentHashMap<>();
+    // 커밋됐지만 카운터 테이블에 아직 반영하지 않은 증감 (키별 합계)
+    private final Map<String, Long> pendingDeltas = new ConcurrentHashMap<>();
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 지점 사용자의 읽지 않은 알림 수
+    public long userUnread(Long userId) {
+        return get(userKey(userId));
+    }
+
+    // 대시보드 타입의 읽지 않은 알림 수
+    public long typeUnread(NotificationType type) {
+        return get(typeKey(type));
+    }
+
+    public void incrementUser(Long userId, long count) {
+        add(userKey(userId), count);
+    }
+
+    public void incrementType(NotificationType type) {
+        add(typeKey(type), 1);
+    }
+
+    public void decrementUser(Long userId, long count) {
+        add(userKey(userId), -count);
+    }
+
+    public void decrementType(NotificationType type, long count) {
+        add(typeKey(type), -count);
+    }
+
+    /**
+     * 미반영 증감을 카운터 테이블에 반영 - 반영한 카운터 수 반환
+     * - 키 순서대로 한 트랜잭션에서 반영 (인스턴스 간 교착 방지), 실패 시 증감을 되돌려 다음 주기에 재시도
+     */
+    public synchronized int flushDeltas() {
+        Map<String, Long> drained = new LinkedHashMap<>();
+        for (String key : pendingDeltas.keySet().stream().sorted().toList()) {
+            Long delta = pendingDeltas.remove(key);
+            if (delta != null && delta != 0) {
+                drained.put(key, delta);
+            }
+        }
+        if (drained.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> drained.forEach(this::applyDelta));
+        } catch (RuntimeException e) {
+            drained.forEach((key, delta) -> pendingDeltas.merge(key, delta, Long::sum));
+            throw e;
+        }
+        return drained.size();
+    }
+
+    /**
+     * 적재된 카운터를 카운터 테이블 값으로 갱신 (다른 인스턴스의 증감 반영)
+     * - 조회가 idle-ttl-ms 동안 없었던 사용자 카운터는 먼저 제거
+     */
+    public synchronized void refresh() {
+        evictIdle();
+        List<String> keys = new ArrayList<>(counters.keySet());
+        for (int from = 0; from < keys.size(); from += CHUNK_SIZE) {
+            List<String> chunk = keys.subList(from, Math.min(from + CHUNK_SIZE, keys.size()));
+            for (NotificationUnreadCounter counter : counterRepository.findAllById(chunk)) {
+                CachedCount cached = counters.get(counter.getCounterKey());
+                if (cached != null) {
+                    // 이 인스턴스의 미반영 증감은 아직 테이블에 없으므로 더해서 유지
+                    cached.value.set(counter.getUnreadCount() + pendingDeltas.getOrDefault(counter.getCounterKey(), 0L));
+                }
+            }
+        }
+    }
+
+    /**
+     * 적재된 카운터를 COUNT 결과와 대조하여 보정 - 보정한 카운터 수 반환
+     * - 미반영 증감을 먼저 반영한 뒤 chunk 단위 트랜잭션으로 대조 (긴 트랜잭션 방지)
+     */
+    public synchronized int reconcile() {
+        flushDeltas();
+        List<String> keys = new ArrayList<>(counters.keySet());
+        int corrected = 0;
+        for (int from = 0; from < keys.size(); from += CHUNK_SIZE) {
+            List<String> chunk = keys.subList(from, Math.min(from + CHUNK_SIZE, keys.size()));
+            Integer chunkCorrected = transactionTemplate.execute(status -> reconcileChunk(chunk));
+            corrected += chunkCorrected != null ? chunkCorrected : 0;
+        }
+        return corrected;
+    }
+
+    private int reconcileChunk(List<String> keys) {
+        int corrected = 0;
+        for (String key : keys) {
+            CachedCount cached = counters.get(key);
+            if (cached == null) {
+                continue;
+            }
+            long actual = countUnread(key);
+            if (cached.value.get() == actual) {
+                continue;
+            }
+            log.warn("[UnreadCounter] 카운터 보정 - Key: {}, 카운터: {}, 실제: {}", key, cached.value.get(), actual);
+            if (counterRepository.setCount(key, actual) == 0) {
+                counterRepository.insertOrAdd(key, actual, 0);
+            }
+            cached.value.set(actual);
+            corrected++;
+        }
+        return corrected;
+    }
+
+    // 메모리 → 카운터 테이블 → COUNT 순으로 조회
+    private long get(String key) {
+        CachedCount cached = counters.get(key);
+        if (cached == null) {
+            long loaded = counterRepository.findById(key)
+                    .map(NotificationUnreadCounter::getUnreadCount)
+                    .orElseGet(() -> seed(key))
+                    + pendingDeltas.getOrDefault(key, 0L);
+            cached = counters.computeIfAbsent(key, k -> new CachedCount(loaded));
+        }
+        cached.lastReadAt = System.currentTimeMillis();
+        return Math.max(0, cached.value.get());
+    }
+
+    private long seed(String key) {
+        long count = countUnread(key);
+        counterRepository.insertOrAdd(key, count, 0);
+        log.info("[UnreadCounter] 카운터 생성 - Key: {}, Count: {}", key, count);
+        return count;
+    }
+
+    /**
+     * 커밋되면 메모리 반영 + 미반영 증감으로 누적 (롤백 시 버림)
+     */
+    private void add(String key, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        afterCommit(() -> {
+            pendingDeltas.merge(key, delta, Long::sum);
+            CachedCount cached = counters.get(key);
+            if (cached != null) {
+                cached.value.addAndGet(delta);
+            }
+        });
+    }
+
+    /**
+     * 카운터 테이블 증감 - 카운터 행이 없으면 COUNT 로 생성
+     * (커밋 후 반영하므로 COUNT 에 이미 이 증감이 포함됨 → 증감은 생략)
+     */
+    private void applyDelta(String key, long delta) {
+        if (counterRepository.addDelta(key, delta) == 0) {
+            counterRepository.insertOrAdd(key, countUnread(key), 0);
+        }
+    }
+
+    private void evictIdle() {
+        long threshold = System.currentTimeMillis() - idleTtlMs;
+        int before = counters.size();
+        counters.entrySet().removeIf(entry -> entry.getKey().startsWith("user:") && entry.getValue().lastReadAt < threshold);
+        int evicted = before - counters.size();
+        if (evicted > 0) {
+            log.debug("[UnreadCounter] 미사용 카운터 제거 - 제거 수: {}, 남은 수: {}", evicted, counters.size());
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private long countUnread(String key) {
+        String id = key.substring(key.indexOf(':') + 1);
+        if (key.startsWith("user:")) {
+            return applicationNotificationRepository.countByUserIdAndIsReadFalse(Long.parseLong(id));
+        }
+        return dashboardNotificationRepository.countByNotificationTypeAndIsReadFalse(NotificationType.valueOf(id));
+    }
+
+    private static String userKey(Long userId) {
+        return "user:" + userId;
+    }
+
+    private static String typeKey(NotificationType type) {
+        return "type:" + type.name();
+    }
+
+    // 메모리 카운터와 마지막 조회 시각
+    private static final class CachedCount {
+        private final AtomicLong value;
+        private volatile long lastReadAt = System.currentTimeMillis();
+
+        private CachedCount(long value) {
+            this.value = new AtomicLong(value);
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.stockmate.order.api.order.controller;
 
+import com.stockmate.order.api.idempotency.service.IdempotencyService;
 import com.stockmate.order.api.order.dto.*;
 import com.stockmate.order.api.order.entity.OrderStatus;
+import com.stockmate.order.api.order.service.OrderIntakeService;
 import com.stockmate.order.api.order.service.OrderService;
 import com.stockmate.order.common.config.security.SecurityUser;
 import com.stockmate.order.common.response.ApiResponse;
@@ -24,24 +26,51 @@ import java.util.List;
 @Slf4j
 public class OrderController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final OrderService orderService;
+    private final IdempotencyService idempotencyService;
+    private final OrderIntakeService orderIntakeService;
 
-    @Operation(summary = "주문 생성 API", description = "본사에 있는 부품들을 발주합니다.")
+    @Operation(summary = "주문 생성 API", description = "본사에 있는 부품들을 발주합니다. Idempotency-Key 헤더로 재시도 시 최초 응답을 그대로 반환합니다.")
     @PostMapping
-    public ResponseEntity<ApiResponse<MakeOrderResponseDto>> makeOrder(@RequestBody OrderRequestDTO orderRequestDTO, @AuthenticationPrincipal SecurityUser securityUser) {
+    public ResponseEntity<ApiResponse<MakeOrderResponseDto>> makeOrder(@RequestBody OrderRequestDTO orderRequestDTO,
+                                                                       @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                                                       @AuthenticationPrincipal SecurityUser securityUser) {
         log.info("부품 발주 요청 - 요청 가맹점 ID: {}, 주문 항목 수: {}", securityUser.getMemberId(), orderRequestDTO.getOrderItems().size());
 
-        MakeOrderResponseDto response = orderService.makeOrder(orderRequestDTO, securityUser.getMemberId());
+        MakeOrderResponseDto response = idempotencyService.execute(
+                idempotencyKey, securityUser.getMemberId(), "POST /api/v1/order", orderRequestDTO, MakeOrderResponseDto.class,
+                () -> orderService.makeOrder(orderRequestDTO, securityUser.getMemberId()));
         log.info("부품 발주 완료 - Order ID: {}, Order Number: {}", response.getOrderId(), response.getOrderNumber());
 
         return ApiResponse.success(SuccessStatus.SEND_PARTS_ORDER_SUCCESS, response);
     }
 
-    @Operation(summary = "주문 취소 API", description = "생성한 주문을 취소합니다. (본인 주문 또는 ADMIN/SUPER_ADMIN)")
+    @Operation(summary = "주문 접수 대기열 API", description = "주문을 대기열에 접수하고 접수 ID를 반환합니다. 처리 결과는 WebSocket으로 전송되며, 대기열이 가득 찬 경우 429(Retry-After)를 반환합니다.")
+    @PostMapping("/intake")
+    public ResponseEntity<ApiResponse<OrderIntakeResponseDTO>> submitOrderIntake(@RequestBody OrderRequestDTO orderRequestDTO,
+                                                                                 @AuthenticationPrincipal SecurityUser securityUser) {
+        log.info("주문 접수 대기열 요청 - 요청 가맹점 ID: {}, 주문 항목 수: {}", securityUser.getMemberId(), orderRequestDTO.getOrderItems().size());
+        OrderIntakeResponseDTO response = orderIntakeService.submit(orderRequestDTO, securityUser.getMemberId());
+        return ApiResponse.success(SuccessStatus.SEND_ORDER_INTAKE_ACCEPTED, response);
+    }
+
+    @Operation(summary = "주문 취소 API", description = "생성한 주문을 취소합니다. (본인 주문 또는 ADMIN/SUPER_ADMIN) async=true 이면 202 응답 후 결과를 WebSocket 으로 전달합니다.")
     @PutMapping("/{orderId}/cancel")
-    public ResponseEntity<ApiResponse<Void>> cancelOrder(@PathVariable Long orderId, @AuthenticationPrincipal SecurityUser securityUser) {
+    public ResponseEntity<ApiResponse<Void>> cancelOrder(@PathVariable Long orderId,
+                                                         @RequestParam(defaultValue = "false") boolean async,
+                                                         @AuthenticationPrincipal SecurityUser securityUser) {
+
+        log.info("주문 취소 요청 - 요청 가맹점 ID: {}, 취소 주문 ID: {}, Role: {}, 비동기: {}", securityUser.getMemberId(), orderId, securityUser.getRole(), async);
+
+        // 비동기 모드 - 취소 대기 상태로 변경 후 즉시 응답, 최종 결과는 WebSocket 으로 전달
+        if (async) {
+            orderService.requestCancelOrderAsync(orderId, securityUser.getMemberId(), securityUser.getRole());
+            log.info("주문 취소 요청 접수 - Order ID: {}", orderId);
+            return ApiResponse.success_only(SuccessStatus.SEND_CANCEL_ORDER_REQUEST_ACCEPTED);
+        }
 
-        log.info("주문 취소 요청 - 요청 가맹점 ID: {}, 취소 주문 ID: {}, Role: {}", securityUser.getMemberId(), orderId, securityUser.getRole());
         orderService.cancelOrder(orderId, securityUser.getMemberId(), securityUser.getRole());
 
         log.info("주문 취소 완료 - Order ID: {}", orderId);
@@ -82,7 +111,19 @@ public class OrderController {
         orderService.requestOrderApprovalWebSocket(orderId, securityUser.getRole(), securityUser.getMemberId());
         log.info("주문 승인 요청 접수 완료 - Order ID: {}", orderId);
 
-        return ApiResponse.success_only(SuccessStatus.SEND_ORDER_APPROVAL_REQUEST_SUCCESS);
+        return ApiResponse.success_only(SuccessStatus.SEND_ORDER_APPROVAL_REQUEST_ACCEPTED);
+    }
+
+    @Operation(summary = "주문 일괄 승인 요청 API (WebSocket)", description = "여러 주문의 승인 처리를 한 번에 시작합니다. 주문별 처리 상태는 WebSocket으로 전송됩니다. (ADMIN/SUPER_ADMIN만 가능)")
+    @PutMapping("/approve/bulk")
+    public ResponseEntity<ApiResponse<OrderBulkApprovalResponseDTO>> requestBulkOrderApproval(@RequestBody OrderBulkApprovalRequestDTO requestDTO, @AuthenticationPrincipal SecurityUser securityUser) {
+
+        log.info("주문 일괄 승인 요청 - 요청자 ID: {}, 요청자 Role: {}", securityUser.getMemberId(), securityUser.getRole());
+
+        OrderBulkApprovalResponseDTO response = orderService.requestBulkOrderApproval(requestDTO.getOrderIds(), securityUser.getRole(), securityUser.getMemberId());
+        log.info("주문 일괄 승인 요청 접수 완료 - 접수 주문 수: {}", response.getRequestedCount());
+
+        return ApiResponse.success(SuccessStatus.SEND_BULK_ORDER_APPROVAL_REQUEST_ACCEPTED, response);
     }
 
     @Operation(summary = "주문 승인 상태 체크 API", description = "주문의 현재 상태를 확인합니다. (본인 주문 또는 ADMIN/SUPER_ADMIN)")
@@ -160,13 +201,20 @@ public class OrderController {
         return ApiResponse.success(SuccessStatus.REGISTER_SHIPPING_SUCCESS, shippingInfo);
     }
 
-    @Operation(summary = "입고 처리 요청 API", description = "주문에 입고 처리를 요청합니다. 가맹점 사용자만 가능합니다.")
+    @Operation(summary = "입고 처리 요청 API", description = "주문에 입고 처리를 요청합니다. 가맹점 사용자만 가능합니다. Idempotency-Key 헤더를 지원합니다.")
     @PostMapping("/receive")
-    public ResponseEntity<ApiResponse<Void>> requestReceivingProcess(@RequestBody ReceivingProcessRequestDTO requestDTO, @AuthenticationPrincipal SecurityUser securityUser) {
+    public ResponseEntity<ApiResponse<Void>> requestReceivingProcess(@RequestBody ReceivingProcessRequestDTO requestDTO,
+                                                                     @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                                                     @AuthenticationPrincipal SecurityUser securityUser) {
 
         log.info("입고 처리 요청 - Order Number: {}, 요청자 ID: {}, 요청자 Role: {}", requestDTO.getOrderNumber(), securityUser.getMemberId(), securityUser.getRole());
 
-        orderService.requestReceivingProcess(requestDTO, securityUser.getRole(), securityUser.getMemberId());
+        idempotencyService.execute(
+                idempotencyKey, securityUser.getMemberId(), "POST /api/v1/order/receive", requestDTO, Void.class,
+                () -> {
+                    orderService.requestReceivingProcess(requestDTO, securityUser.getRole(), securityUser.getMemberId());
+                    return null;
+                });
         log.info("입고 처리 요청 완료 - Order Number: {}", requestDTO.getOrderNumber());
 
         return ApiResponse.success(SuccessStatus.REQUEST_RECEIVING_PROCESS_SUCCESS, null);
@@ -19,8 +19,13 @@ public class CancelRequestEvent {
     private PaymentType paymentType;
     private int totalPrice;
     private OrderStatus orderStatus;
+    private String cancelAttemptId; // 비동기 취소 시도 식별자 (CancelResponseEvent.approvalAttemptId 로 그대로 회신)
 
     public static CancelRequestEvent of (Order o, Long memberId) {
+        return of(o, memberId, null);
+    }
+
+    public static CancelRequestEvent of (Order o, Long memberId, String cancelAttemptId) {
         return CancelRequestEvent.builder()
                 .orderId(o.getOrderId())
                 .memberId(memberId)
@@ -28,6 +33,7 @@ public class CancelRequestEvent {
                 .paymentType(o.getPaymentType())
                 .totalPrice(o.getTotalPrice())
                 .orderStatus(o.getOrderStatus())
+                .cancelAttemptId(cancelAttemptId)
                 .build();
     }
 }
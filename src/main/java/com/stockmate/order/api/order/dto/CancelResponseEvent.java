@@ -14,11 +14,12 @@ public class CancelResponseEvent {
     private String orderNumber;
     private String approvalAttemptId; // Saga 시도 식별자
 
+    // 요청의 취소 시도 식별자를 그대로 회신 (없으면 새로 생성 - 동기 취소 / 이전 버전 요청)
     public static CancelResponseEvent of (CancelRequestEvent c) {
         return CancelResponseEvent.builder()
                 .orderId(c.getOrderId())
                 .orderNumber(c.getOrderNumber())
-                .approvalAttemptId("CANCEL-" + System.currentTimeMillis())
+                .approvalAttemptId(c.getCancelAttemptId() != null ? c.getCancelAttemptId() : "CANCEL-" + System.currentTimeMillis())
                 .build();
     }
 }
@@ -0,0 +1,18 @@
+package com.stockmate.order.api.order.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "주문 일괄 승인 요청 DTO")
+public class OrderBulkApprovalRequestDTO {
+
+    @Schema(description = "승인할 주문 ID 리스트", example = "[1, 2, 3]")
+    private List<Long> orderIds;
+}
@@ -0,0 +1,24 @@
+package com.stockmate.order.api.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderBulkApprovalResponseDTO {
+    private int requestedCount; // 접수된 주문 수 (중복 제거 후)
+    private List<Long> orderIds; // 접수된 주문 ID 리스트
+
+    public static OrderBulkApprovalResponseDTO of(List<Long> orderIds) {
+        return OrderBulkApprovalResponseDTO.builder()
+                .requestedCount(orderIds.size())
+                .orderIds(orderIds)
+                .build();
+    }
+}
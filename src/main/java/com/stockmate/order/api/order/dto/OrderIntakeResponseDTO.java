@@ -0,0 +1,22 @@
+package com.stockmate.order.api.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderIntakeResponseDTO {
+    private String intakeId; // 추적용 접수 ID (WebSocket 완료 메시지의 data.intakeId 와 동일)
+    private int queuedCount; // 접수 시점 대기열 크기
+
+    public static OrderIntakeResponseDTO of(String intakeId, int queuedCount) {
+        return OrderIntakeResponseDTO.builder()
+                .intakeId(intakeId)
+                .queuedCount(queuedCount)
+                .build();
+    }
+}
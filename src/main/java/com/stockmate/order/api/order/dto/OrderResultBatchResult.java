@@ -0,0 +1,17 @@
+package com.stockmate.order.api.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 결과 이벤트 일괄 반영 결과
+ */
+@Getter
+@AllArgsConstructor
+public class OrderResultBatchResult {
+    private List<Runnable> notifications; // 커밋 이후 전송할 WebSocket 알림
+    private Map<OrderResultEvent, Exception> failures; // 반영 실패 이벤트와 사유
+}
@@ -0,0 +1,43 @@
+package com.stockmate.order.api.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 결제/취소/입고 결과 이벤트 공통 래퍼 (배치·병렬 리스너 모드에서 사용)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderResultEvent {
+
+    public enum Type {
+        PAY_SUCCESS,
+        PAY_FAILED,
+        CANCEL_SUCCESS,
+        CANCEL_FAILED,
+        RECEIVING_SUCCESS,
+        RECEIVING_FAILED
+    }
+
+    private Type type;
+    private Long orderId;
+    private Object payload; // PayResponseEvent / CancelResponseEvent / ReceivingProcess*Event
+    private String eventKey; // 처리 기록 키 (토픽-파티션@오프셋), 상태 변경과 같은 트랜잭션에서 기록
+
+    public static OrderResultEvent of(Type type, Long orderId, Object payload) {
+        return of(type, orderId, payload, null);
+    }
+
+    public static OrderResultEvent of(Type type, Long orderId, Object payload, String eventKey) {
+        return OrderResultEvent.builder()
+                .type(type)
+                .orderId(orderId)
+                .payload(payload)
+                .eventKey(eventKey)
+                .build();
+    }
+}
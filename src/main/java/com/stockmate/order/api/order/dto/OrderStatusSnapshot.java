@@ -0,0 +1,63 @@
+package com.stockmate.order.api.order.dto;
+
+import com.stockmate.order.api.order.entity.Order;
+import com.stockmate.order.api.order.entity.OrderStatus;
+import com.stockmate.order.api.order.entity.PaymentType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 상태 스냅샷 (order-status 압축 토픽, key = orderId)
+ * - 다른 서비스는 이 토픽으로 자체 조회 모델을 유지하고 주문 서버 조회 API 호출을 줄임
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderStatusSnapshot {
+    private Long orderId;
+    private String orderNumber;
+    private Long memberId;
+    private OrderStatus orderStatus;
+    private OrderStatus previousStatus;
+    private PaymentType paymentType;
+    private int totalPrice;
+    private LocalDate requestedShippingDate;
+    private LocalDate shippingDate;
+    private String carrier;
+    private String trackingNumber;
+    private String rejectedMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime publishedAt;
+
+    public static OrderStatusSnapshot of(Order order, OrderStatus previousStatus) {
+        return of(order, previousStatus, order.getOrderStatus(), order.getUpdatedAt());
+    }
+
+    // 상태 전이 시점의 상태/수정 시각으로 구성 (나머지 필드는 주문의 현재 값)
+    public static OrderStatusSnapshot of(Order order, OrderStatus previousStatus, OrderStatus orderStatus, LocalDateTime updatedAt) {
+        return OrderStatusSnapshot.builder()
+                .orderId(order.getOrderId())
+                .orderNumber(order.getOrderNumber())
+                .memberId(order.getMemberId())
+                .orderStatus(orderStatus)
+                .previousStatus(previousStatus)
+                .paymentType(order.getPaymentType())
+                .totalPrice(order.getTotalPrice())
+                .requestedShippingDate(order.getRequestedShippingDate())
+                .shippingDate(order.getShippingDate())
+                .carrier(order.getCarrier())
+                .trackingNumber(order.getTrackingNumber())
+                .rejectedMessage(order.getRejectedMessage())
+                .createdAt(order.getCreatedAt())
+                .updatedAt(updatedAt)
+                .publishedAt(LocalDateTime.now())
+                .build();
+    }
+}
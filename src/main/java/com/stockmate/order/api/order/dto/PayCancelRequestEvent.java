@@ -19,8 +19,13 @@ public class PayCancelRequestEvent {
     private PaymentType paymentType;
     private int totalPrice;
     private OrderStatus orderStatus;
+    private String cancelAttemptId; // 비동기 취소 시도 식별자 (결과 이벤트의 approvalAttemptId 로 회신)
 
     public static PayCancelRequestEvent of (Order o, Long memberId) {
+        return of(o, memberId, null);
+    }
+
+    public static PayCancelRequestEvent of (Order o, Long memberId, String cancelAttemptId) {
         return PayCancelRequestEvent.builder()
                 .orderId(o.getOrderId())
                 .memberId(memberId)
@@ -28,6 +33,7 @@ public class PayCancelRequestEvent {
                 .paymentType(o.getPaymentType())
                 .totalPrice(o.getTotalPrice())
                 .orderStatus(o.getOrderStatus())
+                .cancelAttemptId(cancelAttemptId)
                 .build();
     }
 }
@@ -8,6 +8,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 @Entity
 @Table(name = "orders")
@@ -15,6 +16,7 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder(toBuilder = true)
+@EntityListeners(OrderStatusChangeListener.class)
 public class Order extends BaseTimeEntity {
 
     @Id
@@ -50,6 +52,19 @@ public class Order extends BaseTimeEntity {
     @Column(name = "approval_started_at")
     private LocalDateTime approvalStartedAt; // 승인 시작 시간 (장기 PENDING 방지용)
 
+    @Column(name = "deduct_batch_key")
+    private String deductBatchKey; // 반영 여부를 알 수 없는 재고 일괄 차감의 Idempotency-Key (설정된 주문은 만료 복원 제외)
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status_before_cancel", length = 50)
+    private OrderStatus statusBeforeCancel; // 비동기 취소 실패 시 복원할 상태
+
+    @Column(name = "cancel_attempt_id")
+    private String cancelAttemptId; // 비동기 취소 시도 식별자 (늦게 도착한 취소 결과 차단)
+
+    @Column(name = "cancel_started_at")
+    private LocalDateTime cancelStartedAt; // 비동기 취소 시작 시간 (장기 PENDING_CANCEL 방지용)
+
     @Column(name = "member_id", nullable = false)
     private Long memberId; // 가맹점 ID
 
@@ -57,6 +72,20 @@ public class Order extends BaseTimeEntity {
     @Builder.Default
     private List<OrderItem> orderItems = new ArrayList<>();
 
+    @Transient
+    @Setter(AccessLevel.NONE)
+    private OrderStatus publishedStatus; // 마지막으로 발행(또는 로드)된 상태 - 상태 변경 감지용
+
+    @Transient
+    @Setter(AccessLevel.NONE)
+    private LocalDateTime publishedUpdatedAt; // 마지막으로 발행(또는 로드)된 시점의 수정 시각
+
+    // 현재 상태를 발행된 상태로 기록
+    public void markStatusPublished() {
+        this.publishedStatus = this.orderStatus;
+        this.publishedUpdatedAt = getUpdatedAt();
+    }
+
     @PrePersist
     public void generateOrderNumber() {
         if (this.orderNumber == null) {
@@ -68,6 +97,26 @@ public class Order extends BaseTimeEntity {
     // 주문 취소
     public void cancel() {
         this.orderStatus = OrderStatus.CANCELLED;
+        this.statusBeforeCancel = null;
+    }
+
+    // 비동기 취소 시작 (결제 취소 결과 대기 상태로 변경)
+    public void startCancel(String attemptId) {
+        this.statusBeforeCancel = this.orderStatus;
+        this.orderStatus = OrderStatus.PENDING_CANCEL;
+        this.cancelAttemptId = attemptId;
+        this.cancelStartedAt = LocalDateTime.now();
+    }
+
+    // 진행 중인 비동기 취소 시도의 결과인지 확인
+    public boolean isPendingCancelAttempt(String attemptId) {
+        return this.orderStatus == OrderStatus.PENDING_CANCEL && Objects.equals(this.cancelAttemptId, attemptId);
+    }
+
+    // 결제 취소 실패 시 취소 요청 이전 상태로 되돌림
+    public void revertCancel() {
+        this.orderStatus = this.statusBeforeCancel != null ? this.statusBeforeCancel : OrderStatus.PAY_COMPLETED;
+        this.statusBeforeCancel = null;
     }
 
     // 주문 승인 요청 시작 (승인 대기 상태로 변경)
@@ -83,6 +132,12 @@ public class Order extends BaseTimeEntity {
     // 주문 승인으로 변경
     public void approve() {
         this.orderStatus = OrderStatus.APPROVAL_ORDER;
+        this.deductBatchKey = null;
+    }
+
+    // 재고 차감 결과 불명으로 승인 보류 (차감됐을 수 있으므로 자동 복원 대상에서 제외)
+    public void holdApproval(String deductBatchKey) {
+        this.deductBatchKey = deductBatchKey;
     }
 
     // 주문 반려
@@ -94,6 +149,7 @@ public class Order extends BaseTimeEntity {
     // 주문 승인 실패 시 다시 주문 완료 상태로 되돌림
     public void rollbackToPayCompleted() {
         this.orderStatus = OrderStatus.PAY_COMPLETED;
+        this.deductBatchKey = null;
     }
 
     // 배송 등록
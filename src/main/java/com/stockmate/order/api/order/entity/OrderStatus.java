@@ -22,6 +22,7 @@ public enum OrderStatus {
     RECEIVED("RECEIVED"), // 입고 완료
     REFUNDED("REFUNDED"), // 환불 완료
     REFUND_REJECTED("REFUND_REJECTED"),
+    PENDING_CANCEL("PENDING_CANCEL"), // 취소 대기 (결제 취소 결과 대기 중)
     CANCELLED("CANCELLED"); // 주문 취소
 
     private final String key;
@@ -0,0 +1,41 @@
+package com.stockmate.order.api.order.entity;
+
+import com.stockmate.order.common.event.OrderStatusChangedEvent;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 상태 변경 감지 (JPA 엔티티 리스너)
+ * - 저장/수정 flush 시점에 상태가 바뀌었으면 OrderStatusChangedEvent 발행
+ * - 실제 Kafka 발행은 커밋 이후 HandleOrderStatusChange 에서 처리 (롤백된 변경은 발행되지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderStatusChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostLoad
+    public void onLoad(Order order) {
+        order.markStatusPublished();
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Order order) {
+        OrderStatus previousStatus = order.getPublishedStatus();
+        if (order.getOrderStatus() == previousStatus) {
+            return;
+        }
+        LocalDateTime previousUpdatedAt = order.getPublishedUpdatedAt();
+        order.markStatusPublished();
+        eventPublisher.publishEvent(new OrderStatusChangedEvent(order, previousStatus, previousUpdatedAt,
+                order.getOrderStatus(), order.getUpdatedAt()));
+    }
+}
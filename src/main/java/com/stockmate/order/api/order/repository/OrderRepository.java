@@ -17,9 +17,16 @@ public interface OrderRepository extends JpaRepository<Order, Long>, OrderReposi
     @Query("SELECT o FROM Order o LEFT JOIN FETCH o.orderItems WHERE o.orderId = :orderId")
     Optional<Order> findByIdWithItems(@Param("orderId") Long orderId);
     
-    // 만료된 PENDING_APPROVAL 주문 조회 (스케줄러용)
-    @Query("SELECT o FROM Order o WHERE o.orderStatus = :status AND o.approvalStartedAt < :expiryTime")
+    // 만료된 PENDING_APPROVAL 주문 조회 (스케줄러용) - 재고 차감 결과 불명으로 보류된 주문은 제외
+    @Query("SELECT o FROM Order o WHERE o.orderStatus = :status AND o.approvalStartedAt < :expiryTime AND o.deductBatchKey IS NULL")
     List<Order> findExpiredPendingApprovals(@Param("status") OrderStatus status, @Param("expiryTime") LocalDateTime expiryTime);
+
+    // 재고 차감 결과 불명으로 보류된 주문 조회 (스케줄러용)
+    List<Order> findByOrderStatusAndDeductBatchKeyIsNotNull(OrderStatus status);
+
+    // 만료된 PENDING_CANCEL 주문 조회 (스케줄러용)
+    @Query("SELECT o FROM Order o WHERE o.orderStatus = :status AND o.cancelStartedAt < :expiryTime")
+    List<Order> findExpiredPendingCancels(@Param("status") OrderStatus status, @Param("expiryTime") LocalDateTime expiryTime);
     
     // orderNumber로 주문 조회
     Optional<Order> findByOrderNumber(String orderNumber);
@@ -4,16 +4,22 @@ import com.stockmate.order.api.order.dto.*;
 import com.stockmate.order.api.order.service.fallback.InventoryServiceFallback;
 import com.stockmate.order.common.exception.BadRequestException;
 import com.stockmate.order.common.exception.InternalServerException;
+import com.stockmate.order.common.exception.ServiceUnavailableException;
 import com.stockmate.order.common.response.ErrorStatus;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
 
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -24,6 +30,8 @@ import java.util.Map;
 @Slf4j
 public class InventoryService {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final WebClient webClient;
     private final InventoryServiceFallback inventoryServiceFallback;
 
@@ -33,6 +41,9 @@ public class InventoryService {
     @Value("${information.server.url}")
     private String informationServerUrl;
 
+    @Value("${inventory.deduct.batch-timeout-ms:10000}")
+    private long deductBatchTimeoutMs;
+
     // @CircuitBreaker(name = "partsService", fallbackMethod = "checkInventoryFallback")
     public InventoryCheckResponseDTO checkInventory(List<OrderItemCheckRequestDTO> orderItems) {
         log.info("부품 재고 체크 요청 - 주문 항목 수: {}", orderItems.size());
@@ -186,6 +197,63 @@ public class InventoryService {
         }
     }
 
+    /**
+     * 본사 재고 일괄 차감 (주문 일괄 승인용) - orders: [{orderId, orderNumber, items}]
+     * - batchKey 를 Idempotency-Key 헤더로 전달하여 같은 묶음의 재요청은 Parts 서버에서 한 번만 반영
+     * - 반영되지 않은 것이 확실한 실패: 4xx(409 제외) 응답 → BadRequestException, 연결 실패 → ServiceUnavailableException
+     * - 반영 여부를 알 수 없는 실패 (타임아웃, 5xx 등): InternalServerException
+     */
+    public void deductStockBatch(String batchKey, List<Map<String, Object>> orders) {
+        log.info("Parts 서버 재고 일괄 차감 API 호출 - Batch Key: {}, 주문 수: {}", batchKey, orders.size());
+
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("orders", orders);
+
+        try {
+            String response = webClient.post()
+                    .uri(inventoryServerUrl + "/api/v1/parts/deduct-stock/batch")
+                    .header(IDEMPOTENCY_KEY_HEADER, batchKey)
+                    .bodyValue(requestBody)
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .timeout(Duration.ofMillis(deductBatchTimeoutMs))
+                    .block();
+
+            log.info("Parts 서버 재고 일괄 차감 성공 - Batch Key: {}, 주문 수: {}, 응답: {}", batchKey, orders.size(), response);
+
+        } catch (WebClientResponseException e) {
+            // 409 는 같은 키의 이전 요청이 처리 중일 수 있으므로 반영 여부 불명으로 취급
+            if (e.getStatusCode().is4xxClientError() && e.getStatusCode().value() != HttpStatus.CONFLICT.value()) {
+                log.warn("Parts 서버 재고 일괄 차감 거절 - Batch Key: {}, Status: {}, Response: {}",
+                        batchKey, e.getStatusCode(), e.getResponseBodyAsString());
+                throw new BadRequestException("Parts 서버 재고 일괄 차감 거절: " + e.getMessage());
+            }
+            log.error("Parts 서버 재고 일괄 차감 실패 (반영 여부 불명) - Batch Key: {}, Status: {}, Response: {}",
+                    batchKey, e.getStatusCode(), e.getResponseBodyAsString());
+            throw new InternalServerException("Parts 서버 재고 일괄 차감 실패: " + e.getMessage());
+        } catch (WebClientRequestException e) {
+            if (isConnectFailure(e)) {
+                log.warn("Parts 서버 연결 실패 - Batch Key: {}, Error: {}", batchKey, e.getMessage());
+                throw new ServiceUnavailableException("Parts 서버 연결 실패: " + e.getMessage());
+            }
+            log.error("Parts 서버 재고 일괄 차감 요청 오류 (반영 여부 불명) - Batch Key: {}, Error: {}", batchKey, e.getMessage(), e);
+            throw new InternalServerException("Parts 서버 재고 일괄 차감 실패: " + e.getMessage());
+        } catch (Exception e) {
+            log.error("Parts 서버 재고 일괄 차감 중 예외 발생 (반영 여부 불명) - Batch Key: {}, Error: {}", batchKey, e.getMessage(), e);
+            throw new InternalServerException("Parts 서버 재고 일괄 차감 실패: " + e.getMessage());
+        }
+    }
+
+    // 요청 전송 전에 연결 단계에서 실패했는지 여부 (요청이 서버에 도달하지 않음)
+    private boolean isConnectFailure(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException || cause instanceof UnknownHostException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     // 가맹점 부품 재고 업데이트 (입고 처리)
     public void updateStoreInventory(Long memberId, List<Map<String, Object>> items) {
         log.info("Parts 서버 재고 업데이트 API 호출 - 가맹점 ID: {}, 아이템 수: {}", memberId, items.size());
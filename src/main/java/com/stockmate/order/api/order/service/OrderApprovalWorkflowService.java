@@ -0,0 +1,300 @@
+package com.stockmate.order.api.order.service;
+
+import com.stockmate.order.api.order.entity.Order;
+import com.stockmate.order.api.order.entity.OrderStatus;
+import com.stockmate.order.api.order.repository.OrderRepository;
+import com.stockmate.order.api.websocket.handler.DashboardWebSocketHandler;
+import com.stockmate.order.api.websocket.handler.OrderWebSocketHandler;
+import com.stockmate.order.common.exception.BadRequestException;
+import com.stockmate.order.common.exception.NotFoundException;
+import com.stockmate.order.common.exception.ServiceUnavailableException;
+import com.stockmate.order.common.response.ErrorStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 승인 워크플로우 (비동기)
+ * - HTTP 스레드는 접수만 하고, 상태 변경 / 재고 차감 / WebSocket 전송은 approvalExecutor 에서 처리
+ * - 일괄 승인 시 재고 차감을 묶음 단위로 Parts 서버에 요청
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderApprovalWorkflowService {
+
+    private final OrderRepository orderRepository;
+    private final InventoryService inventoryService;
+    private final OrderTransactionService orderTransactionService;
+    private final OrderWebSocketHandler orderWebSocketHandler;
+    private final DashboardWebSocketHandler dashboardWebSocketHandler;
+
+    @Qualifier("approvalExecutor")
+    private final ThreadPoolTaskExecutor approvalExecutor;
+
+    @Value("${order.approval.bulk.max-size:200}")
+    private int bulkMaxSize;
+
+    @Value("${order.approval.bulk.deduct-batch-size:20}")
+    private int deductBatchSize;
+
+    @Value("${order.approval.bulk.deduct-retries:2}")
+    private int deductBatchRetries;
+
+    // 단건 승인 접수
+    public void submitApproval(Long orderId, Long userId) {
+        submit(() -> processApproval(orderId, userId), 1);
+    }
+
+    // 일괄 승인 접수
+    public void submitBulkApproval(List<Long> orderIds, Long userId) {
+        if (orderIds.size() > bulkMaxSize) {
+            log.warn("일괄 승인 요청 건수 초과 - 요청: {}, 최대: {}", orderIds.size(), bulkMaxSize);
+            throw new BadRequestException(ErrorStatus.BULK_APPROVAL_SIZE_EXCEEDED_EXCEPTION.getMessage());
+        }
+        submit(() -> processBulkApproval(orderIds, userId), orderIds.size());
+    }
+
+    private void submit(Runnable task, int orderCount) {
+        try {
+            approvalExecutor.execute(task);
+        } catch (TaskRejectedException e) {
+            log.error("승인 작업 대기열 초과 - 요청 주문 수: {}, 대기 작업 수: {}",
+                    orderCount, approvalExecutor.getThreadPoolExecutor().getQueue().size());
+            throw new ServiceUnavailableException(ErrorStatus.APPROVAL_QUEUE_FULL_EXCEPTION.getMessage());
+        }
+    }
+
+    // 단건 승인 처리
+    private void processApproval(Long orderId, Long userId) {
+        log.info("=== 주문 승인 워크플로우 시작 === Order ID: {}, User ID: {}", orderId, userId);
+
+        try {
+            if (!startApproval(orderId, userId)) {
+                return;
+            }
+
+            // OrderItems와 함께 로드 (LazyInitializationException 방지)
+            Order orderWithItems = orderRepository.findByIdWithItems(orderId)
+                    .orElseThrow(() -> new NotFoundException(ErrorStatus.ORDER_NOT_FOUND_EXCEPTION.getMessage()));
+
+            deductAndApprove(orderWithItems, userId);
+
+        } catch (Exception e) {
+            log.error("주문 승인 처리 중 오류 발생 - Order ID: {}, 에러: {}", orderId, e.getMessage(), e);
+
+            orderWebSocketHandler.sendToUser(
+                    userId,
+                    orderId,
+                    OrderStatus.REJECTED,
+                    "ERROR",
+                    "주문 승인 처리 중 예상치 못한 오류가 발생했습니다: " + e.getMessage(),
+                    null
+            );
+        }
+    }
+
+    // 일괄 승인 처리
+    private void processBulkApproval(List<Long> orderIds, Long userId) {
+        log.info("=== 주문 일괄 승인 워크플로우 시작 === 주문 수: {}, User ID: {}", orderIds.size(), userId);
+
+        // 1. 승인 대기 상태로 변경 (주문별 독립 트랜잭션)
+        List<Long> startedOrderIds = new ArrayList<>();
+        for (Long orderId : orderIds) {
+            if (startApproval(orderId, userId)) {
+                startedOrderIds.add(orderId);
+            }
+        }
+
+        if (startedOrderIds.isEmpty()) {
+            log.warn("일괄 승인 대상 주문 없음 - 요청 주문 수: {}", orderIds.size());
+            return;
+        }
+
+        // 2. OrderItems와 함께 한 번에 로드
+        List<Order> orders = orderRepository.findWithItemsByIdIn(startedOrderIds);
+
+        // 3. 재고 차감 묶음 단위 처리
+        for (int from = 0; from < orders.size(); from += deductBatchSize) {
+            List<Order> chunk = orders.subList(from, Math.min(from + deductBatchSize, orders.size()));
+            deductChunkAndApprove(chunk, userId);
+        }
+
+        log.info("=== 주문 일괄 승인 워크플로우 종료 === 요청: {}, 처리 대상: {}", orderIds.size(), startedOrderIds.size());
+    }
+
+    // 주문 상태를 PENDING_APPROVAL 로 변경하고 진행 상황 전송 - 실패 시 false
+    private boolean startApproval(Long orderId, Long userId) {
+        String approvalAttemptId = "WS-" + System.currentTimeMillis() + "-" + orderId;
+
+        try {
+            orderTransactionService.updateOrderStatusToApproval(orderId, approvalAttemptId);
+        } catch (Exception e) {
+            log.warn("승인 시작 실패 - Order ID: {}, 사유: {}", orderId, e.getMessage());
+            orderWebSocketHandler.sendToUser(
+                    userId,
+                    orderId,
+                    OrderStatus.REJECTED,
+                    "ERROR",
+                    "주문 승인을 시작할 수 없습니다: " + e.getMessage(),
+                    null
+            );
+            return false;
+        }
+
+        log.info("승인 시도 ID 생성 - Order ID: {}, Attempt ID: {}", orderId, approvalAttemptId);
+        orderWebSocketHandler.sendToUser(
+                userId,
+                orderId,
+                OrderStatus.PENDING_APPROVAL,
+                "STOCK_DEDUCTION",
+                "재고 차감을 요청합니다.",
+                null
+        );
+        return true;
+    }
+
+    /**
+     * 묶음 재고 차감
+     * - 반영되지 않은 것이 확실한 실패 → 주문별 단건 차감으로 재시도하여 실패 주문만 롤백
+     * - 반영 여부를 알 수 없는 실패 → 같은 Idempotency-Key 로 재요청 (중복 차감 방지), 끝내 불명이면 승인 대기로 보류
+     */
+    private void deductChunkAndApprove(List<Order> chunk, Long userId) {
+        List<Map<String, Object>> requests = chunk.stream()
+                .map(order -> {
+                    Map<String, Object> request = new HashMap<>();
+                    request.put("orderId", order.getOrderId());
+                    request.put("orderNumber", order.getOrderNumber());
+                    request.put("items", toDeductItems(order));
+                    return request;
+                })
+                .collect(Collectors.toList());
+
+        String batchKey = "DEDUCT-BATCH-" + UUID.randomUUID();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                inventoryService.deductStockBatch(batchKey, requests);
+                break;
+            } catch (BadRequestException | ServiceUnavailableException e) {
+                log.warn("재고 일괄 차감 미반영 실패, 주문별 차감으로 전환 - Batch Key: {}, 주문 수: {}, 에러: {}",
+                        batchKey, chunk.size(), e.getMessage());
+                chunk.forEach(order -> deductAndApprove(order, userId));
+                return;
+            } catch (Exception e) {
+                if (attempt > deductBatchRetries) {
+                    log.error("재고 일괄 차감 결과 확인 불가, 승인 보류 - Batch Key: {}, 주문 수: {}, 에러: {}",
+                            batchKey, chunk.size(), e.getMessage());
+                    chunk.forEach(order -> holdDeductionUnknown(order, userId, batchKey));
+                    return;
+                }
+                log.warn("재고 일괄 차감 결과 불명, 같은 키로 재요청 - Batch Key: {}, 시도: {}, 에러: {}",
+                        batchKey, attempt, e.getMessage());
+            }
+        }
+
+        chunk.forEach(order -> completeApproval(order, userId));
+    }
+
+    // 재고 차감 반영 여부를 알 수 없는 주문 - 롤백하지 않고 차감 키와 함께 승인 대기로 보류 (만료 스케줄러 복원 제외)
+    private void holdDeductionUnknown(Order order, Long userId, String batchKey) {
+        try {
+            orderTransactionService.holdApproval(order.getOrderId(), batchKey);
+        } catch (Exception e) {
+            log.error("승인 보류 기록 실패 - 수동 확인 필요 - Order ID: {}, Batch Key: {}, 에러: {}",
+                    order.getOrderId(), batchKey, e.getMessage(), e);
+        }
+
+        orderWebSocketHandler.sendToUser(
+                userId,
+                order.getOrderId(),
+                OrderStatus.PENDING_APPROVAL,
+                "ERROR",
+                "재고 차감 결과를 확인할 수 없어 승인이 보류되었습니다. 잠시 후 주문 상태를 확인해주세요.",
+                null
+        );
+    }
+
+    // 단건 재고 차감 후 승인
+    private void deductAndApprove(Order orderWithItems, Long userId) {
+        Long orderId = orderWithItems.getOrderId();
+
+        try {
+            inventoryService.deductStock(orderId, orderWithItems.getOrderNumber(), toDeductItems(orderWithItems));
+            log.info("재고 차감 API 호출 성공 - Order ID: {}", orderId);
+        } catch (Exception e) {
+            log.error("재고 차감 API 호출 실패 - Order ID: {}, 에러: {}", orderId, e.getMessage(), e);
+
+            // API 호출 실패 시 롤백
+            orderTransactionService.rollbackOrderToCompleted(orderId);
+
+            orderWebSocketHandler.sendToUser(
+                    userId,
+                    orderId,
+                    OrderStatus.PAY_COMPLETED,
+                    "ERROR",
+                    "재고 차감 실패: " + e.getMessage(),
+                    null
+            );
+            return;
+        }
+
+        completeApproval(orderWithItems, userId);
+    }
+
+    // 승인 완료 처리 및 알림
+    private void completeApproval(Order order, Long userId) {
+        Long orderId = order.getOrderId();
+
+        try {
+            orderTransactionService.approveOrder(orderId);
+            log.info("주문 승인 완료 - Order ID: {}", orderId);
+        } catch (Exception e) {
+            log.error("주문 승인 완료 처리 실패 - Order ID: {}, 에러: {}", orderId, e.getMessage(), e);
+            orderWebSocketHandler.sendToUser(
+                    userId,
+                    orderId,
+                    OrderStatus.PENDING_APPROVAL,
+                    "ERROR",
+                    "주문 승인 완료 처리 중 오류가 발생했습니다: " + e.getMessage(),
+                    null
+            );
+            return;
+        }
+
+        orderWebSocketHandler.sendToUser(
+                userId,
+                orderId,
+                OrderStatus.APPROVAL_ORDER,
+                "APPROVAL_SUCCESS",
+                "주문이 승인되었습니다.",
+                null
+        );
+
+        // 창고관리자에게 주문 승인 알림 전송
+        try {
+            dashboardWebSocketHandler.notifyWarehouseOrderApproved(orderId, order.getOrderNumber());
+        } catch (Exception e) {
+            log.error("창고관리자 알림 전송 중 오류 발생 - Order ID: {}, Error: {}", orderId, e.getMessage(), e);
+            // 알림 실패해도 주문 승인은 완료
+        }
+    }
+
+    // 재고 차감 요청 데이터 생성
+    private List<Map<String, Object>> toDeductItems(Order order) {
+        return order.getOrderItems().stream()
+                .map(item -> {
+                    Map<String, Object> itemMap = new HashMap<>();
+                    itemMap.put("partId", item.getPartId());
+                    itemMap.put("amount", item.getAmount());
+                    return itemMap;
+                })
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,282 @@
+package com.stockmate.order.api.order.service;
+
+import com.stockmate.order.api.order.dto.*;
+import com.stockmate.order.api.order.entity.OrderStatus;
+import com.stockmate.order.api.websocket.handler.OrderWebSocketHandler;
+import com.stockmate.order.common.exception.BadRequestException;
+import com.stockmate.order.common.exception.TooManyRequestsException;
+import com.stockmate.order.common.response.ErrorStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 접수 대기열 (선택 모드)
+ * - HTTP 요청은 제한된 대기열에 적재만 하고 즉시 접수 ID 반환 (대기열 초과 시 429 + Retry-After)
+ * - 고정 워커가 여러 주문을 모아 재고 체크를 한 번에 요청한 뒤 주문별로 저장
+ * - 처리 결과는 WebSocket 으로 요청자에게 전송
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderIntakeService {
+
+    private final OrderService orderService;
+    private final InventoryService inventoryService;
+    private final OrderWebSocketHandler orderWebSocketHandler;
+
+    @Value("${order.intake.enabled:false}")
+    private boolean enabled;
+
+    @Value("${order.intake.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${order.intake.workers:4}")
+    private int workerCount;
+
+    @Value("${order.intake.batch-size:20}")
+    private int batchSize;
+
+    @Value("${order.intake.retry-after-seconds:2}")
+    private long retryAfterSeconds;
+
+    private BlockingQueue<IntakeRequest> queue;
+    private ExecutorService workers;
+    private volatile boolean running;
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            log.info("[OrderIntake] 주문 접수 대기열 비활성화");
+            return;
+        }
+
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        AtomicInteger threadIndex = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "order-intake-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::workerLoop);
+        }
+        log.info("[OrderIntake] 주문 접수 대기열 시작 - 용량: {}, 워커: {}, 배치 크기: {}", queueCapacity, workerCount, batchSize);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (workers == null) {
+            return;
+        }
+        running = false;
+        workers.shutdown();
+        if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("[OrderIntake] 종료 대기 시간 초과 - 미처리 주문 수: {}", queue.size());
+            workers.shutdownNow();
+            List<IntakeRequest> remaining = new ArrayList<>();
+            queue.drainTo(remaining);
+            remaining.forEach(request -> notifyFailed(request, "서버 종료로 주문 접수가 취소되었습니다."));
+        }
+    }
+
+    /**
+     * 주문 접수 - 대기열에 적재 후 접수 ID 반환
+     */
+    public OrderIntakeResponseDTO submit(OrderRequestDTO orderRequestDTO, Long memberId) {
+        if (!enabled) {
+            throw new BadRequestException(ErrorStatus.ORDER_INTAKE_DISABLED_EXCEPTION.getMessage());
+        }
+
+        String intakeId = "INTAKE-" + UUID.randomUUID();
+        if (!queue.offer(new IntakeRequest(intakeId, orderRequestDTO, memberId))) {
+            log.warn("[OrderIntake] 대기열 초과 - Member ID: {}, 대기 주문 수: {}", memberId, queue.size());
+            throw new TooManyRequestsException(ErrorStatus.ORDER_INTAKE_QUEUE_FULL_EXCEPTION.getMessage(), retryAfterSeconds);
+        }
+
+        log.info("[OrderIntake] 주문 접수 - Intake ID: {}, Member ID: {}", intakeId, memberId);
+        return OrderIntakeResponseDTO.of(intakeId, queue.size());
+    }
+
+    private void workerLoop() {
+        // 종료 시에도 대기열에 남은 주문은 모두 처리
+        while (running || !queue.isEmpty()) {
+            try {
+                IntakeRequest first = queue.poll(500, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<IntakeRequest> batch = new ArrayList<>();
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                processBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("[OrderIntake] 워커 처리 중 예외 발생 - Error: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void processBatch(List<IntakeRequest> batch) {
+        log.info("[OrderIntake] 배치 처리 시작 - 주문 수: {}", batch.size());
+
+        int handled = 0;
+        try {
+            Map<Long, InventoryCheckItemResponseDTO> itemByPartId;
+            try {
+                itemByPartId = checkInventoryMerged(batch);
+            } catch (RuntimeException e) {
+                if (!isRejectedByInventory(e)) {
+                    throw e;
+                }
+                // 품절 / 존재하지 않는 부품이 섞인 경우 - 주문별로 재고 체크하여 해당 주문만 실패 처리
+                log.warn("[OrderIntake] 일괄 재고 체크 실패, 주문별 체크로 전환 - 주문 수: {}, 사유: {}", batch.size(), e.getMessage());
+                for (IntakeRequest request : batch) {
+                    processSingle(request);
+                    handled++;
+                }
+                return;
+            }
+
+            for (IntakeRequest request : batch) {
+                InventoryCheckResponseDTO checkResult = sliceCheckResult(request.orderRequest(), itemByPartId);
+                if (checkResult == null) {
+                    // 일괄 체크 결과에 해당 주문의 부품 정보가 없으면 주문별로 다시 체크
+                    log.warn("[OrderIntake] 일괄 체크 결과에 부품 정보 누락, 주문별 체크로 전환 - Intake ID: {}", request.intakeId());
+                    processSingle(request);
+                } else {
+                    place(request, checkResult);
+                }
+                handled++;
+            }
+        } catch (Exception e) {
+            // 처리하지 못한 주문은 모두 실패 알림 (요청자가 결과를 받지 못하는 일이 없도록)
+            log.error("[OrderIntake] 배치 처리 중 오류 - 주문 수: {}, 미처리 주문 수: {}, 에러: {}",
+                    batch.size(), batch.size() - handled, e.getMessage(), e);
+            batch.subList(handled, batch.size()).forEach(request -> notifyFailed(request, e.getMessage()));
+        }
+    }
+
+    // 재고 체크가 요청 내용 때문에 거절된 경우 (BadRequestException 또는 Parts 서버 4xx) - 주문별 체크로 원인 주문만 실패 처리
+    private static boolean isRejectedByInventory(RuntimeException e) {
+        return e instanceof BadRequestException
+                || (e instanceof WebClientResponseException ex && ex.getStatusCode().is4xxClientError());
+    }
+
+    // 배치 내 주문들의 부품별 수량을 합산하여 재고 체크 1회 요청
+    private Map<Long, InventoryCheckItemResponseDTO> checkInventoryMerged(List<IntakeRequest> batch) {
+        Map<Long, Integer> amountByPartId = new LinkedHashMap<>();
+        for (IntakeRequest request : batch) {
+            for (OrderItemRequestDTO item : request.orderRequest().getOrderItems()) {
+                amountByPartId.merge(item.getPartId(), item.getAmount(), Integer::sum);
+            }
+        }
+
+        List<OrderItemCheckRequestDTO> checkItems = amountByPartId.entrySet().stream()
+                .map(entry -> OrderItemCheckRequestDTO.builder()
+                        .partId(entry.getKey())
+                        .amount(entry.getValue())
+                        .build())
+                .collect(Collectors.toList());
+
+        InventoryCheckResponseDTO checkResult = inventoryService.checkInventory(checkItems);
+        log.info("[OrderIntake] 일괄 재고 체크 완료 - 주문 수: {}, 부품 종류 수: {}", batch.size(), checkItems.size());
+
+        return checkResult.getOrderList().stream()
+                .filter(item -> item != null && item.getPartId() != null)
+                .collect(Collectors.toMap(InventoryCheckItemResponseDTO::getPartId, item -> item, (a, b) -> a));
+    }
+
+    // 일괄 체크 결과에서 해당 주문의 부품만 추려 주문 단위 체크 결과 구성 - 부품 정보가 빠져 있으면 null
+    private InventoryCheckResponseDTO sliceCheckResult(OrderRequestDTO orderRequest, Map<Long, InventoryCheckItemResponseDTO> itemByPartId) {
+        List<InventoryCheckItemResponseDTO> orderList = new ArrayList<>();
+        int totalPrice = 0;
+        for (OrderItemRequestDTO item : orderRequest.getOrderItems()) {
+            InventoryCheckItemResponseDTO info = itemByPartId.get(item.getPartId());
+            if (info == null || info.getPrice() == null) {
+                return null;
+            }
+            orderList.add(info);
+            totalPrice += (int) (info.getPrice() * item.getAmount());
+        }
+        return InventoryCheckResponseDTO.builder()
+                .orderList(orderList)
+                .totalPrice(totalPrice)
+                .build();
+    }
+
+    private void processSingle(IntakeRequest request) {
+        List<OrderItemCheckRequestDTO> checkItems = request.orderRequest().getOrderItems().stream()
+                .map(item -> OrderItemCheckRequestDTO.builder()
+                        .partId(item.getPartId())
+                        .amount(item.getAmount())
+                        .build())
+                .collect(Collectors.toList());
+
+        InventoryCheckResponseDTO checkResult;
+        try {
+            checkResult = inventoryService.checkInventory(checkItems);
+        } catch (Exception e) {
+            log.warn("[OrderIntake] 재고 체크 실패 - Intake ID: {}, 사유: {}", request.intakeId(), e.getMessage());
+            notifyFailed(request, e.getMessage());
+            return;
+        }
+        place(request, checkResult);
+    }
+
+    private void place(IntakeRequest request, InventoryCheckResponseDTO checkResult) {
+        MakeOrderResponseDto response;
+        try {
+            response = orderService.placeOrder(request.orderRequest(), request.memberId(), checkResult);
+        } catch (Exception e) {
+            log.error("[OrderIntake] 주문 저장 실패 - Intake ID: {}, 에러: {}", request.intakeId(), e.getMessage(), e);
+            notifyFailed(request, e.getMessage());
+            return;
+        }
+
+        log.info("[OrderIntake] 주문 생성 완료 - Intake ID: {}, Order ID: {}", request.intakeId(), response.getOrderId());
+        Map<String, Object> data = new HashMap<>();
+        data.put("intakeId", request.intakeId());
+        data.put("orderNumber", response.getOrderNumber());
+        orderWebSocketHandler.sendToUser(
+                request.memberId(),
+                response.getOrderId(),
+                OrderStatus.ORDER_COMPLETED,
+                "ORDER_INTAKE_COMPLETED",
+                "주문이 생성되었습니다.",
+                data
+        );
+    }
+
+    private void notifyFailed(IntakeRequest request, String reason) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("intakeId", request.intakeId());
+        orderWebSocketHandler.sendToUser(
+                request.memberId(),
+                null,
+                OrderStatus.FAILED,
+                "ORDER_INTAKE_FAILED",
+                "주문 접수 처리 실패: " + reason,
+                data
+        );
+    }
+
+    private record IntakeRequest(String intakeId, OrderRequestDTO orderRequest, Long memberId) {
+    }
+}
@@ -19,9 +19,12 @@ import com.stockmate.order.common.producer.KafkaProducerService;
 import com.stockmate.order.common.response.ErrorStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import com.stockmate.order.api.idempotency.service.ProcessedEventStore;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -47,6 +50,8 @@ public class OrderService {
     private final ApplicationEventPublisher applicationEventPublisher;
     private final ApplicationNotificationService applicationNotificationService;
     private final PaymentService paymentService;
+    private final OrderApprovalWorkflowService orderApprovalWorkflowService;
+    private final ProcessedEventStore processedEventStore;
 
     @Transactional
     public MakeOrderResponseDto makeOrder(OrderRequestDTO orderRequestDTO, Long memberId) {
@@ -64,6 +69,12 @@ public class OrderService {
         InventoryCheckResponseDTO checkResult = inventoryService.checkInventory(checkItems);
         log.info("재고 체크 완료 - 총 금액: {}", checkResult.getTotalPrice());
 
+        return placeOrder(orderRequestDTO, memberId, checkResult);
+    }
+
+    // 재고 체크가 끝난 주문 저장 (주문 접수 대기열 워커에서도 사용)
+    @Transactional
+    public MakeOrderResponseDto placeOrder(OrderRequestDTO orderRequestDTO, Long memberId, InventoryCheckResponseDTO checkResult) {
         PaymentType paymentType;
         try {
             paymentType = PaymentType.valueOf(String.valueOf(orderRequestDTO.getPaymentType()));
@@ -154,31 +165,7 @@ public class OrderService {
                     return new NotFoundException(ErrorStatus.ORDER_NOT_FOUND_EXCEPTION.getMessage());
                 });
 
-        boolean isAdmin = role == Role.ADMIN || role == Role.SUPER_ADMIN;
-        if (!isAdmin && !order.getMemberId().equals(memberId)) {
-            log.error("권한 없음 - Order의 Member ID: {}, 요청자 Member ID: {}, Role: {}",
-                    order.getMemberId(), memberId, role);
-            throw new BadRequestException(ErrorStatus.INVALID_ROLE_EXCEPTION.getMessage());
-        }
-
-        if (order.getOrderStatus() == OrderStatus.CANCELLED) {
-            log.warn("이미 취소된 주문 - Order ID: {}", orderId);
-            throw new BadRequestException(ErrorStatus.ALREADY_CANCELLED_ORDER_EXCEPTION.getMessage());
-        }
-
-        if (!isAdmin && (
-                order.getOrderStatus() == OrderStatus.PENDING_SHIPPING ||
-                        order.getOrderStatus() == OrderStatus.SHIPPING ||
-                        order.getOrderStatus() == OrderStatus.PENDING_RECEIVING ||
-                        order.getOrderStatus() == OrderStatus.DELIVERED ||
-                        order.getOrderStatus() == OrderStatus.RECEIVED ||
-                        order.getOrderStatus() == OrderStatus.REFUNDED ||
-                        order.getOrderStatus() == OrderStatus.REFUND_REJECTED
-        )
-        ) {
-            log.warn("취소 불가능한 상태 - Order ID: {}, Status: {}", orderId, order.getOrderStatus());
-            throw new BadRequestException(ErrorStatus.ALREADY_SHIPPED_OR_DELIVERED_ORDER_EXCEPTION.getMessage());
-        }
+        validateCancelable(order, memberId, role);
 
         PayCancelResponseEvent response;
 
@@ -238,6 +225,184 @@ public class OrderService {
                 orderId, order.getOrderNumber(), role);
     }
 
+    // 주문 취소 요청 (비동기) - 결제 취소 결과는 Kafka 이벤트로 수신
+    @Transactional
+    public void requestCancelOrderAsync(Long orderId, Long memberId, Role role) {
+        log.info("비동기 주문 취소 요청 - Order ID: {}, Member ID: {}, Role: {}", orderId, memberId, role);
+
+        Order order = orderRepository.findById(orderId)
+                .orElseThrow(() -> {
+                    log.error("주문을 찾을 수 없음 - Order ID: {}", orderId);
+                    return new NotFoundException(ErrorStatus.ORDER_NOT_FOUND_EXCEPTION.getMessage());
+                });
+
+        validateCancelable(order, memberId, role);
+
+        // 취소 이전 상태 기준으로 이벤트 생성 후 취소 대기 상태로 변경
+        String attemptId = "CANCEL-" + System.currentTimeMillis() + "-" + orderId;
+        PayCancelRequestEvent cancelRequestEvent = PayCancelRequestEvent.of(order, memberId, attemptId);
+        order.startCancel(attemptId);
+        orderRepository.save(order);
+
+        // 커밋 이후 cancel-request 토픽으로 발행 (HandleCancelRequest)
+        applicationEventPublisher.publishEvent(cancelRequestEvent);
+
+        log.info("비동기 주문 취소 요청 접수 완료 - Order ID: {}, 이전 상태: {}, Attempt ID: {}",
+                orderId, order.getStatusBeforeCancel(), attemptId);
+    }
+
+    // 결제 취소 성공 이벤트 처리
+    @Transactional
+    public void handleCancelSuccess(CancelResponseEvent event, String eventKey) {
+        Order order = orderRepository.findById(event.getOrderId())
+                .orElseThrow(() -> {
+                    log.error("주문을 찾을 수 없음 - Order ID: {}", event.getOrderId());
+                    return new NotFoundException(ErrorStatus.ORDER_NOT_FOUND_EXCEPTION.getMessage());
+                });
+
+        runNotification(applyCancelSuccess(order, event));
+        processedEventStore.markProcessed(eventKey);
+    }
+
+    // 결제 취소 실패 이벤트 처리
+    @Transactional
+    public void handleCancelFailed(CancelResponseEvent event, String eventKey) {
+        Order order = orderRepository.findById(event.getOrderId())
+                .orElseThrow(() -> {
+                    log.error("주문을 찾을 수 없음 - Order ID: {}", event.getOrderId());
+                    return new NotFoundException(ErrorStatus.ORDER_NOT_FOUND_EXCEPTION.getMessage());
+                });
+
+        runNotification(applyCancelFailed(order, event));
+        processedEventStore.markProcessed(eventKey);
+    }
+
+    // 결제 취소 성공 상태 반영 - WebSocket 알림은 반환하여 호출 측에서 전송
+    private Runnable applyCancelSuccess(Order order, CancelResponseEvent event) {
+        // 비동기 취소 요청이 아닌 경우 기존 환불 처리 흐름 유지
+        if (order.getOrderStatus() != OrderStatus.PENDING_CANCEL) {
+            if (!isLateCancelResult(order, event, "성공")) {
+                order.setOrderStatus(OrderStatus.REFUNDED);
+                log.info("✅ 주문 상태 변경 완료 - Order ID: {}, 상태: {}", order.getOrderId(), OrderStatus.REFUNDED);
+            }
+            return null;
+        }
+        logUnmatchedCancelAttempt(order, event, "성공");
+
+        order.cancel();
+        orderRepository.save(order);
+
+        applicationNotificationService.saveNotification(
+                order,
+                order.getOrderNumber(),
+                "주문이 취소되었습니다.",
+                order.getMemberId()
+        );
+
+        log.info("✅ 비동기 주문 취소 완료 - Order ID: {}, Order Number: {}", order.getOrderId(), order.getOrderNumber());
+
+        Long orderId = order.getOrderId();
+        Long ownerId = order.getMemberId();
+        return () -> orderWebSocketHandler.sendOrderStatusUpdate(
+                orderId,
+                ownerId,
+                OrderStatus.CANCELLED,
+                "CANCEL_COMPLETED",
+                "주문 취소가 완료되었습니다.",
+                null
+        );
+    }
+
+    // 결제 취소 실패 상태 반영 - WebSocket 알림은 반환하여 호출 측에서 전송
+    private Runnable applyCancelFailed(Order order, CancelResponseEvent event) {
+        // 비동기 취소 요청이 아닌 경우 기존 환불 거절 처리 흐름 유지
+        if (order.getOrderStatus() != OrderStatus.PENDING_CANCEL) {
+            if (!isLateCancelResult(order, event, "실패")) {
+                order.setOrderStatus(OrderStatus.REFUND_REJECTED);
+                log.info("✅ 주문 상태 변경 완료 - Order ID: {}, 상태: {}", order.getOrderId(), OrderStatus.REFUND_REJECTED);
+            }
+            return null;
+        }
+        logUnmatchedCancelAttempt(order, event, "실패");
+
+        order.revertCancel();
+        order.setEtc("결제 취소 실패");
+        orderRepository.save(order);
+
+        applicationNotificationService.saveNotification(
+                order,
+                order.getOrderNumber(),
+                "결제 취소에 실패하여 주문 취소가 처리되지 않았습니다.",
+                order.getMemberId()
+        );
+
+        log.warn("❌ 비동기 주문 취소 실패 - Order ID: {}, 복원 상태: {}", order.getOrderId(), order.getOrderStatus());
+
+        Long orderId = order.getOrderId();
+        Long ownerId = order.getMemberId();
+        OrderStatus restoredStatus = order.getOrderStatus();
+        return () -> orderWebSocketHandler.sendOrderStatusUpdate(
+                orderId,
+                ownerId,
+                restoredStatus,
+                "CANCEL_FAILED",
+                "결제 취소에 실패하여 주문 취소가 처리되지 않았습니다.",
+                null
+        );
+    }
+
+    // 시간 초과로 복원된 비동기 취소 시도의 결과인지 확인 - 결제 서버와 상태가 어긋났을 수 있으므로 반영하지 않음
+    private boolean isLateCancelResult(Order order, CancelResponseEvent event, String result) {
+        if (event.getApprovalAttemptId() == null || !event.getApprovalAttemptId().equals(order.getCancelAttemptId())) {
+            return false;
+        }
+        log.error("취소 시간 초과 이후 결제 취소 {} 이벤트 수신 - 수동 확인 필요 - Order ID: {}, 현재 상태: {}, 시도 ID: {}",
+                result, order.getOrderId(), order.getOrderStatus(), event.getApprovalAttemptId());
+        return true;
+    }
+
+    // 취소 대기 중인 주문은 orderId 기준으로 결과 반영 - 시도 ID 를 회신하지 않는 결제 서버도 있으므로 불일치는 로그만 남김
+    private void logUnmatchedCancelAttempt(Order order, CancelResponseEvent event, String result) {
+        if (!order.isPendingCancelAttempt(event.getApprovalAttemptId())) {
+            log.warn("결제 취소 {} 이벤트의 시도 ID 불일치 - orderId 기준으로 반영 - Order ID: {}, 현재 취소 시도 ID: {}, 이벤트 시도 ID: {}",
+                    result, order.getOrderId(), order.getCancelAttemptId(), event.getApprovalAttemptId());
+        }
+    }
+
+    // 주문 취소 가능 여부 검증 (권한 및 상태)
+    private void validateCancelable(Order order, Long memberId, Role role) {
+        boolean isAdmin = role == Role.ADMIN || role == Role.SUPER_ADMIN;
+        if (!isAdmin && !order.getMemberId().equals(memberId)) {
+            log.error("권한 없음 - Order의 Member ID: {}, 요청자 Member ID: {}, Role: {}",
+                    order.getMemberId(), memberId, role);
+            throw new BadRequestException(ErrorStatus.INVALID_ROLE_EXCEPTION.getMessage());
+        }
+
+        if (order.getOrderStatus() == OrderStatus.CANCELLED) {
+            log.warn("이미 취소된 주문 - Order ID: {}", order.getOrderId());
+            throw new BadRequestException(ErrorStatus.ALREADY_CANCELLED_ORDER_EXCEPTION.getMessage());
+        }
+
+        if (order.getOrderStatus() == OrderStatus.PENDING_CANCEL) {
+            log.warn("이미 취소 처리 중인 주문 - Order ID: {}", order.getOrderId());
+            throw new BadRequestException(ErrorStatus.CANCEL_ALREADY_IN_PROGRESS_EXCEPTION.getMessage());
+        }
+
+        if (!isAdmin && (
+                order.getOrderStatus() == OrderStatus.PENDING_SHIPPING ||
+                        order.getOrderStatus() == OrderStatus.SHIPPING ||
+                        order.getOrderStatus() == OrderStatus.PENDING_RECEIVING ||
+                        order.getOrderStatus() == OrderStatus.DELIVERED ||
+                        order.getOrderStatus() == OrderStatus.RECEIVED ||
+                        order.getOrderStatus() == OrderStatus.REFUNDED ||
+                        order.getOrderStatus() == OrderStatus.REFUND_REJECTED
+        )
+        ) {
+            log.warn("취소 불가능한 상태 - Order ID: {}, Status: {}", order.getOrderId(), order.getOrderStatus());
+            throw new BadRequestException(ErrorStatus.ALREADY_SHIPPED_OR_DELIVERED_ORDER_EXCEPTION.getMessage());
+        }
+    }
+
     // 결제 성공 or 실패 이벤트 처리
     @Transactional
     public void changeOrderStatus(Long orderId, String orderStatus) {
@@ -257,6 +422,13 @@ public class OrderService {
         }
     }
 
+    // 결제 결과 이벤트 반영 - 상태 변경과 처리 기록을 같은 트랜잭션에서 저장
+    @Transactional
+    public void changeOrderStatus(Long orderId, String orderStatus, String eventKey) {
+        changeOrderStatus(orderId, orderStatus);
+        processedEventStore.markProcessed(eventKey);
+    }
+
     @Transactional
     public void deleteOrder(Long orderId, SecurityUser securityUser) {
         Role role = securityUser.getRole();
@@ -639,6 +811,7 @@ public class OrderService {
             // WebSocket으로 실패 알림
             orderWebSocketHandler.sendOrderStatusUpdate(
                     order.getOrderId(),
+                    order.getMemberId(),
                     OrderStatus.SHIPPING,
                     "ERROR",
                     "입고 처리 요청 중 오류가 발생했습니다.",
@@ -651,7 +824,7 @@ public class OrderService {
 
     // 입고 처리 성공 처리 (WebSocket 기반)
     @Transactional
-    public void handleReceivingProcessSuccessWebSocket(ReceivingProcessSuccessEvent event) {
+    public void handleReceivingProcessSuccessWebSocket(ReceivingProcessSuccessEvent event, String eventKey) {
         log.info("=== WebSocket 입고 처리 성공 처리 시작 === Order ID: {}, Attempt ID: {}",
                 event.getOrderId(), event.getApprovalAttemptId());
 
@@ -659,39 +832,18 @@ public class OrderService {
             Order order = orderRepository.findById(event.getOrderId())
                     .orElseThrow(() -> new NotFoundException(ErrorStatus.ORDER_NOT_FOUND_EXCEPTION.getMessage()));
 
-            // 상태 및 시도 ID 검증
-            if (order.getOrderStatus() != OrderStatus.PENDING_RECEIVING ||
-                    !event.getApprovalAttemptId().equals(order.getApprovalAttemptId())) {
-                log.warn("입고 처리 성공 이벤트 무시 - Order ID: {}, 현재 상태: {}, 현재 시도 ID: {}, 이벤트 시도 ID: {}",
-                        event.getOrderId(), order.getOrderStatus(), order.getApprovalAttemptId(), event.getApprovalAttemptId());
-                return;
-            }
-
-            // 입고 완료 처리
-            order.completeReceiving();
-            orderRepository.save(order);
-
-            log.info("=== WebSocket 입고 처리 완료 === Order ID: {}, Status: {}",
-                    event.getOrderId(), order.getOrderStatus());
-
-            // WebSocket으로 성공 알림
-            orderWebSocketHandler.sendOrderStatusUpdate(
-                    event.getOrderId(),
-                    OrderStatus.RECEIVED,
-                    "COMPLETED",
-                    "입고 처리가 완료되었습니다.",
-                    null
-            );
+            runNotification(applyReceivingSuccess(order, event));
 
         } catch (Exception e) {
             log.error("WebSocket 입고 처리 성공 처리 중 오류 발생 - Order ID: {}, 에러: {}",
                     event.getOrderId(), e.getMessage(), e);
         }
+        processedEventStore.markProcessed(eventKey);
     }
 
     // 입고 처리 실패 처리 (WebSocket 기반)
     @Transactional
-    public void handleReceivingProcessFailedWebSocket(ReceivingProcessFailedEvent event) {
+    public void handleReceivingProcessFailedWebSocket(ReceivingProcessFailedEvent event, String eventKey) {
         log.info("=== WebSocket 입고 처리 실패 처리 시작 === Order ID: {}, Attempt ID: {}",
                 event.getOrderId(), event.getApprovalAttemptId());
 
@@ -699,33 +851,188 @@ public class OrderService {
             Order order = orderRepository.findById(event.getOrderId())
                     .orElseThrow(() -> new NotFoundException(ErrorStatus.ORDER_NOT_FOUND_EXCEPTION.getMessage()));
 
-            // 상태 및 시도 ID 검증
-            if (order.getOrderStatus() != OrderStatus.PENDING_RECEIVING ||
-                    !event.getApprovalAttemptId().equals(order.getApprovalAttemptId())) {
-                log.warn("입고 처리 실패 이벤트 무시 - Order ID: {}, 현재 상태: {}, 현재 시도 ID: {}, 이벤트 시도 ID: {}",
-                        event.getOrderId(), order.getOrderStatus(), order.getApprovalAttemptId(), event.getApprovalAttemptId());
-                return;
+            runNotification(applyReceivingFailed(order, event));
+
+        } catch (Exception e) {
+            log.error("WebSocket 입고 처리 실패 처리 중 오류 발생 - Order ID: {}, 에러: {}",
+                    event.getOrderId(), e.getMessage(), e);
+        }
+        processedEventStore.markProcessed(eventKey);
+    }
+
+    // 입고 처리 성공 상태 반영 - WebSocket 알림은 반환하여 호출 측에서 전송
+    private Runnable applyReceivingSuccess(Order order, ReceivingProcessSuccessEvent event) {
+        // 상태 및 시도 ID 검증
+        if (order.getOrderStatus() != OrderStatus.PENDING_RECEIVING ||
+                !event.getApprovalAttemptId().equals(order.getApprovalAttemptId())) {
+            log.warn("입고 처리 성공 이벤트 무시 - Order ID: {}, 현재 상태: {}, 현재 시도 ID: {}, 이벤트 시도 ID: {}",
+                    event.getOrderId(), order.getOrderStatus(), order.getApprovalAttemptId(), event.getApprovalAttemptId());
+            return null;
+        }
+
+        // 입고 완료 처리
+        order.completeReceiving();
+        orderRepository.save(order);
+
+        log.info("=== WebSocket 입고 처리 완료 === Order ID: {}, Status: {}",
+                event.getOrderId(), order.getOrderStatus());
+
+        // WebSocket으로 성공 알림 (주문자 + 관여 사용자)
+        Long ownerId = order.getMemberId();
+        return () -> orderWebSocketHandler.sendOrderStatusUpdate(
+                event.getOrderId(),
+                ownerId,
+                OrderStatus.RECEIVED,
+                "COMPLETED",
+                "입고 처리가 완료되었습니다.",
+                null
+        );
+    }
+
+    // 입고 처리 실패 상태 반영 - WebSocket 알림은 반환하여 호출 측에서 전송
+    private Runnable applyReceivingFailed(Order order, ReceivingProcessFailedEvent event) {
+        // 상태 및 시도 ID 검증
+        if (order.getOrderStatus() != OrderStatus.PENDING_RECEIVING ||
+                !event.getApprovalAttemptId().equals(order.getApprovalAttemptId())) {
+            log.warn("입고 처리 실패 이벤트 무시 - Order ID: {}, 현재 상태: {}, 현재 시도 ID: {}, 이벤트 시도 ID: {}",
+                    event.getOrderId(), order.getOrderStatus(), order.getApprovalAttemptId(), event.getApprovalAttemptId());
+            return null;
+        }
+
+        // 배송 중 상태로 롤백
+        order.rollbackToShipping();
+        orderRepository.save(order);
+
+        log.info("=== WebSocket 입고 처리 실패 롤백 완료 === Order ID: {}, Status: {}",
+                event.getOrderId(), order.getOrderStatus());
+
+        // WebSocket으로 실패 알림 (주문자 + 관여 사용자)
+        Long ownerId = order.getMemberId();
+        return () -> orderWebSocketHandler.sendOrderStatusUpdate(
+                event.getOrderId(),
+                ownerId,
+                OrderStatus.SHIPPING,
+                "FAILED",
+                "입고 처리에 실패했습니다: " + event.getErrorMessage(),
+                event.getData()
+        );
+    }
+
+    /**
+     * 결제/취소/입고 결과 이벤트 일괄 반영 (배치 리스너 모드)
+     * - 대상 주문을 한 번에 조회하고 하나의 트랜잭션에서 상태 변경 (커밋 1회)
+     * - 레코드별 실패는 결과에 담고 나머지 레코드는 계속 처리
+     * - 반영에 성공한 레코드의 처리 기록도 같은 트랜잭션에서 저장
+     * - 커밋 이후 전송할 WebSocket 알림 목록을 함께 반환
+     */
+    @Transactional
+    public OrderResultBatchResult applyOrderResults(List<OrderResultEvent> events) {
+        Set<Long> orderIds = events.stream()
+                .map(OrderResultEvent::getOrderId)
+                .collect(Collectors.toSet());
+
+        Map<Long, Order> orderById = orderRepository.findAllById(orderIds).stream()
+                .collect(Collectors.toMap(Order::getOrderId, Function.identity()));
+
+        List<Runnable> notifications = new ArrayList<>();
+        Map<OrderResultEvent, Exception> failures = new LinkedHashMap<>();
+        List<String> processedKeys = new ArrayList<>();
+        for (OrderResultEvent event : events) {
+            Order order = orderById.get(event.getOrderId());
+            if (order == null) {
+                log.error("주문을 찾을 수 없음 - Order ID: {}, 이벤트: {}", event.getOrderId(), event.getType());
+                failures.put(event, new NotFoundException(ErrorStatus.ORDER_NOT_FOUND_EXCEPTION.getMessage()));
+                continue;
             }
 
-            // 배송 중 상태로 롤백
-            order.rollbackToShipping();
-            orderRepository.save(order);
+            try {
+                Runnable notification = applyOrderResult(order, event);
+                if (notification != null) {
+                    notifications.add(notification);
+                }
+                if (event.getEventKey() != null) {
+                    processedKeys.add(event.getEventKey());
+                }
+            } catch (Exception e) {
+                log.error("주문 결과 이벤트 반영 실패 - Order ID: {}, 이벤트: {}, 에러: {}",
+                        event.getOrderId(), event.getType(), e.getMessage(), e);
+                failures.put(event, e);
+            }
+        }
 
-            log.info("=== WebSocket 입고 처리 실패 롤백 완료 === Order ID: {}, Status: {}",
-                    event.getOrderId(), order.getOrderStatus());
+        processedEventStore.markProcessed(processedKeys);
 
-            // WebSocket으로 실패 알림
-            orderWebSocketHandler.sendOrderStatusUpdate(
-                    event.getOrderId(),
-                    OrderStatus.SHIPPING,
-                    "FAILED",
-                    "입고 처리에 실패했습니다: " + event.getErrorMessage(),
-                    event.getData()
-            );
+        log.info("주문 결과 이벤트 일괄 반영 - 이벤트 수: {}, 주문 수: {}, 실패: {}",
+                events.size(), orderById.size(), failures.size());
+        return new OrderResultBatchResult(notifications, failures);
+    }
+
+    /**
+     * 결제/취소/입고 결과 이벤트 단건 반영 (독립 트랜잭션)
+     * - 이미 처리 기록이 있으면 반영하지 않음 (일괄 반영 롤백 후 재처리, 재시도 중 중복 대비)
+     * - 처리 기록도 같은 트랜잭션에서 저장
+     * - 커밋 이후 전송할 WebSocket 알림을 반환 (없으면 null)
+     */
+    @Transactional
+    public Runnable applyOrderResult(OrderResultEvent event) {
+        String eventKey = event.getEventKey();
+        if (eventKey != null && processedEventStore.isProcessed(eventKey)) {
+            log.info("이미 처리된 이벤트 무시 - Event Key: {}", eventKey);
+            return null;
+        }
 
+        Order order = orderRepository.findById(event.getOrderId())
+                .orElseThrow(() -> {
+                    log.error("주문을 찾을 수 없음 - Order ID: {}", event.getOrderId());
+                    return new NotFoundException(ErrorStatus.ORDER_NOT_FOUND_EXCEPTION.getMessage());
+                });
+
+        Runnable notification = applyOrderResult(order, event);
+        if (eventKey != null) {
+            processedEventStore.markProcessed(eventKey);
+        }
+        return notification;
+    }
+
+    private Runnable applyOrderResult(Order order, OrderResultEvent event) {
+        return switch (event.getType()) {
+            case PAY_SUCCESS -> {
+                order.setOrderStatus(OrderStatus.PENDING_SHIPPING); // 출고 대기로 변경
+                yield null;
+            }
+            case PAY_FAILED -> {
+                order.setOrderStatus(OrderStatus.FAILED);
+                yield null;
+            }
+            case CANCEL_SUCCESS -> applyCancelSuccess(order, (CancelResponseEvent) event.getPayload());
+            case CANCEL_FAILED -> applyCancelFailed(order, (CancelResponseEvent) event.getPayload());
+            case RECEIVING_SUCCESS -> applyReceivingSuccess(order, (ReceivingProcessSuccessEvent) event.getPayload());
+            case RECEIVING_FAILED -> applyReceivingFailed(order, (ReceivingProcessFailedEvent) event.getPayload());
+        };
+    }
+
+    // WebSocket 알림은 커밋 이후 전송, 알림 실패는 상태 변경(및 Consumer 재시도)에 영향을 주지 않음
+    private void runNotification(Runnable notification) {
+        if (notification == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runNotificationSafely(notification);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runNotificationSafely(notification);
+            }
+        });
+    }
+
+    private void runNotificationSafely(Runnable notification) {
+        try {
+            notification.run();
         } catch (Exception e) {
-            log.error("WebSocket 입고 처리 실패 처리 중 오류 발생 - Order ID: {}, 에러: {}",
-                    event.getOrderId(), e.getMessage(), e);
+            log.error("WebSocket 알림 전송 실패 - 에러: {}", e.getMessage(), e);
         }
     }
 
@@ -973,7 +1280,7 @@ public class OrderService {
                 .build();
     }
 
-    // WebSocket 기반 주문 승인 요청
+    // WebSocket 기반 주문 승인 요청 - 접수 후 승인 워크플로우는 비동기로 진행
     public void requestOrderApprovalWebSocket(Long orderId, Role role, Long userId) {
         log.info("=== WebSocket 주문 승인 요청 시작 === Order ID: {}, Role: {}, User ID: {}", orderId, role, userId);
 
@@ -983,102 +1290,33 @@ public class OrderService {
             throw new UnauthorizedException(ErrorStatus.INVALID_ROLE_EXCEPTION.getMessage());
         }
 
-        try {
-            // 주문 존재 및 상태 확인
-            Order order = orderRepository.findById(orderId)
-                    .orElseThrow(() -> new NotFoundException(ErrorStatus.ORDER_NOT_FOUND_EXCEPTION.getMessage()));
-
-            if (order.getOrderStatus() != OrderStatus.PAY_COMPLETED) {
-                throw new BadRequestException(ErrorStatus.INVALID_ORDER_STATUS_FOR_APPROVAL.getMessage());
-            }
-
-            // 승인 시도 ID 생성
-            String approvalAttemptId = "WS-" + System.currentTimeMillis() + "-" + orderId;
-            log.info("승인 시도 ID 생성 - Order ID: {}, Attempt ID: {}", orderId, approvalAttemptId);
-
-            // 주문 상태를 PENDING_APPROVAL로 변경
-            orderTransactionService.updateOrderStatusToApproval(orderId, approvalAttemptId);
-
-            // WebSocket으로 상태 업데이트 전송 (요청자에게만)
-            orderWebSocketHandler.sendToUser(
-                    userId,
-                    orderId,
-                    OrderStatus.PENDING_APPROVAL,
-                    "STOCK_DEDUCTION",
-                    "재고 차감을 요청합니다.",
-                    null
-            );
-
-            // OrderItems와 함께 로드 (LazyInitializationException 방지)
-            Order orderWithItems = orderRepository.findByIdWithItems(orderId)
-                    .orElseThrow(() -> new NotFoundException(ErrorStatus.ORDER_NOT_FOUND_EXCEPTION.getMessage()));
-
-            // 재고 차감 요청 데이터 생성
-            List<Map<String, Object>> items = orderWithItems.getOrderItems().stream()
-                    .map(item -> {
-                        Map<String, Object> itemMap = new HashMap<>();
-                        itemMap.put("partId", item.getPartId());
-                        itemMap.put("amount", item.getAmount());
-                        return itemMap;
-                    })
-                    .collect(Collectors.toList());
-
-            // Parts 서버 재고 차감 API 직접 호출
-            try {
-                inventoryService.deductStock(orderId, orderWithItems.getOrderNumber(), items);
-                log.info("재고 차감 API 호출 성공 - Order ID: {}", orderId);
-
-                // 주문 승인 완료 처리
-                orderTransactionService.approveOrder(orderId);
-                log.info("주문 승인 완료 - Order ID: {}", orderId);
-
-                // WebSocket으로 성공 알림 (요청자에게만)
-                orderWebSocketHandler.sendToUser(
-                        userId,
-                        orderId,
-                        OrderStatus.APPROVAL_ORDER,
-                        "APPROVAL_SUCCESS",
-                        "주문이 승인되었습니다.",
-                        null
-                );
+        orderApprovalWorkflowService.submitApproval(orderId, userId);
+    }
 
-                // 창고관리자에게 주문 승인 알림 전송
-                try {
-                    dashboardWebSocketHandler.notifyWarehouseOrderApproved(orderId, orderWithItems.getOrderNumber());
-                } catch (Exception e) {
-                    log.error("창고관리자 알림 전송 중 오류 발생 - Order ID: {}, Error: {}", orderId, e.getMessage(), e);
-                    // 알림 실패해도 주문 승인은 완료
-                }
+    // 주문 일괄 승인 요청 - 주문별 진행 상황은 WebSocket 으로 전송
+    public OrderBulkApprovalResponseDTO requestBulkOrderApproval(List<Long> orderIds, Role role, Long userId) {
+        log.info("=== 주문 일괄 승인 요청 시작 === 주문 수: {}, Role: {}, User ID: {}",
+                orderIds != null ? orderIds.size() : 0, role, userId);
 
-            } catch (Exception e) {
-                log.error("재고 차감 API 호출 실패 - Order ID: {}, 에러: {}", orderId, e.getMessage(), e);
+        if (role != Role.ADMIN && role != Role.SUPER_ADMIN) {
+            log.error("권한 부족 - Role: {}", role);
+            throw new UnauthorizedException(ErrorStatus.INVALID_ROLE_EXCEPTION.getMessage());
+        }
 
-                // API 호출 실패 시 롤백
-                orderTransactionService.rollbackOrderToCompleted(orderId);
+        if (orderIds == null || orderIds.isEmpty()) {
+            throw new BadRequestException(ErrorStatus.VALIDATION_REQUEST_MISSING_EXCEPTION.getMessage());
+        }
 
-                // WebSocket으로 실패 알림 (요청자에게만)
-                orderWebSocketHandler.sendToUser(
-                        userId,
-                        orderId,
-                        OrderStatus.PAY_COMPLETED,
-                        "ERROR",
-                        "재고 차감 실패: " + e.getMessage(),
-                        null
-                );
-            }
+        // 중복 제거 (요청 순서 유지)
+        List<Long> distinctOrderIds = orderIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
 
-        } catch (Exception e) {
-            log.error("WebSocket 주문 승인 처리 중 오류 발생 - Order ID: {}, 에러: {}", orderId, e.getMessage(), e);
+        orderApprovalWorkflowService.submitBulkApproval(distinctOrderIds, userId);
+        log.info("주문 일괄 승인 접수 완료 - 접수 주문 수: {}", distinctOrderIds.size());
 
-            // WebSocket으로 에러 알림
-            orderWebSocketHandler.sendOrderStatusUpdate(
-                    orderId,
-                    OrderStatus.REJECTED,
-                    "ERROR",
-                    "주문 승인 처리 중 예상치 못한 오류가 발생했습니다: " + e.getMessage(),
-                    null
-            );
-        }
+        return OrderBulkApprovalResponseDTO.of(distinctOrderIds);
     }
 
     // 카테고리별 지출 정보
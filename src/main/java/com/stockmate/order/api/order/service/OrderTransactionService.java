@@ -1,6 +1,7 @@
 package com.stockmate.order.api.order.service;
 
 import com.stockmate.order.api.notification.service.ApplicationNotificationService;
+import com.stockmate.order.api.order.dto.PayResponseEvent;
 import com.stockmate.order.api.order.entity.Order;
 import com.stockmate.order.api.order.entity.OrderStatus;
 import com.stockmate.order.api.order.repository.OrderRepository;
@@ -81,6 +82,26 @@ public class OrderTransactionService {
         log.info("주문 승인 완료 - Order ID: {}, Status: APPROVAL_ORDER", orderId);
     }
 
+    /**
+     * 재고 일괄 차감 결과 불명 - 차감 키를 기록하고 승인 대기 상태로 보류 (별도 트랜잭션 - REQUIRES_NEW)
+     * 보류된 주문은 만료 스케줄러가 복원하지 않음 (Parts 서버에서 같은 키의 반영 여부 확인 후 수동 처리)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void holdApproval(Long orderId, String deductBatchKey) {
+        Order order = orderRepository.findById(orderId)
+                .orElseThrow(() -> new NotFoundException(ErrorStatus.ORDER_NOT_FOUND_EXCEPTION.getMessage()));
+
+        if (order.getOrderStatus() != OrderStatus.PENDING_APPROVAL) {
+            log.warn("승인 보류 불가능한 상태 - Order ID: {}, Status: {}", orderId, order.getOrderStatus());
+            return;
+        }
+
+        order.holdApproval(deductBatchKey);
+        orderRepository.save(order);
+
+        log.warn("재고 차감 결과 불명으로 승인 보류 - Order ID: {}, Batch Key: {}", orderId, deductBatchKey);
+    }
+
     /**
      * 재고 차감 실패 시 주문 상태를 PAY_COMPLETED로 복원 (별도 트랜잭션 - REQUIRES_NEW)
      */
@@ -104,6 +125,32 @@ public class OrderTransactionService {
         }
     }
 
+    /**
+     * 결제 결과 반영 (별도 트랜잭션 - REQUIRES_NEW)
+     * 결제 서버 호출이 끝난 뒤에만 트랜잭션을 열어 커넥션 점유 시간을 최소화
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void applyPayResult(Long orderId, PayResponseEvent payResponse, String defaultFailReason) {
+        Order order = orderRepository.findById(orderId)
+                .orElseThrow(() -> {
+                    log.error("[handlePayRequest] 주문 정보 없음 - orderId: {}", orderId);
+                    return new NotFoundException(ErrorStatus.ORDER_NOT_FOUND_EXCEPTION.getMessage());
+                });
+
+        if (payResponse != null && Boolean.TRUE.equals(payResponse.getIsSuccess())) {
+            log.info("[handlePayRequest] 결제 성공 - orderId: {}", orderId);
+            order.setOrderStatus(OrderStatus.PAY_COMPLETED);
+        } else {
+            String reason = payResponse != null ? payResponse.getEtc() : defaultFailReason;
+            log.warn("[handlePayRequest] 결제 실패 - orderId: {}, 사유: {}", orderId, reason);
+            order.setOrderStatus(OrderStatus.FAILED);
+            order.setEtc(reason);
+        }
+
+        orderRepository.save(order);
+        log.info("[handlePayRequest] 주문 상태 저장 완료 - orderId: {}, 최종 상태: {}", orderId, order.getOrderStatus());
+    }
+
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void updateOrderStatusToReceiving(Long orderId, String attemptId) {
         log.info("주문 상태를 입고 대기로 변경 시작 - Order ID: {}, Attempt ID: {}", orderId, attemptId);
@@ -0,0 +1,62 @@
+package com.stockmate.order.api.websocket.bus;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 메모리 기반 버스 (단일 인스턴스 / 테스트용)
+ * - 기본 빈은 연결된 인스턴스가 없으므로 로컬 전송만 수행
+ * - 테스트에서는 join() 으로 여러 버스를 연결하여 다중 인스턴스 fan-out 을 재현
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "websocket.bus.type", havingValue = "local", matchIfMissing = true)
+public class InMemoryWebSocketBroadcastBus implements WebSocketBroadcastBus {
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final List<Consumer<WebSocketBroadcast>> subscribers = new CopyOnWriteArrayList<>();
+    private final List<InMemoryWebSocketBroadcastBus> peers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(WebSocketBroadcast broadcast) {
+        WebSocketBroadcast message = broadcast.toBuilder().originId(instanceId).build();
+        for (InMemoryWebSocketBroadcastBus peer : peers) {
+            peer.dispatch(message);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<WebSocketBroadcast> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    @Override
+    public String instanceId() {
+        return instanceId;
+    }
+
+    // 다른 버스와 양방향 연결
+    public void join(InMemoryWebSocketBroadcastBus other) {
+        peers.add(other);
+        other.peers.add(this);
+    }
+
+    private void dispatch(WebSocketBroadcast message) {
+        if (instanceId.equals(message.getOriginId())) {
+            return;
+        }
+        for (Consumer<WebSocketBroadcast> subscriber : subscribers) {
+            try {
+                subscriber.accept(message);
+            } catch (Exception e) {
+                log.error("WebSocket 버스 메시지 처리 중 오류 발생 - Channel: {}, Error: {}", message.getChannel(), e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.stockmate.order.api.websocket.bus;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stockmate.order.common.config.kafka.KafkaConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.KafkaMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListener;
+import org.springframework.kafka.support.TopicPartitionOffset;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Kafka 기반 버스 (다중 인스턴스)
+ * - 컨슈머 그룹 구독 대신 토픽의 모든 파티션을 직접 할당하여 모든 인스턴스가 모든 메시지를 수신
+ * - 최신 메시지만 의미가 있으므로 시작 시 파티션 끝에서부터 읽고 오프셋은 커밋하지 않음
+ *   (그룹 코디네이터를 사용하지 않으므로 인스턴스 교체 시 남는 컨슈머 그룹이 없음)
+ * - 파티션 목록은 시작 시점 기준 (파티션 추가 시 재시작 필요)
+ * - KafkaAdmin 의 토픽 생성은 모든 싱글톤 초기화 이후에 실행되므로, 시작 시 직접 토픽을 생성/확인한 뒤 파티션을 조회
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "websocket.bus.type", havingValue = "kafka")
+@RequiredArgsConstructor
+public class KafkaWebSocketBroadcastBus implements WebSocketBroadcastBus {
+
+    private final KafkaConfig kafkaConfig;
+    private final ObjectMapper objectMapper;
+    private final KafkaAdmin kafkaAdmin;
+    @Qualifier("websocketBroadcastTopic")
+    private final NewTopic websocketBroadcastTopic;
+
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String bootstrapServers;
+
+    @Value("${websocket.bus.topic:order-websocket-broadcast}")
+    private String topic;
+
+    // 오프셋을 커밋하지 않으므로 브로커에 그룹이 생성되지 않음 (로그/모니터링 식별용)
+    @Value("${websocket.bus.group-id:order-websocket-bus}")
+    private String groupId;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final List<Consumer<WebSocketBroadcast>> subscribers = new CopyOnWriteArrayList<>();
+
+    private DefaultKafkaProducerFactory<String, String> producerFactory;
+    private KafkaTemplate<String, String> kafkaTemplate;
+    private KafkaMessageListenerContainer<String, String> container;
+
+    @PostConstruct
+    void start() {
+        producerFactory = new DefaultKafkaProducerFactory<>(
+                kafkaConfig.producerProfile(), new StringSerializer(), new StringSerializer());
+        kafkaTemplate = new KafkaTemplate<>(producerFactory);
+
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        DefaultKafkaConsumerFactory<String, String> consumerFactory =
+                new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(), new StringDeserializer());
+
+        TopicPartitionOffset[] assignments = assignAllPartitions();
+        ContainerProperties containerProperties = new ContainerProperties(assignments);
+        // ack 하지 않으므로 오프셋 커밋 없음
+        containerProperties.setAckMode(ContainerProperties.AckMode.MANUAL);
+        containerProperties.setMessageListener((MessageListener<String, String>) this::dispatch);
+
+        container = new KafkaMessageListenerContainer<>(consumerFactory, containerProperties);
+        container.start();
+        log.info("[WebSocketBus] Kafka 버스 시작 - 토픽: {}, 파티션 수: {}, 인스턴스 ID: {}", topic, assignments.length, instanceId);
+    }
+
+    // 토픽을 생성(이미 있으면 유지)한 뒤 모든 파티션을 끝 오프셋부터 읽도록 할당
+    private TopicPartitionOffset[] assignAllPartitions() {
+        kafkaAdmin.createOrModifyTopics(websocketBroadcastTopic);
+        TopicDescription description = kafkaAdmin.describeTopics(topic).get(topic);
+        if (description == null || description.partitions().isEmpty()) {
+            throw new IllegalStateException("WebSocket 버스 토픽의 파티션을 찾을 수 없습니다: " + topic);
+        }
+        return description.partitions().stream()
+                .map(partition -> new TopicPartitionOffset(topic, partition.partition(), TopicPartitionOffset.SeekPosition.END))
+                .toArray(TopicPartitionOffset[]::new);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (container != null) {
+            container.stop();
+        }
+        // 직접 생성한 팩토리는 컨테이너가 관리하지 않으므로 프로듀서를 명시적으로 종료
+        if (producerFactory != null) {
+            producerFactory.destroy();
+        }
+    }
+
+    @Override
+    public void publish(WebSocketBroadcast broadcast) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(broadcast.toBuilder().originId(instanceId).build());
+        } catch (Exception e) {
+            log.error("[WebSocketBus] 메시지 직렬화 실패 - Channel: {}, Error: {}", broadcast.getChannel(), e.getMessage(), e);
+            return;
+        }
+
+        kafkaTemplate.send(topic, json).whenComplete((result, ex) -> {
+            if (ex != null) {
+                log.error("[WebSocketBus] 메시지 발행 실패 - Channel: {}, Error: {}", broadcast.getChannel(), ex.getMessage());
+            }
+        });
+    }
+
+    @Override
+    public void subscribe(Consumer<WebSocketBroadcast> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    @Override
+    public String instanceId() {
+        return instanceId;
+    }
+
+    private void dispatch(ConsumerRecord<String, String> record) {
+        WebSocketBroadcast message;
+        try {
+            message = objectMapper.readValue(record.value(), WebSocketBroadcast.class);
+        } catch (Exception e) {
+            log.warn("[WebSocketBus] 메시지 역직렬화 실패 - Offset: {}, Error: {}", record.offset(), e.getMessage());
+            return;
+        }
+
+        // 자기 자신이 발행한 메시지는 이미 로컬 전송 완료
+        if (instanceId.equals(message.getOriginId())) {
+            return;
+        }
+
+        for (Consumer<WebSocketBroadcast> subscriber : subscribers) {
+            try {
+                subscriber.accept(message);
+            } catch (Exception e) {
+                log.error("[WebSocketBus] 메시지 처리 중 오류 발생 - Channel: {}, Error: {}", message.getChannel(), e.getMessage(), e);
+            }
+        }
+    }
+}
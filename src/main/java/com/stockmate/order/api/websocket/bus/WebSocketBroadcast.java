@@ -0,0 +1,57 @@
+package com.stockmate.order.api.websocket.bus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * 인스턴스 간 WebSocket 전송 메시지
+ * - payload 는 이미 직렬화된 JSON (수신 인스턴스는 재직렬화 없이 그대로 전송)
+ * - originId 로 발행 인스턴스를 식별하여 자기 자신이 발행한 메시지는 다시 전송하지 않음
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class WebSocketBroadcast {
+
+    public static final String CHANNEL_DASHBOARD = "dashboard";
+    public static final String CHANNEL_ORDER = "order";
+    public static final String CHANNEL_METRICS = "metrics";
+
+    private String originId; // 발행 인스턴스 ID
+    private String channel; // "dashboard" / "order" / "metrics"
+    private String target; // 대시보드 대상 그룹 ("admin" / "warehouse")
+    private Long orderId; // 주문 채널 - 주문 ID
+    private Set<Long> userIds; // 주문 채널 - 수신 사용자 ID
+    private boolean includeOrderWatchers; // 주문 채널 - 수신 인스턴스의 주문 관여 사용자도 포함할지 여부
+    private String payload;
+
+    public static WebSocketBroadcast toGroup(String target, String payload) {
+        return WebSocketBroadcast.builder()
+                .channel(CHANNEL_DASHBOARD)
+                .target(target)
+                .payload(payload)
+                .build();
+    }
+
+    public static WebSocketBroadcast metrics(String payload) {
+        return WebSocketBroadcast.builder()
+                .channel(CHANNEL_METRICS)
+                .payload(payload)
+                .build();
+    }
+
+    public static WebSocketBroadcast toUsers(Long orderId, Set<Long> userIds, boolean includeOrderWatchers, String payload) {
+        return WebSocketBroadcast.builder()
+                .channel(CHANNEL_ORDER)
+                .orderId(orderId)
+                .userIds(userIds)
+                .includeOrderWatchers(includeOrderWatchers)
+                .payload(payload)
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.stockmate.order.api.websocket.bus;
+
+import java.util.function.Consumer;
+
+/**
+ * 인스턴스 간 WebSocket fan-out 버스 (websocket.bus.type = local | kafka)
+ * - 발행 인스턴스는 로컬 세션에 먼저 전송한 뒤 버스에 1회 발행
+ * - 각 인스턴스는 다른 인스턴스가 발행한 메시지만 받아 자기 로컬 세션에 전송
+ */
+public interface WebSocketBroadcastBus {
+
+    // 발행 (originId 는 버스가 채움)
+    void publish(WebSocketBroadcast broadcast);
+
+    // 다른 인스턴스가 발행한 메시지 수신 등록
+    void subscribe(Consumer<WebSocketBroadcast> subscriber);
+
+    String instanceId();
+}
@@ -0,0 +1,24 @@
+package com.stockmate.order.api.websocket.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대상 그룹 브로드캐스트 결과
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BroadcastResult {
+    private String target; // "admin" / "warehouse"
+    private int targetSessions; // 대상 그룹 세션 수
+    private int delivered; // 송신 대기열 적재 성공 수
+    private int failed; // 닫힌 세션 또는 적재 실패 수
+
+    public static BroadcastResult empty(String target) {
+        return new BroadcastResult(target, 0, 0, 0);
+    }
+}
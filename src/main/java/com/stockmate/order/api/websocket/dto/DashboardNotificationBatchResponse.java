@@ -0,0 +1,30 @@
+package com.stockmate.order.api.websocket.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 대시보드 알림 묶음 (coalescing 모드)
+ * - 한 윈도우 동안 쌓인 알림을 하나의 프레임으로 전송
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DashboardNotificationBatchResponse {
+    private String type; // "DASHBOARD_NOTIFICATION_BATCH"
+    private int count; // 묶인 알림 수
+    private List<DashboardNotificationResponse> notifications;
+
+    public static DashboardNotificationBatchResponse of(List<DashboardNotificationResponse> notifications) {
+        return DashboardNotificationBatchResponse.builder()
+                .type("DASHBOARD_NOTIFICATION_BATCH")
+                .count(notifications.size())
+                .notifications(notifications)
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.stockmate.order.api.websocket.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 대시보드 알림 재전송 (재연결 시 lastSeq 이후 놓친 알림)
+ * - truncated 가 true 면 재전송 한도를 넘은 것이므로 REST 로 나머지 조회
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DashboardNotificationReplayResponse {
+    private String type; // "DASHBOARD_NOTIFICATION_REPLAY"
+    private int count; // 재전송 알림 수
+    private boolean truncated; // 재전송 한도 초과 여부
+    private List<DashboardNotificationResponse> notifications; // 순번 오름차순
+
+    public static DashboardNotificationReplayResponse of(List<DashboardNotificationResponse> notifications, boolean truncated) {
+        return DashboardNotificationReplayResponse.builder()
+                .type("DASHBOARD_NOTIFICATION_REPLAY")
+                .count(notifications.size())
+                .truncated(truncated)
+                .notifications(notifications)
+                .build();
+    }
+}
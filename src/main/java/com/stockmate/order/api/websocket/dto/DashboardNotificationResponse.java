@@ -12,6 +12,7 @@ import lombok.NoArgsConstructor;
 public class DashboardNotificationResponse {
     private String type; // "DASHBOARD_NOTIFICATION"
     private Long notificationId; // 알림 ID (읽음 처리 등에 사용)
+    private Long seq; // 알림 순번 (재연결 시 lastSeq 로 전달하면 놓친 알림만 재전송)
     private String message; // "SMO-123 신규 주문이 발생하였습니다." 또는 "SMO-123 신규 주문 승인이 발생하였습니다."
     private DashboardData data; // orderId, orderNumber
 
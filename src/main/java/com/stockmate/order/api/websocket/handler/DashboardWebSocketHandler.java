@@ -1,38 +1,132 @@
 package com.stockmate.order.api.websocket.handler;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stockmate.order.api.dashboard.dto.DashboardMetricsDeltaDTO;
+import com.stockmate.order.api.dashboard.dto.DashboardMetricsSnapshotDTO;
+import com.stockmate.order.api.dashboard.service.DashboardMetricsService;
+import com.stockmate.order.api.notification.entity.DashboardNotification;
 import com.stockmate.order.api.notification.entity.NotificationType;
 import com.stockmate.order.api.notification.service.DashboardNotificationService;
+import com.stockmate.order.api.websocket.bus.WebSocketBroadcast;
+import com.stockmate.order.api.websocket.bus.WebSocketBroadcastBus;
+import com.stockmate.order.api.websocket.dto.BroadcastResult;
+import com.stockmate.order.api.websocket.dto.DashboardNotificationBatchResponse;
+import com.stockmate.order.api.websocket.dto.DashboardNotificationReplayResponse;
 import com.stockmate.order.api.websocket.dto.DashboardNotificationResponse;
+import com.stockmate.order.api.websocket.session.DashboardNotificationReplayBuffer;
+import com.stockmate.order.api.websocket.session.WebSocketHeartbeatService;
+import com.stockmate.order.api.websocket.session.WebSocketOutboundSender;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.socket.*;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
-import java.nio.ByteBuffer;
-import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import org.springframework.web.socket.PingMessage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class DashboardWebSocketHandler implements WebSocketHandler {
 
+    private static final String METRICS_SUBSCRIBE = "SUBSCRIBE_METRICS";
+    private static final String METRICS_UNSUBSCRIBE = "UNSUBSCRIBE_METRICS";
+    private static final String METRICS_TARGET = "metrics";
+
     private final ObjectMapper objectMapper;
     private final DashboardNotificationService notificationService;
+    // 세션별 비동기 송신 대기열
+    private final WebSocketOutboundSender outboundSender;
+    // 공용 Heartbeat (Ping 분산 전송 / idle 세션 종료)
+    private final WebSocketHeartbeatService heartbeatService;
+    private final MeterRegistry meterRegistry;
+    // 인스턴스 간 fan-out 버스
+    private final WebSocketBroadcastBus broadcastBus;
+    // 실시간 지표 (SUBSCRIBE_METRICS 구독 세션에 스냅샷/증분 전송)
+    private final DashboardMetricsService metricsService;
+    // 재연결 시 놓친 알림 재전송용 버퍼
+    private final DashboardNotificationReplayBuffer replayBuffer;
     
     // 세션 관리
     private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
-    // 타입별 세션 관리 (admin, warehouse)
+    // 타입별 세션 관리 (admin, warehouse, metrics)
     private final Map<String, Set<String>> typeToSessions = new ConcurrentHashMap<>(); // "admin" → Set<SessionId>
-    // 세션별 마지막 활동 시간
-    private final Map<String, LocalDateTime> sessionLastActivity = new ConcurrentHashMap<>();
+
+    // 알림 묶음 전송 (coalescing) - 대상 그룹별로 윈도우 동안 알림을 모아 한 프레임으로 전송
+    @Value("${websocket.dashboard.coalesce.enabled:false}")
+    private boolean coalesceEnabled;
+
+    @Value("${websocket.dashboard.coalesce.window-ms:200}")
+    private long coalesceWindowMs;
+
+    private final Map<String, List<DashboardNotificationResponse>> pendingNotifications = new ConcurrentHashMap<>();
+    private ScheduledExecutorService coalesceScheduler;
+
+    // 버퍼에서 밀려난 구간을 DB 에서 재전송할 때 최대 건수
+    @Value("${websocket.dashboard.replay.max-db-rows:500}")
+    private int replayMaxDbRows;
+
+    // 로컬 버스는 다른 인스턴스의 알림이 버퍼에 들어오지 않으므로 항상 DB 에서 재전송
+    @Value("${websocket.bus.type:local}")
+    private String busType;
+
+    @PostConstruct
+    void init() {
+        // 다른 인스턴스에서 발행한 대시보드 메시지를 로컬 세션에 전송
+        broadcastBus.subscribe(broadcast -> {
+            if (WebSocketBroadcast.CHANNEL_DASHBOARD.equals(broadcast.getChannel())) {
+                bufferRemoteNotifications(broadcast.getTarget(), broadcast.getPayload());
+                fanOut(broadcast.getTarget(), new TextMessage(broadcast.getPayload()));
+            }
+        });
+
+        Gauge.builder("order.websocket.sessions", sessions, Map::size)
+                .description("연결된 WebSocket 세션 수")
+                .tag("handler", "dashboard")
+                .register(meterRegistry);
+
+        // 지표 증분은 인스턴스마다 직접 수신하므로 로컬 구독 세션에만 전송
+        metricsService.onDelta(this::pushMetricsDelta);
+        // 보정 / 자정 전환으로 지표가 재적재되면 전체 스냅샷으로 다시 맞춤
+        metricsService.onSnapshot(this::pushMetricsSnapshot);
+
+        if (coalesceEnabled) {
+            coalesceScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "dashboard-coalesce");
+                thread.setDaemon(true);
+                return thread;
+            });
+            log.info("대시보드 알림 묶음 전송 활성화 - 윈도우: {}ms", coalesceWindowMs);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (coalesceScheduler == null) {
+            return;
+        }
+        coalesceScheduler.shutdownNow();
+        // 대기 중인 알림은 종료 전에 전송
+        pendingNotifications.keySet().forEach(this::flushPending);
+    }
     
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
@@ -48,15 +142,21 @@ public class DashboardWebSocketHandler implements WebSocketHandler {
             }
             
             // 세션 등록
+            outboundSender.register(session);
             sessions.put(session.getId(), session);
             typeToSessions.computeIfAbsent(type, k -> ConcurrentHashMap.newKeySet()).add(session.getId());
-            sessionLastActivity.put(session.getId(), LocalDateTime.now());
+            heartbeatService.register(session);
             
             log.info("대시보드 WebSocket 세션 등록 완료 - Session ID: {}, Type: {}, 활성 세션 수: {}", 
                     session.getId(), type, typeToSessions.get(type).size());
             
-            // 참고: 읽지 않은 알림은 REST API (/api/notifications/unread)로 조회해야 합니다.
-            // 웹소켓은 연결 후 발생하는 새로운 알림만 실시간으로 전송합니다.
+            // 재연결 시 lastSeq 를 전달하면 그 이후 놓친 알림만 재전송
+            // (최초 접속 시에는 읽지 않은 알림을 REST API (/api/notifications/unread)로 조회)
+            // 세션 등록 후 재전송하므로 실시간 알림과 일부 겹칠 수 있음 → 클라이언트는 seq 로 중복 제거
+            Long lastSeq = extractLastSeq(session);
+            if (lastSeq != null) {
+                replayMissed(session, type, lastSeq);
+            }
             
         } catch (Exception e) {
             log.error("대시보드 WebSocket 연결 중 오류 발생 - Session ID: {}, Error: {}", session.getId(), e.getMessage(), e);
@@ -79,11 +179,90 @@ public class DashboardWebSocketHandler implements WebSocketHandler {
         }
     }
 
+    /**
+     * URI에서 lastSeq 파라미터 추출 (없거나 잘못된 값이면 null)
+     */
+    private Long extractLastSeq(WebSocketSession session) {
+        try {
+            String lastSeq = UriComponentsBuilder.fromUri(session.getUri()).build().getQueryParams().getFirst("lastSeq");
+            return lastSeq != null ? Long.parseLong(lastSeq) : null;
+        } catch (Exception e) {
+            log.warn("lastSeq 파라미터 파싱 실패 - Session ID: {}, Error: {}", session.getId(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * lastSeq 이후 놓친 알림 재전송
+     * - Kafka 버스이고 버퍼가 구간을 보관하고 있으면 메모리에서, 그 외에는 DB 에서 조회
+     */
+    private void replayMissed(WebSocketSession session, String type, long lastSeq) {
+        try {
+            String source = "buffer";
+            boolean truncated = false;
+            List<DashboardNotificationResponse> missed = "kafka".equals(busType)
+                    ? replayBuffer.replayAfter(type, lastSeq).orElse(null)
+                    : null;
+            if (missed == null) {
+                source = "db";
+                List<DashboardNotification> rows = notificationService.getNotificationsAfter(
+                        NotificationType.valueOf(type.toUpperCase()), lastSeq, replayMaxDbRows + 1);
+                truncated = rows.size() > replayMaxDbRows;
+                missed = rows.stream()
+                        .limit(replayMaxDbRows)
+                        .map(this::toNotificationResponse)
+                        .toList();
+            }
+
+            meterRegistry.counter("order.websocket.dashboard.replay", "source", source).increment();
+            if (missed.isEmpty()) {
+                return;
+            }
+
+            String json = objectMapper.writeValueAsString(DashboardNotificationReplayResponse.of(missed, truncated));
+            outboundSender.send(session, new TextMessage(json));
+            log.info("놓친 알림 재전송 - Session ID: {}, Type: {}, lastSeq: {}, 재전송 수: {}, 출처: {}",
+                    session.getId(), type, lastSeq, missed.size(), source);
+        } catch (Exception e) {
+            log.error("놓친 알림 재전송 중 오류 발생 - Session ID: {}, lastSeq: {}, Error: {}",
+                    session.getId(), lastSeq, e.getMessage(), e);
+        }
+    }
+
+    private DashboardNotificationResponse toNotificationResponse(DashboardNotification notification) {
+        return DashboardNotificationResponse.builder()
+                .type("DASHBOARD_NOTIFICATION")
+                .notificationId(notification.getId())
+                .seq(notification.getId())
+                .message(notification.getMessage())
+                .data(DashboardNotificationResponse.DashboardData.builder()
+                        .orderId(notification.getOrderId())
+                        .orderNumber(notification.getOrderNumber())
+                        .build())
+                .build();
+    }
+
+    // 다른 인스턴스에서 발생한 알림도 재전송 버퍼에 보관 (단건 / 묶음 프레임)
+    private void bufferRemoteNotifications(String target, String payload) {
+        try {
+            JsonNode root = objectMapper.readTree(payload);
+            String frameType = root.path("type").asText();
+            if ("DASHBOARD_NOTIFICATION".equals(frameType)) {
+                replayBuffer.append(target, objectMapper.treeToValue(root, DashboardNotificationResponse.class));
+            } else if ("DASHBOARD_NOTIFICATION_BATCH".equals(frameType)) {
+                DashboardNotificationBatchResponse batch = objectMapper.treeToValue(root, DashboardNotificationBatchResponse.class);
+                batch.getNotifications().forEach(notification -> replayBuffer.append(target, notification));
+            }
+        } catch (Exception e) {
+            log.warn("원격 알림 버퍼 적재 실패 - Target: {}, Error: {}", target, e.getMessage());
+        }
+    }
+
     @Override
     public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) throws Exception {
         // Pong 메시지 처리 (클라이언트가 보낸 Pong 응답)
         if (message instanceof PongMessage) {
-            sessionLastActivity.put(session.getId(), LocalDateTime.now());
+            heartbeatService.touch(session);
             log.debug("Pong 수신 - Session ID: {}", session.getId());
             return;
         }
@@ -93,67 +272,107 @@ public class DashboardWebSocketHandler implements WebSocketHandler {
             String payload = (String) message.getPayload();
             // Heartbeat 메시지인 경우 활동 시간만 업데이트
             if ("heartbeat".equals(payload) || "ping".equals(payload)) {
-                sessionLastActivity.put(session.getId(), LocalDateTime.now());
+                heartbeatService.touch(session);
                 log.debug("Heartbeat 수신 - Session ID: {}", session.getId());
                 return;
             }
+
+            String command = extractCommand(payload);
+            if (METRICS_SUBSCRIBE.equals(command)) {
+                heartbeatService.touch(session);
+                subscribeMetrics(session);
+                return;
+            }
+            if (METRICS_UNSUBSCRIBE.equals(command)) {
+                heartbeatService.touch(session);
+                unsubscribeMetrics(session);
+                return;
+            }
             
             log.info("대시보드 WebSocket 메시지 수신 - Session ID: {}, Payload: {}", session.getId(), payload);
-            sessionLastActivity.put(session.getId(), LocalDateTime.now());
+            heartbeatService.touch(session);
         }
         
-        // 대시보드 WebSocket은 단방향 통신 (서버 → 클라이언트)만 지원
+        // 대시보드 WebSocket은 지표 구독 명령 외에는 단방향 통신 (서버 → 클라이언트)만 지원
     }
 
     /**
-     * 관리자에게 새 주문 알림 전송
+     * 클라이언트 명령 추출 - 평문("SUBSCRIBE_METRICS") 또는 JSON({"type":"SUBSCRIBE_METRICS"})
      */
-    public void notifyAdminNewOrder(Long orderId, String orderNumber) {
-        log.info("관리자에게 새 주문 알림 전송 - Order ID: {}, Order Number: {}", orderId, orderNumber);
-        
-        String message = orderNumber + " 신규 주문이 발생하였습니다.";
-        
-        // DB에 알림 저장 (웹소켓 연결 여부와 관계없이 항상 저장)
-        Long notificationId = null;
+    private String extractCommand(String payload) {
+        String trimmed = payload.trim();
+        if (!trimmed.startsWith("{")) {
+            return trimmed;
+        }
         try {
-            var savedNotification = notificationService.saveNotification(NotificationType.ADMIN, message, orderId, orderNumber);
-            notificationId = savedNotification.getId();
+            JsonNode type = objectMapper.readTree(trimmed).get("type");
+            return type != null ? type.asText() : null;
         } catch (Exception e) {
-            log.error("알림 DB 저장 중 오류 발생 - Order ID: {}, Error: {}", orderId, e.getMessage(), e);
+            return null;
         }
-        
-        // 연결된 관리자 세션에 실시간 전송
+    }
+
+    /**
+     * 실시간 지표 구독 (관리자 세션만 허용)
+     * - 금일 스냅샷을 먼저 전송하고 이후 주문 상태 변경마다 증분 전송
+     */
+    private void subscribeMetrics(WebSocketSession session) {
         Set<String> adminSessions = typeToSessions.get("admin");
-        if (adminSessions == null || adminSessions.isEmpty()) {
-            log.warn("연결된 관리자 세션이 없음 - Order ID: {} (DB에는 저장됨)", orderId);
+        if (adminSessions == null || !adminSessions.contains(session.getId())) {
+            log.warn("지표 구독 거부 (관리자 세션 아님) - Session ID: {}", session.getId());
             return;
         }
-        
-        DashboardNotificationResponse notification = DashboardNotificationResponse.builder()
-                .type("DASHBOARD_NOTIFICATION")
-                .notificationId(notificationId)
-                .message(message)
-                .data(DashboardNotificationResponse.DashboardData.builder()
-                        .orderId(orderId)
-                        .orderNumber(orderNumber)
-                        .build())
-                .build();
-        
-        int sentCount = 0;
-        for (String sessionId : adminSessions) {
-            WebSocketSession session = sessions.get(sessionId);
-            if (session != null && session.isOpen()) {
-                sendMessage(session, notification);
-                sentCount++;
-            } else {
-                // 연결이 끊어진 세션 제거
-                adminSessions.remove(sessionId);
-                sessions.remove(sessionId);
-            }
+
+        try {
+            // 스냅샷 적재 전에 구독 등록 (스냅샷 이후 증분 누락 방지)
+            typeToSessions.computeIfAbsent(METRICS_TARGET, k -> ConcurrentHashMap.newKeySet()).add(session.getId());
+            String snapshot = objectMapper.writeValueAsString(metricsService.snapshot());
+            outboundSender.send(session, new TextMessage(snapshot));
+            log.info("대시보드 지표 구독 - Session ID: {}, 구독 세션 수: {}",
+                    session.getId(), typeToSessions.get(METRICS_TARGET).size());
+        } catch (Exception e) {
+            log.error("대시보드 지표 스냅샷 전송 중 오류 발생 - Session ID: {}, Error: {}", session.getId(), e.getMessage(), e);
+        }
+    }
+
+    private void unsubscribeMetrics(WebSocketSession session) {
+        Set<String> metricsSessions = typeToSessions.get(METRICS_TARGET);
+        if (metricsSessions != null && metricsSessions.remove(session.getId())) {
+            log.info("대시보드 지표 구독 해제 - Session ID: {}", session.getId());
+        }
+    }
+
+    // 지표 증분을 한 번만 직렬화하여 로컬 구독 세션에 전송
+    private void pushMetricsDelta(DashboardMetricsDeltaDTO delta) {
+        Set<String> metricsSessions = typeToSessions.get(METRICS_TARGET);
+        if (metricsSessions == null || metricsSessions.isEmpty()) {
+            return;
+        }
+        try {
+            fanOut(METRICS_TARGET, new TextMessage(objectMapper.writeValueAsString(delta)));
+        } catch (Exception e) {
+            log.error("대시보드 지표 증분 전송 중 오류 발생 - Error: {}", e.getMessage(), e);
+        }
+    }
+
+    private void pushMetricsSnapshot(DashboardMetricsSnapshotDTO snapshot) {
+        Set<String> metricsSessions = typeToSessions.get(METRICS_TARGET);
+        if (metricsSessions == null || metricsSessions.isEmpty()) {
+            return;
+        }
+        try {
+            fanOut(METRICS_TARGET, new TextMessage(objectMapper.writeValueAsString(snapshot)));
+        } catch (Exception e) {
+            log.error("대시보드 지표 스냅샷 재전송 중 오류 발생 - Error: {}", e.getMessage(), e);
         }
-        
-        log.info("관리자 알림 전송 완료 - Order ID: {}, Order Number: {}, 전송된 세션 수: {}", 
-                orderId, orderNumber, sentCount);
+    }
+
+    /**
+     * 관리자에게 새 주문 알림 전송
+     */
+    public void notifyAdminNewOrder(Long orderId, String orderNumber) {
+        log.info("관리자에게 새 주문 알림 전송 - Order ID: {}, Order Number: {}", orderId, orderNumber);
+        notifyGroup(NotificationType.ADMIN, "admin", orderId, orderNumber, orderNumber + " 신규 주문이 발생하였습니다.");
     }
 
     /**
@@ -161,128 +380,183 @@ public class DashboardWebSocketHandler implements WebSocketHandler {
      */
     public void notifyWarehouseOrderApproved(Long orderId, String orderNumber) {
         log.info("창고관리자에게 주문 승인 알림 전송 - Order ID: {}, Order Number: {}", orderId, orderNumber);
-        
-        String message = orderNumber + " 신규 주문 승인이 발생하였습니다.";
-        
+        notifyGroup(NotificationType.WAREHOUSE, "warehouse", orderId, orderNumber, orderNumber + " 신규 주문 승인이 발생하였습니다.");
+    }
+
+    // 알림 DB 저장 후 대상 그룹에 실시간 전송
+    private void notifyGroup(NotificationType notificationType, String target, Long orderId, String orderNumber, String message) {
         // DB에 알림 저장 (웹소켓 연결 여부와 관계없이 항상 저장)
         Long notificationId = null;
         try {
-            var savedNotification = notificationService.saveNotification(NotificationType.WAREHOUSE, message, orderId, orderNumber);
+            var savedNotification = notificationService.saveNotification(notificationType, message, orderId, orderNumber);
             notificationId = savedNotification.getId();
         } catch (Exception e) {
             log.error("알림 DB 저장 중 오류 발생 - Order ID: {}, Error: {}", orderId, e.getMessage(), e);
         }
-        
-        // 연결된 창고관리자 세션에 실시간 전송
-        Set<String> warehouseSessions = typeToSessions.get("warehouse");
-        if (warehouseSessions == null || warehouseSessions.isEmpty()) {
-            log.warn("연결된 창고관리자 세션이 없음 - Order ID: {} (DB에는 저장됨)", orderId);
-            return;
-        }
-        
+
         DashboardNotificationResponse notification = DashboardNotificationResponse.builder()
                 .type("DASHBOARD_NOTIFICATION")
                 .notificationId(notificationId)
+                .seq(notificationId)
                 .message(message)
                 .data(DashboardNotificationResponse.DashboardData.builder()
                         .orderId(orderId)
                         .orderNumber(orderNumber)
                         .build())
                 .build();
-        
-        int sentCount = 0;
-        for (String sessionId : warehouseSessions) {
-            WebSocketSession session = sessions.get(sessionId);
-            if (session != null && session.isOpen()) {
-                sendMessage(session, notification);
-                sentCount++;
-            } else {
-                // 연결이 끊어진 세션 제거
-                warehouseSessions.remove(sessionId);
-                sessions.remove(sessionId);
+
+        // 주문 트랜잭션 안이면 커밋 이후 전송 (롤백된 알림 전송 방지, 버퍼 도착 순서를 커밋 순서에 가깝게 유지)
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publishNotification(target, orderId, orderNumber, notification);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    publishNotification(target, orderId, orderNumber, notification);
+                } catch (Exception e) {
+                    log.error("{} 알림 전송 중 오류 발생 - Order ID: {}, Error: {}", target, orderId, e.getMessage(), e);
+                }
             }
+        });
+    }
+
+    private void publishNotification(String target, Long orderId, String orderNumber, DashboardNotificationResponse notification) {
+        replayBuffer.append(target, notification);
+
+        if (coalesceEnabled) {
+            enqueuePending(target, notification);
+            return;
         }
-        
-        log.info("창고관리자 알림 전송 완료 - Order ID: {}, Order Number: {}, 전송된 세션 수: {}", 
-                orderId, orderNumber, sentCount);
+
+        BroadcastResult result = broadcast(target, notification);
+        if (result.getTargetSessions() == 0) {
+            log.info("이 인스턴스에 연결된 {} 세션이 없음 - Order ID: {} (DB 저장 및 버스 발행 완료)", target, orderId);
+            return;
+        }
+
+        log.info("{} 알림 전송 완료 - Order ID: {}, Order Number: {}, 전송된 세션 수: {}, 실패 세션 수: {}",
+                target, orderId, orderNumber, result.getDelivered(), result.getFailed());
     }
 
+    // 윈도우의 첫 알림이면 윈도우 종료 시점에 전송 예약 (단건도 최대 한 윈도우 안에 전송)
+    private void enqueuePending(String target, DashboardNotificationResponse notification) {
+        boolean[] firstInWindow = new boolean[1];
+        pendingNotifications.compute(target, (key, pending) -> {
+            if (pending == null) {
+                pending = new ArrayList<>();
+                firstInWindow[0] = true;
+            }
+            pending.add(notification);
+            return pending;
+        });
+
+        if (!firstInWindow[0]) {
+            return;
+        }
+        // 종료 중이면 예약할 수 없으므로 바로 전송
+        if (coalesceScheduler.isShutdown()) {
+            flushPending(target);
+            return;
+        }
+        try {
+            coalesceScheduler.schedule(() -> flushPending(target), coalesceWindowMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.warn("{} 알림 묶음 전송 예약 거부, 즉시 전송 - Error: {}", target, e.getMessage());
+            flushPending(target);
+        }
+    }
+
+    // 윈도우 동안 모인 알림 전송 - 1건이면 기존 단건 프레임, 2건 이상이면 묶음 프레임
+    private void flushPending(String target) {
+        List<DashboardNotificationResponse> pending = pendingNotifications.remove(target);
+        if (pending == null || pending.isEmpty()) {
+            return;
+        }
 
-    private void sendMessage(WebSocketSession session, Object message) {
         try {
-            String jsonMessage = objectMapper.writeValueAsString(message);
-            session.sendMessage(new TextMessage(jsonMessage));
-            log.debug("대시보드 WebSocket 메시지 전송 완료 - Session ID: {}, Message: {}", session.getId(), jsonMessage);
+            Object payload = pending.size() == 1 ? pending.get(0) : DashboardNotificationBatchResponse.of(pending);
+            BroadcastResult result = broadcast(target, payload);
+            log.info("{} 알림 묶음 전송 완료 - 알림 수: {}, 전송된 세션 수: {}, 실패 세션 수: {}",
+                    target, pending.size(), result.getDelivered(), result.getFailed());
         } catch (Exception e) {
-            log.error("대시보드 WebSocket 메시지 전송 중 오류 발생 - Session ID: {}, Error: {}", 
-                    session.getId(), e.getMessage(), e);
+            log.error("{} 알림 묶음 전송 중 오류 발생 - 알림 수: {}, Error: {}", target, pending.size(), e.getMessage(), e);
         }
     }
 
-    @Override
-    public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
-        log.error("❌ 대시보드 WebSocket 전송 오류 발생 - Session ID: {}, Error: {}", 
-                session.getId(), exception.getMessage(), exception);
+    /**
+     * 대상 그룹 브로드캐스트
+     * - 페이로드는 한 번만 직렬화하여 같은 TextMessage 를 모든 세션에 재사용
+     * - 로컬 세션에 전송한 뒤 버스로 1회 발행하여 다른 인스턴스의 세션에도 전송
+     */
+    public BroadcastResult broadcast(String target, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (Exception e) {
+            log.error("대시보드 브로드캐스트 직렬화 중 오류 발생 - Target: {}, Error: {}", target, e.getMessage(), e);
+            return BroadcastResult.empty(target);
+        }
+
+        BroadcastResult result = fanOut(target, new TextMessage(json));
+        broadcastBus.publish(WebSocketBroadcast.toGroup(target, json));
+        return result;
     }
 
     /**
-     * 주기적으로 모든 세션에 Ping 전송 (30초마다)
-     * 연결이 살아있는지 확인하고, 죽은 세션을 정리합니다.
-     * 
-     * WebSocket이 자동으로 끊기는 이유:
-     * 1. 게이트웨이/로드밸런서의 idle 타임아웃 (보통 60초)
-     * 2. 네트워크 레벨의 TCP Keep-Alive 부재
-     * 3. 프록시 서버의 연결 타임아웃
-     * 
-     * 해결 방법: 주기적으로 Ping을 보내서 연결을 활성 상태로 유지
+     * 로컬 세션 fan-out
+     * - 닫힌 세션은 정리하고 전송 결과(대상/성공/실패 수)와 fan-out 소요 시간 기록
      */
-    @Scheduled(fixedRate = 30000) // 30초마다
-    public void sendPingToAllSessions() {
-        if (sessions.isEmpty()) {
-            return;
+    private BroadcastResult fanOut(String target, TextMessage textMessage) {
+        Set<String> targetSessions = typeToSessions.get(target);
+        if (targetSessions == null || targetSessions.isEmpty()) {
+            return BroadcastResult.empty(target);
         }
-        
-        LocalDateTime now = LocalDateTime.now();
-        Set<String> deadSessions = ConcurrentHashMap.newKeySet();
-        
-        for (Map.Entry<String, WebSocketSession> entry : sessions.entrySet()) {
-            String sessionId = entry.getKey();
-            WebSocketSession session = entry.getValue();
-            
-            try {
-                if (session.isOpen()) {
-                    // Ping 메시지 전송 (WebSocket 프로토콜의 Ping 프레임)
-                    // Spring WebSocket에서 PingMessage를 사용
-                    session.sendMessage(new PingMessage(ByteBuffer.wrap("keepalive".getBytes())));
-                    sessionLastActivity.put(sessionId, now);
-                    log.debug("Ping 전송 완료 - Session ID: {}", sessionId);
-                } else {
-                    log.warn("세션이 닫혀있음 - Session ID: {}", sessionId);
-                    deadSessions.add(sessionId);
-                }
-            } catch (Exception e) {
-                log.warn("Ping 전송 실패 - Session ID: {}, Error: {}", sessionId, e.getMessage());
-                deadSessions.add(sessionId);
+
+        long startedAt = System.nanoTime();
+        int total = 0;
+        int delivered = 0;
+        for (String sessionId : targetSessions) {
+            total++;
+            WebSocketSession session = sessions.get(sessionId);
+            if (session != null && session.isOpen() && outboundSender.send(session, textMessage)) {
+                delivered++;
+            } else if (session == null || !session.isOpen()) {
+                // 연결이 끊어진 세션 제거
+                cleanupSession(sessionId);
             }
         }
-        
-        // 죽은 세션 정리
-        for (String deadSessionId : deadSessions) {
-            cleanupSession(deadSessionId);
-        }
-        
-        if (!deadSessions.isEmpty()) {
-            log.info("죽은 세션 정리 완료 - 제거된 세션 수: {}, 현재 활성 세션 수: {}", 
-                    deadSessions.size(), sessions.size());
-        }
+
+        Timer.builder("order.websocket.broadcast")
+                .description("대시보드 브로드캐스트 fan-out 소요 시간 (송신 대기열 적재)")
+                .tag("target", target)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+        return BroadcastResult.builder()
+                .target(target)
+                .targetSessions(total)
+                .delivered(delivered)
+                .failed(total - delivered)
+                .build();
     }
-    
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
+        log.error("❌ 대시보드 WebSocket 전송 오류 발생 - Session ID: {}, Error: {}", 
+                session.getId(), exception.getMessage(), exception);
+    }
+
     /**
      * 세션 정리
      */
     private void cleanupSession(String sessionId) {
-        sessions.remove(sessionId);
-        sessionLastActivity.remove(sessionId);
+        WebSocketSession session = sessions.remove(sessionId);
+        if (session != null) {
+            outboundSender.unregister(session);
+            heartbeatService.unregister(session);
+        }
         
         // 타입별 세션에서 제거
         for (Map.Entry<String, Set<String>> entry : typeToSessions.entrySet()) {
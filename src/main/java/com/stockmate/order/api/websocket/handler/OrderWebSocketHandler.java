@@ -2,7 +2,15 @@ package com.stockmate.order.api.websocket.handler;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.stockmate.order.api.order.entity.OrderStatus;
+import com.stockmate.order.api.websocket.bus.WebSocketBroadcast;
+import com.stockmate.order.api.websocket.bus.WebSocketBroadcastBus;
 import com.stockmate.order.api.websocket.dto.OrderApprovalResponse;
+import com.stockmate.order.api.websocket.session.OrderSessionRegistry;
+import com.stockmate.order.api.websocket.session.WebSocketHeartbeatService;
+import com.stockmate.order.api.websocket.session.WebSocketOutboundSender;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -11,8 +19,9 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @Component
@@ -21,10 +30,28 @@ public class OrderWebSocketHandler implements WebSocketHandler {
 
     private final ObjectMapper objectMapper;
     
-    // 세션 관리
-    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
-    private final Map<Long, String> userToSession = new ConcurrentHashMap<>(); // 사용자 ID → 세션 ID 매핑
-    private final Map<String, Long> sessionToUser = new ConcurrentHashMap<>(); // 세션 ID → 사용자 ID 매핑
+    // 세션 관리 (사용자 ID → 세션 목록, 주문 ID → 관여 사용자)
+    private final OrderSessionRegistry sessionRegistry;
+    // 세션별 비동기 송신 대기열
+    private final WebSocketOutboundSender outboundSender;
+    // 공용 Heartbeat (Ping 분산 전송 / idle 세션 종료)
+    private final WebSocketHeartbeatService heartbeatService;
+    // 인스턴스 간 fan-out 버스
+    private final WebSocketBroadcastBus broadcastBus;
+    private final MeterRegistry meterRegistry;
+
+    @PostConstruct
+    void subscribeBroadcastBus() {
+        broadcastBus.subscribe(this::deliverRemote);
+
+        Gauge.builder("order.websocket.sessions", sessionRegistry, OrderSessionRegistry::sessionCount)
+                .description("연결된 WebSocket 세션 수")
+                .tag("handler", "order")
+                .register(meterRegistry);
+        Gauge.builder("order.websocket.users", sessionRegistry, OrderSessionRegistry::userCount)
+                .description("주문 WebSocket 접속 사용자 수")
+                .register(meterRegistry);
+    }
 
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
@@ -35,7 +62,6 @@ public class OrderWebSocketHandler implements WebSocketHandler {
         try {
             Long userId = authenticateAndMapUser(session);
             if (userId != null) {
-                sessions.put(session.getId(), session);
                 log.info("사용자 인증 및 매핑 완료 - User ID: {}, Session ID: {}", userId, session.getId());
             } else {
                 log.warn("사용자 인증 실패 - Session ID: {}", session.getId());
@@ -48,7 +74,7 @@ public class OrderWebSocketHandler implements WebSocketHandler {
             return;
         }
         
-        log.info("현재 활성 세션 수: {}", sessions.size());
+        log.info("현재 활성 세션 수: {}, 접속 사용자 수: {}", sessionRegistry.sessionCount(), sessionRegistry.userCount());
     }
 
     /**
@@ -67,7 +93,7 @@ public class OrderWebSocketHandler implements WebSocketHandler {
             Long userId = Long.parseLong(userIdParam);
             
             // 사용자 매핑
-            registerUser(userId, session.getId());
+            registerUser(userId, session);
             return userId;
             
         } catch (Exception e) {
@@ -77,17 +103,27 @@ public class OrderWebSocketHandler implements WebSocketHandler {
     }
 
     /**
-     * 사용자 ID와 WebSocket 세션을 매핑
+     * 사용자 ID와 WebSocket 세션을 매핑 (같은 사용자의 기존 세션은 유지)
      */
-    public void registerUser(Long userId, String sessionId) {
-        userToSession.put(userId, sessionId);
-        sessionToUser.put(sessionId, userId);
-        log.info("사용자 등록 완료 - User ID: {}, Session ID: {}", userId, sessionId);
+    public void registerUser(Long userId, WebSocketSession session) {
+        outboundSender.register(session);
+        heartbeatService.register(session);
+        sessionRegistry.register(userId, session);
+        log.info("사용자 등록 완료 - User ID: {}, Session ID: {}, 사용자 세션 수: {}",
+                userId, session.getId(), sessionRegistry.sessionsOf(userId).size());
     }
 
 
     @Override
     public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) throws Exception {
+        heartbeatService.touch(session);
+
+        // Pong 메시지 (Heartbeat 응답)
+        if (message instanceof PongMessage) {
+            log.debug("Pong 수신 - Session ID: {}", session.getId());
+            return;
+        }
+
         String payload = (String) message.getPayload();
         log.info("WebSocket 메시지 수신 - Session ID: {}, Payload: {}", session.getId(), payload);
         
@@ -96,10 +132,76 @@ public class OrderWebSocketHandler implements WebSocketHandler {
         log.info("WebSocket은 응답 전용입니다. 주문 승인은 API를 통해 요청하세요.");
     }
 
+    /**
+     * 주문 상태 변경 전송 - 해당 주문에 관여한 사용자(승인/처리한 관리자 등)에게만 전송
+     */
     public void sendOrderStatusUpdate(Long orderId, OrderStatus status, String step, String message, Object data) {
-        // 주문 ID로 사용자 ID를 찾아서 해당 사용자에게만 전송
-        // (실제로는 주문을 생성한 사용자에게만 전송해야 함)
-        OrderApprovalResponse response = OrderApprovalResponse.builder()
+        sendOrderStatusUpdate(orderId, null, status, step, message, data);
+    }
+
+    /**
+     * 주문 상태 변경 전송 - 주문자 + 해당 주문에 관여한 사용자에게만 전송
+     * - 로컬 세션에 전송한 뒤 버스로 1회 발행 (다른 인스턴스에 접속한 수신자용)
+     */
+    public void sendOrderStatusUpdate(Long orderId, Long ownerId, OrderStatus status, String step, String message, Object data) {
+        String payload = serialize(buildResponse(orderId, status, step, message, data));
+        if (payload == null) {
+            return;
+        }
+
+        Set<Long> recipients = sessionRegistry.recipientsOf(orderId, ownerId);
+        int sentCount = sendToUsers(recipients, new TextMessage(payload));
+        broadcastBus.publish(WebSocketBroadcast.toUsers(orderId, recipients, true, payload));
+
+        log.info("주문 상태 업데이트 전송 완료 - Order ID: {}, Status: {}, Step: {}, 수신 사용자 수: {}, 로컬 전송 세션 수: {}",
+                orderId, status, step, recipients.size(), sentCount);
+    }
+
+    /**
+     * 특정 사용자에게만 메시지 전송 (사용자의 모든 세션)
+     * - 주문 ID가 있으면 해당 사용자를 주문 관여자로 등록하여 이후 상태 변경도 함께 수신
+     */
+    public void sendToUser(Long userId, Long orderId, OrderStatus status, String step, String message, Object data) {
+        sessionRegistry.watchOrder(orderId, userId);
+
+        String payload = serialize(buildResponse(orderId, status, step, message, data));
+        if (payload == null) {
+            return;
+        }
+
+        int sentCount = sendToUsers(Set.of(userId), new TextMessage(payload));
+        broadcastBus.publish(WebSocketBroadcast.toUsers(orderId, Set.of(userId), false, payload));
+
+        log.info("사용자별 메시지 전송 완료 - User ID: {}, Order ID: {}, Status: {}, Step: {}, 로컬 전송 세션 수: {}",
+                userId, orderId, status, step, sentCount);
+    }
+
+    // 다른 인스턴스에서 발행한 주문 메시지를 로컬 세션에 전송
+    private void deliverRemote(WebSocketBroadcast broadcast) {
+        if (!WebSocketBroadcast.CHANNEL_ORDER.equals(broadcast.getChannel())) {
+            return;
+        }
+
+        Set<Long> recipients = new HashSet<>();
+        if (broadcast.getUserIds() != null) {
+            recipients.addAll(broadcast.getUserIds());
+        }
+        if (broadcast.isIncludeOrderWatchers()) {
+            recipients.addAll(sessionRegistry.recipientsOf(broadcast.getOrderId(), null));
+        }
+        sendToUsers(recipients, new TextMessage(broadcast.getPayload()));
+    }
+
+    private int sendToUsers(Set<Long> userIds, TextMessage textMessage) {
+        int sentCount = 0;
+        for (Long userId : userIds) {
+            sentCount += sendToSessions(sessionRegistry.sessionsOf(userId), textMessage);
+        }
+        return sentCount;
+    }
+
+    private OrderApprovalResponse buildResponse(Long orderId, OrderStatus status, String step, String message, Object data) {
+        return OrderApprovalResponse.builder()
                 .type("ORDER_APPROVAL_RESPONSE")
                 .orderId(orderId)
                 .status(status)
@@ -107,52 +209,35 @@ public class OrderWebSocketHandler implements WebSocketHandler {
                 .step(step)
                 .data(data)
                 .build();
-        
-        // TODO: 주문 ID로 사용자 ID를 찾아서 해당 사용자에게만 전송
-        // 현재는 모든 활성 세션에 전송 (임시)
-        sessions.values().stream()
-                .filter(WebSocketSession::isOpen)
-                .forEach(session -> sendMessage(session, response));
-        
-        log.info("주문 상태 업데이트 전송 완료 - Order ID: {}, Status: {}, Step: {}, 활성 세션 수: {}", 
-                orderId, status, step, sessions.size());
     }
 
-    /**
-     * 특정 사용자에게만 메시지 전송
-     */
-    public void sendToUser(Long userId, Long orderId, OrderStatus status, String step, String message, Object data) {
-        String sessionId = userToSession.get(userId);
-        if (sessionId != null) {
-            WebSocketSession session = sessions.get(sessionId);
-            if (session != null && session.isOpen()) {
-                OrderApprovalResponse response = OrderApprovalResponse.builder()
-                        .type("ORDER_APPROVAL_RESPONSE")
-                        .orderId(orderId)
-                        .status(status)
-                        .message(message)
-                        .step(step)
-                        .data(data)
-                        .build();
-                
-                sendMessage(session, response);
-                log.info("사용자별 메시지 전송 완료 - User ID: {}, Order ID: {}, Status: {}, Step: {}", 
-                        userId, orderId, status, step);
+    // 메시지는 한 번만 직렬화하여 여러 세션/인스턴스에 재사용
+    private String serialize(Object message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (Exception e) {
+            log.error("WebSocket 메시지 직렬화 중 오류 발생", e);
+            return null;
+        }
+    }
+
+    private int sendToSessions(List<WebSocketSession> targetSessions, TextMessage textMessage) {
+        int sentCount = 0;
+        for (WebSocketSession session : targetSessions) {
+            // 송신 대기열에 적재만 하고 반환 (실제 전송은 websocketSendExecutor)
+            if (outboundSender.send(session, textMessage)) {
+                sentCount++;
             } else {
-                log.warn("사용자 세션이 비활성 상태 - User ID: {}, Session ID: {}", userId, sessionId);
+                log.warn("WebSocket 메시지 적재 실패 - Session ID: {}", session.getId());
             }
-        } else {
-            log.warn("사용자 세션을 찾을 수 없음 - User ID: {}", userId);
         }
+        return sentCount;
     }
 
     private void sendMessage(WebSocketSession session, Object message) {
-        try {
-            String jsonMessage = objectMapper.writeValueAsString(message);
-            session.sendMessage(new TextMessage(jsonMessage));
-            log.info("WebSocket 메시지 전송 완료 - Session ID: {}, Message: {}", session.getId(), jsonMessage);
-        } catch (Exception e) {
-            log.error("WebSocket 메시지 전송 중 오류 발생", e);
+        String payload = serialize(message);
+        if (payload != null) {
+            sendToSessions(List.of(session), new TextMessage(payload));
         }
     }
 
@@ -182,16 +267,15 @@ public class OrderWebSocketHandler implements WebSocketHandler {
     public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
         log.info("WebSocket 연결 종료 - Session ID: {}, Close Status: {}", session.getId(), closeStatus);
         
-        // 사용자 매핑 정리
-        Long userId = sessionToUser.remove(session.getId());
+        // 사용자 매핑 정리 (같은 사용자의 다른 세션은 유지)
+        outboundSender.unregister(session);
+        heartbeatService.unregister(session);
+        Long userId = sessionRegistry.unregister(session);
         if (userId != null) {
-            userToSession.remove(userId);
             log.info("사용자 매핑 정리 완료 - User ID: {}, Session ID: {}", userId, session.getId());
         }
         
-        // 세션 정리
-        sessions.remove(session.getId());
-        log.info("현재 활성 세션 수: {}", sessions.size());
+        log.info("현재 활성 세션 수: {}", sessionRegistry.sessionCount());
     }
 
     @Override
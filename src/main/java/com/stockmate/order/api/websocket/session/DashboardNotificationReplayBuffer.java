@@ -0,0 +1,101 @@
+package com.stockmate.order.api.websocket.session;
+
+import com.stockmate.order.api.websocket.dto.DashboardNotificationResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대시보드 알림 재전송 버퍼
+ * - 대상 그룹(admin, warehouse)별로 최근 알림을 순번(알림 ID) 순으로 보관 (최대 buffer-size 건)
+ * - 순번은 IDENTITY 값이라 커밋 순서와 다를 수 있음 → 더 큰 순번보다 늦게 도착한 알림은
+ *   도착 시점까지 본 최대 순번을 함께 기록하여, lastSeq 가 그 이하인 클라이언트에게도 재전송 (클라이언트는 seq 로 중복 제거)
+ * - 버퍼가 보장하는 구간의 하한(floor) 미만 lastSeq 는 DB 에서 조회해야 함
+ *   (기동 후 처음 받은 알림 이전, 밀려난 알림이 필요한 구간)
+ */
+@Component
+public class DashboardNotificationReplayBuffer {
+
+    @Value("${websocket.dashboard.replay.buffer-size:500}")
+    private int bufferSize;
+
+    private final Map<String, GroupBuffer> buffers = new ConcurrentHashMap<>();
+
+    // 알림 보관 (로컬 발생 + 다른 인스턴스에서 버스로 받은 알림)
+    public void append(String target, DashboardNotificationResponse notification) {
+        if (notification.getSeq() == null) {
+            return;
+        }
+        buffers.computeIfAbsent(target, key -> new GroupBuffer()).append(notification, bufferSize);
+    }
+
+    /**
+     * lastSeq 이후 알림 (순번 오름차순)
+     * - lastSeq 보다 큰 순번 + 도착 당시 최대 순번이 lastSeq 이상이었던 늦게 도착한 알림
+     * - 버퍼가 lastSeq 이후 구간을 모두 보관하고 있지 않으면 empty (DB 조회 필요)
+     */
+    public Optional<List<DashboardNotificationResponse>> replayAfter(String target, long lastSeq) {
+        GroupBuffer buffer = buffers.get(target);
+        if (buffer == null) {
+            return Optional.empty();
+        }
+        return buffer.replayAfter(lastSeq);
+    }
+
+    private static final class GroupBuffer {
+        private final TreeMap<Long, Entry> notifications = new TreeMap<>();
+        // lastSeq 가 이 값 미만이면 버퍼가 보장하지 않음
+        private long floor = -1;
+        // 지금까지 도착한 최대 순번
+        private long maxSeq = -1;
+
+        private synchronized void append(DashboardNotificationResponse notification, int bufferSize) {
+            long seq = notification.getSeq();
+            if (floor < 0) {
+                // 기동 전에 커밋된 알림은 알 수 없으므로 첫 알림의 순번부터 보장
+                floor = seq;
+            }
+            // 같은 알림이 로컬/버스로 중복 도착한 경우
+            if (notifications.containsKey(seq)) {
+                return;
+            }
+            maxSeq = Math.max(maxSeq, seq);
+            notifications.put(seq, new Entry(notification, maxSeq));
+
+            while (notifications.size() > bufferSize) {
+                // 밀려난 알림이 필요한 lastSeq 구간은 더 이상 보장하지 않음
+                floor = Math.max(floor, notifications.pollFirstEntry().getValue().requiredBelow());
+            }
+        }
+
+        private synchronized Optional<List<DashboardNotificationResponse>> replayAfter(long lastSeq) {
+            if (floor < 0 || lastSeq < floor) {
+                return Optional.empty();
+            }
+            List<DashboardNotificationResponse> missed = new ArrayList<>();
+            for (Entry entry : notifications.values()) {
+                if (entry.requiredBelow() > lastSeq) {
+                    missed.add(entry.notification());
+                }
+            }
+            return Optional.of(missed);
+        }
+    }
+
+    // 알림과 도착 시점까지 본 최대 순번
+    private record Entry(DashboardNotificationResponse notification, long maxSeqAtArrival) {
+
+        // lastSeq 가 이 값 미만인 클라이언트는 이 알림을 놓쳤을 수 있음
+        // (순서대로 도착: 자기 순번 / 늦게 도착: 도착 당시 최대 순번 + 1)
+        private long requiredBelow() {
+            long seq = notification.getSeq();
+            return seq < maxSeqAtArrival ? maxSeqAtArrival + 1 : seq;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.stockmate.order.api.websocket.session;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 주문 WebSocket 세션 레지스트리
+ * - 사용자 ID → 세션 목록 (한 사용자가 여러 기기/탭으로 접속 가능)
+ * - 주문 ID → 관심 사용자 (주문 처리에 관여한 관리자 등, 일정 시간 후 만료)
+ */
+@Slf4j
+@Component
+public class OrderSessionRegistry {
+
+    private final Map<Long, Set<WebSocketSession>> userSessions = new ConcurrentHashMap<>();
+    private final Map<String, Long> sessionToUser = new ConcurrentHashMap<>();
+    private final Map<Long, Map<Long, Long>> orderWatchers = new ConcurrentHashMap<>(); // 주문 ID → (사용자 ID → 마지막 관여 시각)
+
+    @Value("${websocket.order-watch.ttl-minutes:60}")
+    private long watchTtlMinutes;
+
+    // 세션 등록
+    public void register(Long userId, WebSocketSession session) {
+        userSessions.computeIfAbsent(userId, k -> ConcurrentHashMap.newKeySet()).add(session);
+        sessionToUser.put(session.getId(), userId);
+    }
+
+    // 세션 해제 - 해당 세션의 사용자 ID 반환 (미등록 세션이면 null)
+    public Long unregister(WebSocketSession session) {
+        Long userId = sessionToUser.remove(session.getId());
+        if (userId != null) {
+            userSessions.computeIfPresent(userId, (id, sessions) -> {
+                sessions.remove(session);
+                return sessions.isEmpty() ? null : sessions;
+            });
+        }
+        return userId;
+    }
+
+    // 사용자의 열린 세션 목록
+    public List<WebSocketSession> sessionsOf(Long userId) {
+        Set<WebSocketSession> sessions = userSessions.get(userId);
+        if (sessions == null) {
+            return List.of();
+        }
+        List<WebSocketSession> open = new ArrayList<>(sessions.size());
+        for (WebSocketSession session : sessions) {
+            if (session.isOpen()) {
+                open.add(session);
+            }
+        }
+        return open;
+    }
+
+    // 주문 처리에 관여한 사용자 등록 (이후 해당 주문의 상태 변경을 함께 수신)
+    public void watchOrder(Long orderId, Long userId) {
+        if (orderId == null || userId == null) {
+            return;
+        }
+        orderWatchers.computeIfAbsent(orderId, k -> new ConcurrentHashMap<>())
+                .put(userId, System.currentTimeMillis());
+    }
+
+    // 주문 상태 변경 수신 대상 - 주문자 + 관여 사용자
+    public Set<Long> recipientsOf(Long orderId, Long ownerId) {
+        Set<Long> recipients = new LinkedHashSet<>();
+        if (ownerId != null) {
+            recipients.add(ownerId);
+        }
+        if (orderId != null) {
+            Map<Long, Long> watchers = orderWatchers.get(orderId);
+            if (watchers != null) {
+                recipients.addAll(watchers.keySet());
+            }
+        }
+        return recipients;
+    }
+
+    public int sessionCount() {
+        return sessionToUser.size();
+    }
+
+    public int userCount() {
+        return userSessions.size();
+    }
+
+    // 만료된 주문 관여 정보 정리
+    @Scheduled(fixedDelay = 600000)
+    public void purgeExpiredWatches() {
+        long threshold = System.currentTimeMillis() - watchTtlMinutes * 60_000;
+        int before = orderWatchers.size();
+        orderWatchers.entrySet().removeIf(entry -> {
+            entry.getValue().values().removeIf(touchedAt -> touchedAt < threshold);
+            return entry.getValue().isEmpty();
+        });
+        if (before != orderWatchers.size()) {
+            log.info("만료된 주문 관여 정보 정리 - 제거된 주문 수: {}, 남은 주문 수: {}", before - orderWatchers.size(), orderWatchers.size());
+        }
+    }
+}
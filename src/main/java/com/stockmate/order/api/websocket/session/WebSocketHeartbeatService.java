@@ -0,0 +1,173 @@
+package com.stockmate.order.api.websocket.session;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PingMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebSocket Heartbeat (주문 / 대시보드 핸들러 공용)
+ *
+ * WebSocket이 자동으로 끊기는 이유:
+ * 1. 게이트웨이/로드밸런서의 idle 타임아웃 (보통 60초)
+ * 2. 네트워크 레벨의 TCP Keep-Alive 부재
+ * 3. 프록시 서버의 연결 타임아웃
+ *
+ * - 해시 타이밍 휠: 세션 ID 해시로 슬롯을 정해 interval 동안 Ping 을 고르게 분산 전송
+ * - 전용 스레드가 tick 마다 한 슬롯만 처리 (공용 @Scheduled 스레드 사용 안 함)
+ * - 마지막 수신 시각은 nanoTime 으로 기록, idle-timeout 동안 수신이 없으면 연결 종료
+ * - Ping 은 송신 대기열에 적재만 하므로 느린 세션이 휠을 막지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WebSocketHeartbeatService {
+
+    // 모든 세션이 공유하는 Ping 페이로드 (읽기 전용, 전송 시 위치만 분리된 duplicate 사용)
+    private static final ByteBuffer PING_PAYLOAD =
+            ByteBuffer.wrap("keepalive".getBytes(StandardCharsets.UTF_8)).asReadOnlyBuffer();
+
+    private final WebSocketOutboundSender outboundSender;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${websocket.heartbeat.interval-ms:30000}")
+    private long intervalMs;
+
+    @Value("${websocket.heartbeat.tick-ms:100}")
+    private long tickMs;
+
+    @Value("${websocket.heartbeat.idle-timeout-ms:90000}")
+    private long idleTimeoutMs;
+
+    private final Map<String, Heartbeat> heartbeats = new ConcurrentHashMap<>();
+    private Set<Heartbeat>[] wheel;
+    private int cursor;
+    private long idleTimeoutNanos;
+    private ScheduledExecutorService ticker;
+
+    @PostConstruct
+    @SuppressWarnings("unchecked")
+    void start() {
+        int slotCount = (int) Math.max(1, intervalMs / tickMs);
+        wheel = new Set[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            wheel[i] = ConcurrentHashMap.newKeySet();
+        }
+        idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMs);
+
+        Gauge.builder("order.websocket.heartbeat.sessions", heartbeats, Map::size)
+                .description("Heartbeat 대상 WebSocket 세션 수")
+                .register(meterRegistry);
+
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "websocket-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+        log.info("WebSocket Heartbeat 시작 - 주기: {}ms, 슬롯 수: {}, idle 타임아웃: {}ms", intervalMs, slotCount, idleTimeoutMs);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    // 세션 등록 (연결 수립 시)
+    public void register(WebSocketSession session) {
+        Heartbeat heartbeat = new Heartbeat(session, Math.floorMod(session.getId().hashCode(), wheel.length));
+        Heartbeat previous = heartbeats.put(session.getId(), heartbeat);
+        if (previous != null) {
+            wheel[previous.slot].remove(previous);
+        }
+        wheel[heartbeat.slot].add(heartbeat);
+    }
+
+    // 세션 해제 (연결 종료 시)
+    public void unregister(WebSocketSession session) {
+        Heartbeat heartbeat = heartbeats.remove(session.getId());
+        if (heartbeat != null) {
+            wheel[heartbeat.slot].remove(heartbeat);
+        }
+    }
+
+    // 수신 기록 (Pong, 텍스트 메시지 등 클라이언트로부터 받은 모든 메시지)
+    public void touch(WebSocketSession session) {
+        Heartbeat heartbeat = heartbeats.get(session.getId());
+        if (heartbeat != null) {
+            heartbeat.lastReceivedNanos = System.nanoTime();
+        }
+    }
+
+    public int sessionCount() {
+        return heartbeats.size();
+    }
+
+    // 현재 슬롯의 세션만 처리 - idle 세션 종료, 나머지는 Ping 적재
+    private void tick() {
+        try {
+            Set<Heartbeat> slot = wheel[cursor];
+            cursor = (cursor + 1) % wheel.length;
+            if (slot.isEmpty()) {
+                return;
+            }
+
+            long now = System.nanoTime();
+            for (Heartbeat heartbeat : slot) {
+                WebSocketSession session = heartbeat.session;
+                if (!session.isOpen()) {
+                    unregister(session);
+                } else if (now - heartbeat.lastReceivedNanos > idleTimeoutNanos) {
+                    evict(heartbeat);
+                } else if (!outboundSender.send(session, new PingMessage(PING_PAYLOAD.duplicate()))) {
+                    // 느린 세션은 송신기에서 이미 종료됨
+                    unregister(session);
+                }
+            }
+        } catch (Exception e) {
+            log.error("WebSocket Heartbeat 처리 중 오류 발생 - Error: {}", e.getMessage(), e);
+        }
+    }
+
+    private void evict(Heartbeat heartbeat) {
+        WebSocketSession session = heartbeat.session;
+        unregister(session);
+        meterRegistry.counter("order.websocket.heartbeat.evicted").increment();
+        log.warn("응답 없는 WebSocket 세션 종료 - Session ID: {}, 마지막 수신: {}ms 전", session.getId(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - heartbeat.lastReceivedNanos));
+        try {
+            session.close(CloseStatus.SESSION_NOT_RELIABLE.withReason("heartbeat timeout"));
+        } catch (Exception e) {
+            log.debug("idle 세션 종료 실패 - Session ID: {}, Error: {}", session.getId(), e.getMessage());
+        }
+    }
+
+    private static final class Heartbeat {
+        private final WebSocketSession session;
+        private final int slot;
+        private volatile long lastReceivedNanos = System.nanoTime();
+
+        private Heartbeat(WebSocketSession session, int slot) {
+            this.session = session;
+            this.slot = slot;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.stockmate.order.api.websocket.session;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * WebSocket 비동기 송신기
+ * - 세션별 송신 대기열에 적재만 하고 즉시 반환 (업무 스레드는 WebSocket I/O 로 블로킹되지 않음)
+ * - 세션별 대기열은 websocketSendExecutor 에서 한 번에 하나의 작업으로 순서대로 비움
+ * - 대기 바이트 초과 또는 송신 시간 초과 세션은 느린 클라이언트로 보고 연결 종료
+ *   (세션당 송신은 항상 하나의 drain 작업에서만 일어나므로 한도는 세션 데코레이터가 아닌 여기서 직접 검사)
+ *   · 적재 시: 대기 바이트 한도, 진행 중인 송신의 경과 시간
+ *   · 송신 직전: 메시지가 대기열에서 기다린 시간
+ * - 송신 작업 예약이 거부되면 대기열을 비울 수 없으므로 세션을 종료 (클라이언트 재연결 후 재동기화)
+ * - 지표: 등록 세션 수 / 전체 대기 바이트 / 송신 작업 대기 수 (gauge), 적재→송신 완료 시간 (timer)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WebSocketOutboundSender {
+
+    @Qualifier("websocketSendExecutor")
+    private final ThreadPoolTaskExecutor websocketSendExecutor;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${websocket.outbound.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+
+    @Value("${websocket.outbound.buffer-size-limit-bytes:524288}")
+    private int bufferSizeLimit;
+
+    private final Map<String, OutboundSession> outbounds = new ConcurrentHashMap<>();
+    private final AtomicLong totalQueuedBytes = new AtomicLong();
+    private Timer sendLatency;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("order.websocket.outbound.sessions", outbounds, Map::size)
+                .description("송신 대기열이 등록된 WebSocket 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("order.websocket.outbound.queued.bytes", totalQueuedBytes, AtomicLong::get)
+                .description("전체 세션의 송신 대기 바이트")
+                .register(meterRegistry);
+        Gauge.builder("order.websocket.outbound.executor.queue", websocketSendExecutor,
+                        executor -> executor.getThreadPoolExecutor().getQueue().size())
+                .description("송신 작업 대기 수 (websocketSendExecutor)")
+                .register(meterRegistry);
+        sendLatency = Timer.builder("order.websocket.outbound.send")
+                .description("송신 대기열 적재부터 송신 완료까지 소요 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    // 세션 등록 (연결 수립 시)
+    public void register(WebSocketSession session) {
+        outbounds.put(session.getId(), new OutboundSession(session));
+    }
+
+    // 세션 해제 (연결 종료 시) - 남은 대기 메시지는 폐기
+    public void unregister(WebSocketSession session) {
+        OutboundSession outbound = outbounds.remove(session.getId());
+        if (outbound != null) {
+            outbound.discard();
+        }
+    }
+
+    /**
+     * 송신 대기열에 적재 - 적재 실패(미등록/종료/느린 세션 종료) 시 false
+     */
+    public boolean send(WebSocketSession session, WebSocketMessage<?> message) {
+        OutboundSession outbound = outbounds.get(session.getId());
+        if (outbound == null) {
+            return false;
+        }
+        return outbound.enqueue(message);
+    }
+
+    public int queuedBytes(WebSocketSession session) {
+        OutboundSession outbound = outbounds.get(session.getId());
+        return outbound != null ? (int) outbound.queuedBytes.get() : 0;
+    }
+
+    private void evict(OutboundSession outbound, String reason) {
+        if (!outbounds.remove(outbound.session.getId(), outbound)) {
+            return;
+        }
+        outbound.discard();
+        meterRegistry.counter("order.websocket.outbound.evicted").increment();
+        log.warn("느린 WebSocket 세션 종료 - Session ID: {}, 사유: {}", outbound.session.getId(), reason);
+        try {
+            outbound.session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (Exception e) {
+            log.debug("느린 세션 종료 중 오류 - Session ID: {}, Error: {}", outbound.session.getId(), e.getMessage());
+        }
+    }
+
+    private final class OutboundSession {
+
+        private final WebSocketSession session;
+        private final Queue<QueuedMessage> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicLong queuedBytes = new AtomicLong();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile long sendStartedAt; // 진행 중인 송신 시작 시각 (0 = 송신 중 아님)
+        private volatile boolean discarded; // 해제/종료되어 더 이상 송신하지 않음
+
+        private OutboundSession(WebSocketSession session) {
+            this.session = session;
+        }
+
+        private boolean enqueue(WebSocketMessage<?> message) {
+            if (!session.isOpen()) {
+                return false;
+            }
+
+            long startedAt = sendStartedAt;
+            if (startedAt > 0 && System.currentTimeMillis() - startedAt > sendTimeLimitMs) {
+                evict(this, "송신 시간 초과 (" + sendTimeLimitMs + "ms)");
+                return false;
+            }
+            int payloadLength = message.getPayloadLength();
+            if (queuedBytes.addAndGet(payloadLength) > bufferSizeLimit) {
+                queuedBytes.addAndGet(-payloadLength);
+                evict(this, "송신 대기 바이트 초과 (" + bufferSizeLimit + " bytes)");
+                return false;
+            }
+            totalQueuedBytes.addAndGet(payloadLength);
+
+            queue.add(new QueuedMessage(message, System.nanoTime()));
+            if (discarded) {
+                // 적재 도중 해제된 경우 - 방금 넣은 메시지까지 폐기
+                discard();
+                return false;
+            }
+            return schedule();
+        }
+
+        // drain 작업 예약 - 예약 거부로 세션이 종료되면 false
+        private boolean schedule() {
+            if (!draining.compareAndSet(false, true)) {
+                return true;
+            }
+            try {
+                websocketSendExecutor.execute(this::drain);
+                return true;
+            } catch (TaskRejectedException e) {
+                // 이후 적재가 없으면 대기열이 영원히 남으므로 유지하지 않고 세션 종료
+                draining.set(false);
+                meterRegistry.counter("order.websocket.outbound.rejected").increment();
+                evict(this, "송신 작업 대기열 초과 (대기 작업 수: "
+                        + websocketSendExecutor.getThreadPoolExecutor().getQueue().size() + ")");
+                return false;
+            }
+        }
+
+        private void drain() {
+            try {
+                QueuedMessage queued;
+                while ((queued = queue.poll()) != null) {
+                    release(queued);
+                    if (!session.isOpen()) {
+                        discard();
+                        return;
+                    }
+                    long waitedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - queued.enqueuedAt());
+                    if (waitedMs > sendTimeLimitMs) {
+                        evict(this, "송신 대기 시간 초과 (" + waitedMs + "ms)");
+                        return;
+                    }
+                    sendStartedAt = System.currentTimeMillis();
+                    session.sendMessage(queued.message());
+                    sendStartedAt = 0;
+                    sendLatency.record(System.nanoTime() - queued.enqueuedAt(), TimeUnit.NANOSECONDS);
+                }
+            } catch (Exception e) {
+                log.warn("WebSocket 메시지 송신 실패 - Session ID: {}, Error: {}", session.getId(), e.getMessage());
+            } finally {
+                sendStartedAt = 0;
+                draining.set(false);
+            }
+
+            // 비우는 도중 적재된 메시지가 있으면 다시 예약
+            if (!queue.isEmpty() && session.isOpen()) {
+                schedule();
+            }
+        }
+
+        // 남은 메시지 폐기 - 직접 꺼낸 메시지의 바이트만 차감 (drain 이 동시에 꺼낸 메시지는 drain 이 차감)
+        private void discard() {
+            discarded = true;
+            QueuedMessage queued;
+            while ((queued = queue.poll()) != null) {
+                release(queued);
+            }
+        }
+
+        // 대기열에서 꺼낸 메시지의 바이트 차감 (메시지당 한 번, 꺼낸 쪽에서만 호출)
+        private void release(QueuedMessage queued) {
+            int payloadLength = queued.message().getPayloadLength();
+            queuedBytes.addAndGet(-payloadLength);
+            totalQueuedBytes.addAndGet(-payloadLength);
+        }
+    }
+
+    private record QueuedMessage(WebSocketMessage<?> message, long enqueuedAt) {
+    }
+}
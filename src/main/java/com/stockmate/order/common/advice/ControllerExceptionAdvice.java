@@ -3,10 +3,12 @@ package com.stockmate.order.common.advice;
 import com.stockmate.order.common.exception.BadRequestException;
 import com.stockmate.order.common.exception.BaseException;
 import com.stockmate.order.common.exception.NotFoundException;
+import com.stockmate.order.common.exception.TooManyRequestsException;
 import com.stockmate.order.common.response.ApiResponse;
 import com.stockmate.order.common.response.ErrorStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -43,6 +45,16 @@ public class ControllerExceptionAdvice {
                 .body(ApiResponse.fail(ex.getStatusCode(), ex.getResponseMessage()));
     }
 
+    /**
+     * 요청 과다 (대기열 초과) - Retry-After 헤더 포함
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ApiResponse> handleTooManyRequests(TooManyRequestsException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiResponse.fail(ex.getStatusCode(), ex.getResponseMessage()));
+    }
+
     /**
      * 필수 Request Parameter가 누락되었을 경우
      */
@@ -0,0 +1,202 @@
+package com.stockmate.order.common.codec;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stockmate.order.api.order.dto.*;
+import com.stockmate.order.api.order.entity.OrderStatus;
+import com.stockmate.order.api.order.entity.PaymentType;
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.io.*;
+
+/**
+ * 주문 이벤트 바이너리 코덱 (스키마 버전 포함)
+ * - 형식: [매직 1B][스키마 버전 1B][타입 ID 1B][필드...]
+ * - 필드 이름 없이 고정 순서로 기록, null 가능 필드는 존재 여부 1B 선행
+ * - 필드 추가 시 SCHEMA_VERSION 을 올리고 이전 버전 디코딩 분기를 유지할 것
+ */
+public final class OrderEventBinaryCodec {
+
+    public static final byte MAGIC = 0x4F; // 'O'
+    public static final byte SCHEMA_VERSION = 2; // 2: PayCancelRequestEvent.cancelAttemptId 추가
+
+    private static final byte PAY_REQUEST = 1;
+    private static final byte PAY_CANCEL_REQUEST = 2;
+    private static final byte PAY_RESPONSE = 3;
+    private static final byte CANCEL_RESPONSE = 4;
+    private static final byte RECEIVING_SUCCESS = 5;
+    private static final byte RECEIVING_FAILED = 6;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private OrderEventBinaryCodec() {
+    }
+
+    public static boolean supports(Object event) {
+        return event instanceof PayRequestEvent
+                || event instanceof PayCancelRequestEvent
+                || event instanceof PayResponseEvent
+                || event instanceof CancelResponseEvent
+                || event instanceof ReceivingProcessSuccessEvent
+                || event instanceof ReceivingProcessFailedEvent;
+    }
+
+    public static byte[] encode(Object event) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(MAGIC);
+            out.writeByte(SCHEMA_VERSION);
+
+            if (event instanceof PayRequestEvent e) {
+                out.writeByte(PAY_REQUEST);
+                writeLong(out, e.getOrderId());
+                writeLong(out, e.getMemberId());
+                writeString(out, e.getOrderNumber());
+                writeString(out, e.getPaymentType() != null ? e.getPaymentType().name() : null);
+                out.writeInt(e.getTotalPrice());
+                writeString(out, e.getOrderStatus() != null ? e.getOrderStatus().name() : null);
+            } else if (event instanceof PayCancelRequestEvent e) {
+                out.writeByte(PAY_CANCEL_REQUEST);
+                writeLong(out, e.getOrderId());
+                writeLong(out, e.getMemberId());
+                writeString(out, e.getOrderNumber());
+                writeString(out, e.getPaymentType() != null ? e.getPaymentType().name() : null);
+                out.writeInt(e.getTotalPrice());
+                writeString(out, e.getOrderStatus() != null ? e.getOrderStatus().name() : null);
+                writeString(out, e.getCancelAttemptId());
+            } else if (event instanceof PayResponseEvent e) {
+                out.writeByte(PAY_RESPONSE);
+                writeLong(out, e.getOrderId());
+                writeString(out, e.getOrderNumber());
+                writeString(out, e.getApprovalAttemptId());
+                writeBoolean(out, e.getIsSuccess());
+                writeString(out, e.getEtc());
+            } else if (event instanceof CancelResponseEvent e) {
+                out.writeByte(CANCEL_RESPONSE);
+                writeLong(out, e.getOrderId());
+                writeString(out, e.getOrderNumber());
+                writeString(out, e.getApprovalAttemptId());
+            } else if (event instanceof ReceivingProcessSuccessEvent e) {
+                out.writeByte(RECEIVING_SUCCESS);
+                writeLong(out, e.getOrderId());
+                writeString(out, e.getOrderNumber());
+                writeString(out, e.getApprovalAttemptId());
+                writeString(out, e.getMessage());
+            } else if (event instanceof ReceivingProcessFailedEvent e) {
+                out.writeByte(RECEIVING_FAILED);
+                writeLong(out, e.getOrderId());
+                writeString(out, e.getOrderNumber());
+                writeString(out, e.getApprovalAttemptId());
+                writeString(out, e.getErrorMessage());
+                writeString(out, e.getData() != null ? OBJECT_MAPPER.writeValueAsString(e.getData()) : null);
+            } else {
+                throw new SerializationException("바이너리 코덱 미지원 이벤트: " + event.getClass().getName());
+            }
+        } catch (IOException e) {
+            throw new SerializationException("주문 이벤트 바이너리 인코딩 실패", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static Object decode(byte[] data) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            if (in.readByte() != MAGIC) {
+                throw new SerializationException("주문 이벤트 바이너리 형식이 아닙니다.");
+            }
+            byte version = in.readByte();
+            if (version < 1 || version > SCHEMA_VERSION) {
+                throw new SerializationException("지원하지 않는 주문 이벤트 스키마 버전: " + version);
+            }
+
+            byte type = in.readByte();
+            return switch (type) {
+                case PAY_REQUEST -> PayRequestEvent.builder()
+                        .orderId(readLong(in))
+                        .memberId(readLong(in))
+                        .orderNumber(readString(in))
+                        .paymentType(readEnum(in, PaymentType.class))
+                        .totalPrice(in.readInt())
+                        .orderStatus(readEnum(in, OrderStatus.class))
+                        .build();
+                case PAY_CANCEL_REQUEST -> PayCancelRequestEvent.builder()
+                        .orderId(readLong(in))
+                        .memberId(readLong(in))
+                        .orderNumber(readString(in))
+                        .paymentType(readEnum(in, PaymentType.class))
+                        .totalPrice(in.readInt())
+                        .orderStatus(readEnum(in, OrderStatus.class))
+                        .cancelAttemptId(version >= 2 ? readString(in) : null)
+                        .build();
+                case PAY_RESPONSE -> PayResponseEvent.builder()
+                        .orderId(readLong(in))
+                        .orderNumber(readString(in))
+                        .approvalAttemptId(readString(in))
+                        .isSuccess(readBoolean(in))
+                        .etc(readString(in))
+                        .build();
+                case CANCEL_RESPONSE -> CancelResponseEvent.builder()
+                        .orderId(readLong(in))
+                        .orderNumber(readString(in))
+                        .approvalAttemptId(readString(in))
+                        .build();
+                case RECEIVING_SUCCESS -> ReceivingProcessSuccessEvent.builder()
+                        .orderId(readLong(in))
+                        .orderNumber(readString(in))
+                        .approvalAttemptId(readString(in))
+                        .message(readString(in))
+                        .build();
+                case RECEIVING_FAILED -> {
+                    ReceivingProcessFailedEvent.ReceivingProcessFailedEventBuilder builder = ReceivingProcessFailedEvent.builder()
+                            .orderId(readLong(in))
+                            .orderNumber(readString(in))
+                            .approvalAttemptId(readString(in))
+                            .errorMessage(readString(in));
+                    String json = readString(in);
+                    yield builder.data(json != null ? OBJECT_MAPPER.readValue(json, Object.class) : null).build();
+                }
+                default -> throw new SerializationException("알 수 없는 주문 이벤트 타입 ID: " + type);
+            };
+        } catch (JsonProcessingException e) {
+            throw new SerializationException("주문 이벤트 부가 데이터 디코딩 실패", e);
+        } catch (IOException e) {
+            throw new SerializationException("주문 이벤트 바이너리 디코딩 실패", e);
+        }
+    }
+
+    private static void writeLong(DataOutputStream out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    // null / false / true 를 1바이트로 표현
+    private static void writeBoolean(DataOutputStream out, Boolean value) throws IOException {
+        out.writeByte(value == null ? 0 : (value ? 2 : 1));
+    }
+
+    private static Long readLong(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static Boolean readBoolean(DataInputStream in) throws IOException {
+        byte value = in.readByte();
+        return value == 0 ? null : value == 2;
+    }
+
+    private static <E extends Enum<E>> E readEnum(DataInputStream in, Class<E> type) throws IOException {
+        String name = readString(in);
+        return name != null ? Enum.valueOf(type, name) : null;
+    }
+}
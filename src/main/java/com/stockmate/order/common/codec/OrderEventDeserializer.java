@@ -0,0 +1,41 @@
+package com.stockmate.order.common.codec;
+
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 주문 이벤트 Deserializer
+ * - 형식 헤더가 바이너리이면 OrderEventBinaryCodec 으로 디코딩
+ * - 헤더가 없으면 기존 JSON Deserializer 에 위임 (기존 Producer 호환)
+ */
+public class OrderEventDeserializer implements Deserializer<Object> {
+
+    private final Deserializer<Object> jsonDeserializer;
+
+    public OrderEventDeserializer(Deserializer<Object> jsonDeserializer) {
+        this.jsonDeserializer = jsonDeserializer;
+    }
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        return jsonDeserializer.deserialize(topic, data);
+    }
+
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        Header format = headers.lastHeader(OrderEventSerializer.FORMAT_HEADER);
+        if (data != null && format != null
+                && new String(format.value(), StandardCharsets.UTF_8).startsWith("binary")) {
+            return OrderEventBinaryCodec.decode(data);
+        }
+        return jsonDeserializer.deserialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        jsonDeserializer.close();
+    }
+}
@@ -0,0 +1,64 @@
+package com.stockmate.order.common.codec;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * 주문 이벤트 Serializer
+ * - 바이너리 대상 토픽이면 OrderEventBinaryCodec 으로 인코딩하고 형식 헤더 기록
+ * - 그 외에는 기존 JSON Serializer 에 위임 (형식 헤더 제거)
+ * - 바이너리로 표현할 수 없는 이벤트 (문자열 필드가 64KB 초과 등) 도 JSON 으로 전송
+ */
+@Slf4j
+public class OrderEventSerializer implements Serializer<Object> {
+
+    public static final String FORMAT_HEADER = "order-event-format";
+    public static final String BINARY_FORMAT = "binary-v" + OrderEventBinaryCodec.SCHEMA_VERSION;
+
+    private final Serializer<Object> jsonSerializer;
+    private final Set<String> binaryTopics;
+
+    public OrderEventSerializer(Serializer<Object> jsonSerializer, Set<String> binaryTopics) {
+        this.jsonSerializer = jsonSerializer;
+        this.binaryTopics = binaryTopics;
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        return jsonSerializer.serialize(topic, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        headers.remove(FORMAT_HEADER);
+        if (data != null && binaryTopics.contains(topic) && OrderEventBinaryCodec.supports(data)) {
+            byte[] encoded = encodeBinary(data);
+            if (encoded != null) {
+                headers.add(FORMAT_HEADER, BINARY_FORMAT.getBytes(StandardCharsets.UTF_8));
+                return encoded;
+            }
+        }
+        return jsonSerializer.serialize(topic, headers, data);
+    }
+
+    // 바이너리 인코딩 실패 시 null (JSON 으로 전송)
+    private static byte[] encodeBinary(Object data) {
+        try {
+            return OrderEventBinaryCodec.encode(data);
+        } catch (SerializationException e) {
+            log.warn("[OrderEventSerializer] 바이너리 인코딩 실패, JSON 으로 전송 - 이벤트: {}, 에러: {}",
+                    data.getClass().getSimpleName(), e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void close() {
+        jsonSerializer.close();
+    }
+}
@@ -0,0 +1,94 @@
+package com.stockmate.order.common.config.async;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    @Value("${order.payment.executor.core-size:4}")
+    private int paymentCoreSize;
+
+    @Value("${order.payment.executor.max-size:8}")
+    private int paymentMaxSize;
+
+    @Value("${order.payment.executor.queue-capacity:500}")
+    private int paymentQueueCapacity;
+
+    @Value("${order.approval.executor.core-size:2}")
+    private int approvalCoreSize;
+
+    @Value("${order.approval.executor.max-size:4}")
+    private int approvalMaxSize;
+
+    @Value("${order.approval.executor.queue-capacity:200}")
+    private int approvalQueueCapacity;
+
+    @Value("${websocket.outbound.executor.core-size:4}")
+    private int websocketSendCoreSize;
+
+    @Value("${websocket.outbound.executor.max-size:8}")
+    private int websocketSendMaxSize;
+
+    @Value("${websocket.outbound.executor.queue-capacity:10000}")
+    private int websocketSendQueueCapacity;
+
+    /**
+     * 결제 서버 호출 전용 Executor
+     * - max-size 가 결제 서버로 나가는 동시 요청 수의 상한
+     * - 큐가 가득 차면 TaskRejectedException 발생 (호출 측에서 처리)
+     */
+    @Bean(name = "paymentExecutor")
+    public ThreadPoolTaskExecutor paymentExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(paymentCoreSize);
+        executor.setMaxPoolSize(paymentMaxSize);
+        executor.setQueueCapacity(paymentQueueCapacity);
+        executor.setThreadNamePrefix("payment-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 주문 승인 워크플로우 전용 Executor
+     * - 재고 차감 API 호출과 상태 변경을 HTTP 스레드 밖에서 처리
+     */
+    @Bean(name = "approvalExecutor")
+    public ThreadPoolTaskExecutor approvalExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(approvalCoreSize);
+        executor.setMaxPoolSize(approvalMaxSize);
+        executor.setQueueCapacity(approvalQueueCapacity);
+        executor.setThreadNamePrefix("approval-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * WebSocket 송신 전용 Executor
+     * - 세션별 송신 대기열을 비우는 작업만 실행 (업무 스레드는 대기열 적재 후 즉시 반환)
+     */
+    @Bean(name = "websocketSendExecutor")
+    public ThreadPoolTaskExecutor websocketSendExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(websocketSendCoreSize);
+        executor.setMaxPoolSize(websocketSendMaxSize);
+        executor.setQueueCapacity(websocketSendQueueCapacity);
+        executor.setThreadNamePrefix("ws-send-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(5);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -1,24 +1,41 @@
 package com.stockmate.order.common.config.kafka;
 
 import com.stockmate.order.api.order.dto.*;
+import com.stockmate.order.common.codec.OrderEventDeserializer;
+import com.stockmate.order.common.codec.OrderEventSerializer;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.*;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationBuilder;
 import org.springframework.kafka.support.mapping.DefaultJackson2JavaTypeMapper;
 import org.springframework.kafka.support.mapping.Jackson2JavaTypeMapper;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Configuration
 @Slf4j
@@ -27,11 +44,89 @@ public class KafkaConfig {
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
+    @Value("${kafka.producer.enable-idempotence:true}")
+    private boolean producerIdempotence;
+
+    @Value("${kafka.producer.acks:all}")
+    private String producerAcks;
+
+    @Value("${kafka.producer.linger-ms:5}")
+    private int producerLingerMs;
+
+    @Value("${kafka.producer.batch-size:65536}")
+    private int producerBatchSize;
+
+    @Value("${kafka.producer.compression-type:lz4}")
+    private String producerCompressionType;
+
+    @Value("${kafka.producer.max-in-flight:5}")
+    private int producerMaxInFlight;
+
+    @Value("${kafka.producer.buffer-memory:67108864}")
+    private long producerBufferMemory;
+
+    @Value("${kafka.topics.pay-success}")
+    private String paySuccessTopic;
+
+    @Value("${kafka.topics.pay-failed}")
+    private String payFailedTopic;
+
+    @Value("${kafka.topics.cancel-success}")
+    private String cancelSuccessTopic;
+
+    @Value("${kafka.topics.cancel-failed}")
+    private String cancelFailedTopic;
+
+    @Value("${kafka.topics.receiving-process-success}")
+    private String receivingSuccessTopic;
+
+    @Value("${kafka.topics.receiving-process-failed}")
+    private String receivingFailedTopic;
+
+    @Value("${kafka.retry.max-attempts:4}")
+    private int retryMaxAttempts;
+
+    @Value("${kafka.retry.initial-interval-ms:1000}")
+    private long retryInitialIntervalMs;
+
+    @Value("${kafka.retry.multiplier:2.0}")
+    private double retryMultiplier;
+
+    @Value("${kafka.retry.max-interval-ms:30000}")
+    private long retryMaxIntervalMs;
+
+    @Value("${kafka.dlt.suffix:-dlt}")
+    private String dltSuffix;
+
+    @Value("${kafka.dlt.partitions:1}")
+    private int dltPartitions;
+
+    @Value("${kafka.dlt.replicas:1}")
+    private short dltReplicas;
+
+    @Value("${kafka.listener.batch.max-poll-records:500}")
+    private int batchMaxPollRecords;
+
+    @Value("${kafka.listener.batch.poll-timeout-ms:1000}")
+    private long batchPollTimeoutMs;
+
+    @Value("${kafka.topics.order-status:order-status}")
+    private String orderStatusTopic;
+
+    @Value("${kafka.order-status.partitions:3}")
+    private int orderStatusPartitions;
+
+    @Value("${kafka.order-status.replicas:1}")
+    private short orderStatusReplicas;
+
+    // 바이너리 코덱으로 발행할 토픽 목록 (쉼표 구분, 기본값 없음 = 전부 JSON)
+    @Value("${kafka.codec.binary-topics:}")
+    private Set<String> binaryTopics;
+
     // PRODUCER CONFIG
     @Bean
     public ProducerFactory<String, Object> producerFactory() {
-        Map<String, Object> configProps = new HashMap<>();
-        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        Map<String, Object> configProps = producerProfile();
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
         configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
 
@@ -42,17 +137,118 @@ public class KafkaConfig {
         Map<String, Class<?>> classIdMapping = new HashMap<>();
         classIdMapping.put("payRequest", PayRequestEvent.class); // user-service로 보낼 이벤트
         classIdMapping.put("cancelRequest", CancelRequestEvent.class);
+        classIdMapping.put("orderStatus", OrderStatusSnapshot.class);
         typeMapper.setIdClassMapping(classIdMapping);
         jsonSerializer.setTypeMapper(typeMapper);
 
-        return new DefaultKafkaProducerFactory<>(configProps, new StringSerializer(), jsonSerializer);
+        return new DefaultKafkaProducerFactory<>(configProps, new StringSerializer(),
+                new OrderEventSerializer(jsonSerializer, binaryTopics));
+    }
+
+    /**
+     * 공통 프로듀서 설정 (처리량 프로파일)
+     * - 멱등 프로듀서 + acks=all 로 재시도 중복/순서 뒤바뀜 방지 (in-flight 는 최대 5)
+     * - linger/batch.size/압축으로 브로커 요청 수 감소
+     */
+    public Map<String, Object> producerProfile() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, producerIdempotence);
+        configProps.put(ProducerConfig.ACKS_CONFIG, producerAcks);
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, producerLingerMs);
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, producerBatchSize);
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, producerCompressionType);
+        configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, producerMaxInFlight);
+        configProps.put(ProducerConfig.BUFFER_MEMORY_CONFIG, producerBufferMemory);
+        return configProps;
     }
 
     @Bean
+    @Primary
     public KafkaTemplate<String, Object> kafkaTemplate() {
         return new KafkaTemplate<>(producerFactory());
     }
 
+    // 재시도/DLT 발행용 템플릿 - 역직렬화 실패 레코드는 원본 byte[] 그대로, 그 외는 JSON 으로 발행
+    @Bean
+    public KafkaTemplate<String, Object> deadLetterKafkaTemplate() {
+        Map<String, Object> configProps = producerProfile();
+
+        Map<Class<?>, Serializer<?>> delegates = new LinkedHashMap<>();
+        delegates.put(byte[].class, new ByteArraySerializer());
+        delegates.put(Object.class, new OrderEventSerializer(new JsonSerializer<>(), Set.of()));
+
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(configProps,
+                new StringSerializer(), new DelegatingByTypeSerializer(delegates, true)));
+    }
+
+    // 최종 실패 레코드를 "<원본 토픽>-dlt" 로 발행 (파티션은 브로커가 결정)
+    @Bean
+    public DeadLetterPublishingRecoverer deadLetterPublishingRecoverer() {
+        return new DeadLetterPublishingRecoverer(deadLetterKafkaTemplate(),
+                (record, exception) -> new TopicPartition(record.topic() + dltSuffix, -1));
+    }
+
+    // 주문 결과 토픽 DLT 생성
+    @Bean
+    public KafkaAdmin.NewTopics orderResultDeadLetterTopics() {
+        return new KafkaAdmin.NewTopics(orderResultTopics().stream()
+                .map(topic -> TopicBuilder.name(topic + dltSuffix)
+                        .partitions(dltPartitions)
+                        .replicas(dltReplicas)
+                        .build())
+                .toArray(NewTopic[]::new));
+    }
+
+    // 주문 상태 스냅샷 토픽 - 로그 압축으로 orderId 별 최신 스냅샷만 유지
+    @Bean
+    public NewTopic orderStatusTopic() {
+        return TopicBuilder.name(orderStatusTopic)
+                .partitions(orderStatusPartitions)
+                .replicas(orderStatusReplicas)
+                .compact()
+                .build();
+    }
+
+    // 인스턴스 간 WebSocket fan-out 토픽 (websocket.bus.type=kafka)
+    @Bean
+    @ConditionalOnProperty(name = "websocket.bus.type", havingValue = "kafka")
+    public NewTopic websocketBroadcastTopic(@Value("${websocket.bus.topic:order-websocket-broadcast}") String topic,
+                                            @Value("${websocket.bus.partitions:1}") int partitions,
+                                            @Value("${websocket.bus.replicas:1}") short replicas) {
+        return TopicBuilder.name(topic)
+                .partitions(partitions)
+                .replicas(replicas)
+                .build();
+    }
+
+    /**
+     * 논블로킹 재시도 토픽 (kafka.listener.mode=record)
+     * - 실패 레코드는 지수 백오프 지연 토픽으로 넘겨 원본 파티션을 막지 않음
+     * - 재시도 소진 시 "<원본 토픽>-dlt" 로 이동
+     */
+    @Bean
+    @ConditionalOnProperty(name = "kafka.listener.mode", havingValue = "record", matchIfMissing = true)
+    public RetryTopicConfiguration orderResultRetryTopicConfiguration() {
+        log.info("Kafka 재시도 토픽 설정 - 최대 시도: {}, 초기 지연: {}ms, 배수: {}, 최대 지연: {}ms",
+                retryMaxAttempts, retryInitialIntervalMs, retryMultiplier, retryMaxIntervalMs);
+        return RetryTopicConfigurationBuilder
+                .newInstance()
+                .includeTopics(orderResultTopics())
+                .exponentialBackoff(retryInitialIntervalMs, retryMultiplier, retryMaxIntervalMs)
+                .maxAttempts(retryMaxAttempts)
+                .dltSuffix(dltSuffix)
+                .listenerFactory("kafkaListenerContainerFactory")
+                .dltHandlerMethod("orderDeadLetterHandler", "handleDeadLetter")
+                .autoCreateTopicsWith(dltPartitions, dltReplicas)
+                .create(deadLetterKafkaTemplate());
+    }
+
+    private List<String> orderResultTopics() {
+        return List.of(paySuccessTopic, payFailedTopic, cancelSuccessTopic, cancelFailedTopic,
+                receivingSuccessTopic, receivingFailedTopic);
+    }
+
     // CONSUMER CONFIG
     @Bean
     public ConsumerFactory<String, Object> consumerFactory() {
@@ -77,7 +273,8 @@ public class KafkaConfig {
         jsonDeserializer.addTrustedPackages("*");
         jsonDeserializer.setUseTypeHeaders(false);
 
-        ErrorHandlingDeserializer<Object> errorHandlingDeserializer = new ErrorHandlingDeserializer<>(jsonDeserializer);
+        ErrorHandlingDeserializer<Object> errorHandlingDeserializer =
+                new ErrorHandlingDeserializer<>(new OrderEventDeserializer(jsonDeserializer));
 
         return new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(), errorHandlingDeserializer);
     }
@@ -87,13 +284,57 @@ public class KafkaConfig {
         ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
         factory.setCommonErrorHandler(new org.springframework.kafka.listener.DefaultErrorHandler(
-                (record, exception) -> log.error("Kafka 메시지 처리 실패 - 토픽: {}, 파티션: {}, 오프셋: {}, 에러: {}",
-                        record.topic(), record.partition(), record.offset(), exception.getMessage()),
+                (record, exception) -> {
+                    log.error("Kafka 메시지 처리 실패, DLT 로 이동 - 토픽: {}, 파티션: {}, 오프셋: {}, 에러: {}",
+                            record.topic(), record.partition(), record.offset(), exception.getMessage());
+                    deadLetterPublishingRecoverer().accept(record, exception);
+                },
                 new org.springframework.util.backoff.FixedBackOff(1000L, 3)
         ));
         log.info("Kafka Listener Container Factory 설정 완료");
         return factory;
     }
+
+    // 배치 리스너 (kafka.listener.mode=batch) - poll 단위 처리, 배치당 오프셋 1회 커밋
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaBatchListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setPollTimeout(batchPollTimeoutMs);
+        factory.getContainerProperties().getKafkaConsumerProperties()
+                .setProperty(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(batchMaxPollRecords));
+        factory.setCommonErrorHandler(new org.springframework.kafka.listener.DefaultErrorHandler(
+                (record, exception) -> {
+                    log.error("Kafka 배치 메시지 처리 실패, DLT 로 이동 - 토픽: {}, 파티션: {}, 오프셋: {}, 에러: {}",
+                            record.topic(), record.partition(), record.offset(), exception.getMessage());
+                    deadLetterPublishingRecoverer().accept(record, exception);
+                },
+                new org.springframework.util.backoff.FixedBackOff(1000L, 3)
+        ));
+        log.info("Kafka Batch Listener Container Factory 설정 완료 - max.poll.records: {}", batchMaxPollRecords);
+        return factory;
+    }
+
+    // 병렬 리스너 (kafka.listener.mode=parallel) - 레인 처리 완료 순서와 무관하게 ack, 연속 완료 구간까지만 커밋
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaParallelListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setAsyncAcks(true);
+        factory.setCommonErrorHandler(new org.springframework.kafka.listener.DefaultErrorHandler(
+                (record, exception) -> {
+                    log.error("Kafka 병렬 메시지 처리 실패, DLT 로 이동 - 토픽: {}, 파티션: {}, 오프셋: {}, 에러: {}",
+                            record.topic(), record.partition(), record.offset(), exception.getMessage());
+                    deadLetterPublishingRecoverer().accept(record, exception);
+                },
+                new org.springframework.util.backoff.FixedBackOff(1000L, 3)
+        ));
+        log.info("Kafka Parallel Listener Container Factory 설정 완료");
+        return factory;
+    }
 }
 
 //public class KafkaConfig {
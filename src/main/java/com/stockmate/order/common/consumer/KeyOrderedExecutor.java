@@ -0,0 +1,134 @@
+package com.stockmate.order.common.consumer;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 키 순서 보장 실행기 (kafka.listener.mode=parallel)
+ * - 같은 키(orderId)는 항상 같은 레인(단일 스레드)에서 순서대로 처리
+ * - 제출은 블로킹하지 않음, 대기 작업 수가 max-pending 에 도달하면 등록된 pause 동작으로 poll 을 멈추고
+ *   resume-pending 이하로 줄면 resume (poll 루프는 계속 돌기 때문에 리밸런스가 발생하지 않음)
+ * - pause 이후에도 이미 poll 된 레코드는 받아들이므로 대기 작업 수는 max-pending + max.poll.records 를 넘지 않음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "kafka.listener.mode", havingValue = "parallel")
+public class KeyOrderedExecutor {
+
+    @Value("${kafka.listener.parallel.lanes:8}")
+    private int laneCount;
+
+    @Value("${kafka.listener.parallel.max-pending:800}")
+    private int maxPending;
+
+    @Value("${kafka.listener.parallel.resume-pending:400}")
+    private int resumePending;
+
+    private final List<BlockingQueue<Runnable>> lanes = new ArrayList<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private volatile boolean running;
+
+    // 배압 상태 전환은 임계값을 넘을 때만 잠금 (pause/resume 순서 보장)
+    private boolean paused;
+    private Runnable pauseAction = () -> { };
+    private Runnable resumeAction = () -> { };
+
+    @PostConstruct
+    void start() {
+        running = true;
+        for (int i = 0; i < laneCount; i++) {
+            BlockingQueue<Runnable> lane = new LinkedBlockingQueue<>();
+            Thread worker = new Thread(() -> runLane(lane), "order-lane-" + i);
+            worker.setDaemon(true);
+            lanes.add(lane);
+            workers.add(worker);
+            worker.start();
+        }
+        log.info("[KeyOrderedExecutor] 시작 - 레인 수: {}, 최대 대기 작업: {}, 재개 기준: {}", laneCount, maxPending, resumePending);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        for (Thread worker : workers) {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        int remaining = lanes.stream().mapToInt(BlockingQueue::size).sum();
+        if (remaining > 0) {
+            log.warn("[KeyOrderedExecutor] 종료 시 미처리 작업 - {}건 (오프셋 미커밋으로 재전달됨)", remaining);
+        }
+    }
+
+    /**
+     * 배압 동작 등록 - 대기 작업이 max-pending 에 도달하면 pause, resume-pending 이하가 되면 resume 호출
+     */
+    public synchronized void setBackPressureActions(Runnable pauseAction, Runnable resumeAction) {
+        this.pauseAction = pauseAction;
+        this.resumeAction = resumeAction;
+    }
+
+    /**
+     * 키 기준 레인에 작업 제출 (블로킹 없음)
+     */
+    public void submit(Object key, Runnable task) {
+        lanes.get(Math.floorMod(key == null ? 0 : key.hashCode(), laneCount)).add(task);
+        if (pending.incrementAndGet() >= maxPending) {
+            updateBackPressure();
+        }
+    }
+
+    public int pendingCount() {
+        return pending.get();
+    }
+
+    private void runLane(BlockingQueue<Runnable> lane) {
+        // 종료 시에도 대기열에 남은 작업은 처리
+        while (running || !lane.isEmpty()) {
+            Runnable task;
+            try {
+                task = lane.poll(500, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (task == null) {
+                continue;
+            }
+
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.error("[KeyOrderedExecutor] 작업 실행 중 예외 발생 - 에러: {}", e.getMessage(), e);
+            } finally {
+                if (pending.decrementAndGet() <= resumePending) {
+                    updateBackPressure();
+                }
+            }
+        }
+    }
+
+    private synchronized void updateBackPressure() {
+        int current = pending.get();
+        if (!paused && current >= maxPending) {
+            paused = true;
+            log.warn("[KeyOrderedExecutor] 대기 작업 한도 도달, Consumer 일시 정지 - 대기 작업: {}", current);
+            pauseAction.run();
+        } else if (paused && current <= resumePending) {
+            paused = false;
+            log.info("[KeyOrderedExecutor] 대기 작업 감소, Consumer 재개 - 대기 작업: {}", current);
+            resumeAction.run();
+        }
+    }
+}
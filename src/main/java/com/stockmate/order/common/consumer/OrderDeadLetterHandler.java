@@ -0,0 +1,25 @@
+package com.stockmate.order.common.consumer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재시도 토픽 소진 후 DLT 로 이동한 주문 이벤트 기록
+ * - 재처리는 DLT 재전송 API 로 수행
+ */
+@Component("orderDeadLetterHandler")
+@Slf4j
+public class OrderDeadLetterHandler {
+
+    public void handleDeadLetter(
+            ConsumerRecord<String, Object> record,
+            @Header(value = KafkaHeaders.DLT_ORIGINAL_TOPIC, required = false) String originalTopic,
+            @Header(value = KafkaHeaders.DLT_EXCEPTION_MESSAGE, required = false) String exceptionMessage
+    ) {
+        log.error("주문 이벤트 DLT 이동 - DLT: {}, 원본 토픽: {}, Key: {}, 오프셋: {}, 에러: {}",
+                record.topic(), originalTopic, record.key(), record.offset(), exceptionMessage);
+    }
+}
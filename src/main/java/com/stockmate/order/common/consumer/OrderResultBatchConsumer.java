@@ -0,0 +1,128 @@
+package com.stockmate.order.common.consumer;
+
+import com.stockmate.order.api.idempotency.service.ProcessedEventStore;
+import com.stockmate.order.api.order.dto.OrderResultBatchResult;
+import com.stockmate.order.api.order.dto.OrderResultEvent;
+import com.stockmate.order.api.order.service.OrderService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 결제/취소/입고 결과 배치 Consumer (kafka.listener.mode=batch)
+ * - poll 단위로 하나의 트랜잭션에서 반영하고 오프셋은 배치당 1회 커밋
+ * - 일괄 커밋 실패 시 레코드별 독립 트랜잭션으로 재처리하여 실패 레코드만 격리
+ * - 최종 실패 레코드는 DLT 로 이동
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "kafka.listener.mode", havingValue = "batch")
+public class OrderResultBatchConsumer {
+
+    private final OrderService orderService;
+    private final OrderResultEventMapper orderResultEventMapper;
+    private final DeadLetterPublishingRecoverer deadLetterPublishingRecoverer;
+    private final ProcessedEventStore processedEventStore;
+
+    @KafkaListener(
+            topics = {"${kafka.topics.pay-success}", "${kafka.topics.pay-failed}",
+                    "${kafka.topics.cancel-success}", "${kafka.topics.cancel-failed}"},
+            groupId = "order-service-group",
+            containerFactory = "kafkaBatchListenerContainerFactory"
+    )
+    public void handlePaymentResults(List<ConsumerRecord<String, Object>> records, Acknowledgment acknowledgment) {
+        process(records);
+        acknowledgment.acknowledge();
+    }
+
+    @KafkaListener(
+            topics = {"${kafka.topics.receiving-process-success}", "${kafka.topics.receiving-process-failed}"},
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = "kafkaBatchListenerContainerFactory"
+    )
+    public void handleReceivingResults(List<ConsumerRecord<String, Object>> records, Acknowledgment acknowledgment) {
+        process(records);
+        acknowledgment.acknowledge();
+    }
+
+    private void process(List<ConsumerRecord<String, Object>> records) {
+        // 이미 처리된 레코드(재전달분) 제외 - 중복 확인은 DB 조회 1회
+        Set<String> processedKeys = processedEventStore.findProcessed(records.stream()
+                .map(ProcessedEventStore::keyOf)
+                .toList());
+
+        Map<OrderResultEvent, ConsumerRecord<String, Object>> recordByEvent = new LinkedHashMap<>();
+        for (ConsumerRecord<String, Object> record : records) {
+            if (processedKeys.contains(ProcessedEventStore.keyOf(record))) {
+                continue;
+            }
+            OrderResultEvent event = orderResultEventMapper.map(record);
+            if (event == null) {
+                deadLetterPublishingRecoverer.accept(record, new IllegalStateException("주문 결과 이벤트 변환 실패"));
+                continue;
+            }
+            recordByEvent.put(event, record);
+        }
+
+        List<OrderResultEvent> events = new ArrayList<>(recordByEvent.keySet());
+        log.info("주문 결과 이벤트 배치 수신 - 레코드 수: {}, 중복: {}, 처리 대상: {}",
+                records.size(), processedKeys.size(), events.size());
+        if (events.isEmpty()) {
+            return;
+        }
+
+        OrderResultBatchResult result;
+        try {
+            result = orderService.applyOrderResults(events);
+        } catch (Exception e) {
+            log.error("주문 결과 이벤트 일괄 반영 실패, 레코드별 처리로 전환 - 이벤트 수: {}, 에러: {}",
+                    events.size(), e.getMessage(), e);
+            events.forEach(event -> processSingle(event, recordByEvent.get(event)));
+            return;
+        }
+
+        // 반영 실패 레코드는 DLT 로 이동 (나머지의 처리 기록은 반영 트랜잭션에서 함께 저장됨)
+        result.getFailures().forEach((event, exception) ->
+                deadLetterPublishingRecoverer.accept(recordByEvent.get(event), exception));
+
+        // 커밋 이후 WebSocket 알림 전송
+        result.getNotifications().forEach(this::notifySafely);
+    }
+
+    private void processSingle(OrderResultEvent event, ConsumerRecord<String, Object> record) {
+        Runnable notification;
+        try {
+            notification = orderService.applyOrderResult(event);
+        } catch (Exception e) {
+            log.error("주문 결과 이벤트 처리 실패, DLT 로 이동 - Order ID: {}, 이벤트: {}, 에러: {}",
+                    event.getOrderId(), event.getType(), e.getMessage(), e);
+            deadLetterPublishingRecoverer.accept(record, e);
+            return;
+        }
+        // 상태 반영 성공 이후 알림 - 알림 실패가 DLT 이동으로 이어지지 않도록 처리 범위 밖에서 전송
+        notifySafely(notification);
+    }
+
+    private void notifySafely(Runnable notification) {
+        if (notification == null) {
+            return;
+        }
+        try {
+            notification.run();
+        } catch (Exception e) {
+            log.error("WebSocket 알림 전송 실패 - 에러: {}", e.getMessage(), e);
+        }
+    }
+}
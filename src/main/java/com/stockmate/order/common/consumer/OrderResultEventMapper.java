@@ -0,0 +1,93 @@
+package com.stockmate.order.common.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stockmate.order.api.idempotency.service.ProcessedEventStore;
+import com.stockmate.order.api.order.dto.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제/취소/입고 결과 토픽 레코드를 OrderResultEvent 로 변환
+ * - 토픽 이름으로 이벤트 타입을 결정 (Consumer 는 타입 헤더를 사용하지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderResultEventMapper {
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${kafka.topics.pay-success}")
+    private String paySuccessTopic;
+
+    @Value("${kafka.topics.pay-failed}")
+    private String payFailedTopic;
+
+    @Value("${kafka.topics.cancel-success}")
+    private String cancelSuccessTopic;
+
+    @Value("${kafka.topics.cancel-failed}")
+    private String cancelFailedTopic;
+
+    @Value("${kafka.topics.receiving-process-success}")
+    private String receivingSuccessTopic;
+
+    @Value("${kafka.topics.receiving-process-failed}")
+    private String receivingFailedTopic;
+
+    /**
+     * 레코드 변환 - 역직렬화 실패 또는 알 수 없는 토픽이면 null
+     */
+    public OrderResultEvent map(ConsumerRecord<String, Object> record) {
+        if (record.value() == null) {
+            log.error("Kafka 메시지 역직렬화 실패 - 토픽: {}, 파티션: {}, 오프셋: {}",
+                    record.topic(), record.partition(), record.offset());
+            return null;
+        }
+
+        String topic = record.topic();
+        String eventKey = ProcessedEventStore.keyOf(record);
+        try {
+            if (topic.equals(paySuccessTopic)) {
+                PayResponseEvent event = convert(record.value(), PayResponseEvent.class);
+                return OrderResultEvent.of(OrderResultEvent.Type.PAY_SUCCESS, event.getOrderId(), event, eventKey);
+            }
+            if (topic.equals(payFailedTopic)) {
+                PayResponseEvent event = convert(record.value(), PayResponseEvent.class);
+                return OrderResultEvent.of(OrderResultEvent.Type.PAY_FAILED, event.getOrderId(), event, eventKey);
+            }
+            if (topic.equals(cancelSuccessTopic)) {
+                CancelResponseEvent event = convert(record.value(), CancelResponseEvent.class);
+                return OrderResultEvent.of(OrderResultEvent.Type.CANCEL_SUCCESS, event.getOrderId(), event, eventKey);
+            }
+            if (topic.equals(cancelFailedTopic)) {
+                CancelResponseEvent event = convert(record.value(), CancelResponseEvent.class);
+                return OrderResultEvent.of(OrderResultEvent.Type.CANCEL_FAILED, event.getOrderId(), event, eventKey);
+            }
+            if (topic.equals(receivingSuccessTopic)) {
+                ReceivingProcessSuccessEvent event = convert(record.value(), ReceivingProcessSuccessEvent.class);
+                return OrderResultEvent.of(OrderResultEvent.Type.RECEIVING_SUCCESS, event.getOrderId(), event, eventKey);
+            }
+            if (topic.equals(receivingFailedTopic)) {
+                ReceivingProcessFailedEvent event = convert(record.value(), ReceivingProcessFailedEvent.class);
+                return OrderResultEvent.of(OrderResultEvent.Type.RECEIVING_FAILED, event.getOrderId(), event, eventKey);
+            }
+        } catch (IllegalArgumentException e) {
+            log.error("Kafka 메시지 변환 실패 - 토픽: {}, 오프셋: {}, 에러: {}", topic, record.offset(), e.getMessage());
+            return null;
+        }
+
+        log.warn("처리 대상이 아닌 토픽 - 토픽: {}", topic);
+        return null;
+    }
+
+    private <T> T convert(Object value, Class<T> type) {
+        if (type.isInstance(value)) {
+            return type.cast(value);
+        }
+        return objectMapper.convertValue(value, type);
+    }
+}
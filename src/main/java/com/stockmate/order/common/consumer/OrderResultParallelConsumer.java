@@ -0,0 +1,151 @@
+package com.stockmate.order.common.consumer;
+
+import com.stockmate.order.api.order.dto.OrderResultEvent;
+import com.stockmate.order.api.order.service.OrderService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 결제/취소/입고 결과 병렬 Consumer (kafka.listener.mode=parallel)
+ * - 레코드를 orderId 기준 레인으로 분배하여 파티션 수와 무관하게 병렬 처리 (주문별 순서 보장)
+ * - 처리 완료 시점에 개별 ack, 컨테이너는 연속으로 완료된 오프셋까지만 커밋 (asyncAcks)
+ * - 레인 대기 작업이 한도에 도달하면 리스너 컨테이너를 pause, 줄어들면 resume (poll 스레드를 블로킹하지 않음)
+ * - WebSocket 알림은 상태 반영이 끝난 뒤 재시도 범위 밖에서 전송 (알림 실패가 상태 변경을 다시 실행하지 않도록)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "kafka.listener.mode", havingValue = "parallel")
+public class OrderResultParallelConsumer {
+
+    private static final String PAYMENT_LISTENER_ID = "orderResultParallelPayment";
+    private static final String RECEIVING_LISTENER_ID = "orderResultParallelReceiving";
+
+    private final OrderService orderService;
+    private final OrderResultEventMapper orderResultEventMapper;
+    private final KeyOrderedExecutor keyOrderedExecutor;
+    private final DeadLetterPublishingRecoverer deadLetterPublishingRecoverer;
+    private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+
+    @Value("${kafka.listener.parallel.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${kafka.listener.parallel.retry-interval-ms:1000}")
+    private long retryIntervalMs;
+
+    @PostConstruct
+    void registerBackPressure() {
+        keyOrderedExecutor.setBackPressureActions(
+                () -> forEachContainer(MessageListenerContainer::pause),
+                () -> forEachContainer(MessageListenerContainer::resume));
+    }
+
+    @KafkaListener(
+            id = PAYMENT_LISTENER_ID,
+            idIsGroup = false,
+            topics = {"${kafka.topics.pay-success}", "${kafka.topics.pay-failed}",
+                    "${kafka.topics.cancel-success}", "${kafka.topics.cancel-failed}"},
+            groupId = "order-service-group",
+            containerFactory = "kafkaParallelListenerContainerFactory"
+    )
+    public void handlePaymentResult(ConsumerRecord<String, Object> record, Acknowledgment acknowledgment) {
+        dispatch(record, acknowledgment);
+    }
+
+    @KafkaListener(
+            id = RECEIVING_LISTENER_ID,
+            idIsGroup = false,
+            topics = {"${kafka.topics.receiving-process-success}", "${kafka.topics.receiving-process-failed}"},
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = "kafkaParallelListenerContainerFactory"
+    )
+    public void handleReceivingResult(ConsumerRecord<String, Object> record, Acknowledgment acknowledgment) {
+        dispatch(record, acknowledgment);
+    }
+
+    // poll 스레드에서는 변환과 레인 분배만 수행 - 중복 이벤트 확인(DB 조회)은 레인 작업의 트랜잭션 안에서 처리
+    private void dispatch(ConsumerRecord<String, Object> record, Acknowledgment acknowledgment) {
+        OrderResultEvent event = orderResultEventMapper.map(record);
+        if (event == null) {
+            deadLetterPublishingRecoverer.accept(record, new IllegalStateException("주문 결과 이벤트 변환 실패"));
+            acknowledgment.acknowledge();
+            return;
+        }
+
+        keyOrderedExecutor.submit(event.getOrderId(), () -> {
+            process(record, event);
+            acknowledgment.acknowledge();
+        });
+    }
+
+    // 레인 내에서 재시도 - 같은 주문의 이후 이벤트가 앞지르지 않도록 제자리 재시도, 소진 시 DLT 로 이동
+    private void process(ConsumerRecord<String, Object> record, OrderResultEvent event) {
+        Exception lastException = null;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            Runnable notification;
+            try {
+                // 중복 확인, 상태 변경, 처리 기록은 같은 트랜잭션
+                notification = orderService.applyOrderResult(event);
+            } catch (Exception e) {
+                lastException = e;
+                log.warn("주문 결과 이벤트 처리 실패 - Order ID: {}, 이벤트: {}, 시도: {}/{}, 에러: {}",
+                        event.getOrderId(), event.getType(), attempt, maxAttempts, e.getMessage());
+                if (attempt < maxAttempts && !sleep(retryIntervalMs * attempt)) {
+                    break;
+                }
+                continue;
+            }
+
+            // 상태 반영 성공 이후 알림 - 실패해도 재시도하지 않음
+            notifySafely(event, notification);
+            return;
+        }
+        log.error("주문 결과 이벤트 처리 최종 실패, DLT 로 이동 - 토픽: {}, 파티션: {}, 오프셋: {}, Order ID: {}",
+                record.topic(), record.partition(), record.offset(), event.getOrderId());
+        deadLetterPublishingRecoverer.accept(record, lastException);
+    }
+
+    private void notifySafely(OrderResultEvent event, Runnable notification) {
+        if (notification == null) {
+            return;
+        }
+        try {
+            notification.run();
+        } catch (Exception e) {
+            log.error("WebSocket 알림 전송 실패 - Order ID: {}, 이벤트: {}, 에러: {}",
+                    event.getOrderId(), event.getType(), e.getMessage(), e);
+        }
+    }
+
+    private void forEachContainer(Consumer<MessageListenerContainer> action) {
+        for (String listenerId : List.of(PAYMENT_LISTENER_ID, RECEIVING_LISTENER_ID)) {
+            MessageListenerContainer container = kafkaListenerEndpointRegistry.getListenerContainer(listenerId);
+            if (container != null) {
+                action.accept(container);
+            }
+        }
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
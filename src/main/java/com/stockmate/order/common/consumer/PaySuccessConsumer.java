@@ -1,9 +1,11 @@
 package com.stockmate.order.common.consumer;
 
 import com.stockmate.order.api.order.dto.PayResponseEvent;
+import com.stockmate.order.api.idempotency.service.ProcessedEventStore;
 import com.stockmate.order.api.order.service.OrderService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
@@ -14,8 +16,10 @@ import org.springframework.stereotype.Component;
 @Component
 @RequiredArgsConstructor
 @Slf4j
+@ConditionalOnProperty(name = "kafka.listener.mode", havingValue = "record", matchIfMissing = true)
 public class PaySuccessConsumer {
     private final OrderService orderService;
+    private final ProcessedEventStore processedEventStore;
 
     @KafkaListener(
             topics = "${kafka.topics.pay-success}",
@@ -32,7 +36,14 @@ public class PaySuccessConsumer {
         log.info("결제 성공 이벤트 수신 - 토픽: {}, 파티션: {}, 오프셋: {}, Order ID: {}",
                 topic, partition, offset, event.getOrderId());
 
-        orderService.changeOrderStatus(event.getOrderId(), "PENDING_SHIPPING"); // 출고 대기로 변경
+        String eventKey = ProcessedEventStore.keyOf(topic, partition, offset);
+        if (processedEventStore.isProcessed(eventKey)) {
+            log.info("이미 처리된 이벤트 무시 - Event Key: {}", eventKey);
+            acknowledgment.acknowledge();
+            return;
+        }
+
+        orderService.changeOrderStatus(event.getOrderId(), "PENDING_SHIPPING", eventKey); // 출고 대기로 변경
         acknowledgment.acknowledge();
 
         log.info("결제 성공 이벤트 처리 완료 (주문 상태를 PENDING_SHIPPING으로 변경) - Order ID: {}", event.getOrderId());
@@ -1,9 +1,11 @@
 package com.stockmate.order.common.consumer;
 
 import com.stockmate.order.api.order.dto.ReceivingProcessFailedEvent;
+import com.stockmate.order.api.idempotency.service.ProcessedEventStore;
 import com.stockmate.order.api.order.service.OrderService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
@@ -14,9 +16,11 @@ import org.springframework.stereotype.Component;
 @Component
 @RequiredArgsConstructor
 @Slf4j
+@ConditionalOnProperty(name = "kafka.listener.mode", havingValue = "record", matchIfMissing = true)
 public class ReceivingProcessFailedConsumer {
 
     private final OrderService orderService;
+    private final ProcessedEventStore processedEventStore;
 
     @KafkaListener(
             topics = "${kafka.topics.receiving-process-failed}",
@@ -33,8 +37,15 @@ public class ReceivingProcessFailedConsumer {
         log.info("입고 처리 실패 이벤트 수신 - 토픽: {}, 파티션: {}, 오프셋: {}, Order ID: {}, Order Number: {}, 에러: {}",
                 topic, partition, offset, event.getOrderId(), event.getOrderNumber(), event.getErrorMessage());
 
+        String eventKey = ProcessedEventStore.keyOf(topic, partition, offset);
+        if (processedEventStore.isProcessed(eventKey)) {
+            log.info("이미 처리된 이벤트 무시 - Event Key: {}", eventKey);
+            acknowledgment.acknowledge();
+            return;
+        }
+
         // 입고 처리 실패 처리
-        orderService.handleReceivingProcessFailedWebSocket(event);
+        orderService.handleReceivingProcessFailedWebSocket(event, eventKey);
         acknowledgment.acknowledge();
         
         log.info("입고 처리 실패 이벤트 처리 완료 - Order ID: {}", event.getOrderId());
@@ -0,0 +1,84 @@
+package com.stockmate.order.common.event;
+
+import com.stockmate.order.api.order.dto.PayCancelRequestEvent;
+import com.stockmate.order.api.order.repository.OrderRepository;
+import com.stockmate.order.common.producer.KafkaProducerService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HandleCancelRequest {
+
+    private final KafkaProducerService kafkaProducerService;
+    private final OrderRepository orderRepository;
+    private final MeterRegistry meterRegistry;
+
+    // 발행 실패한 취소 요청 (orderId 기준, 재발행 스케줄러가 처리)
+    private final Map<Long, PayCancelRequestEvent> failedRequests = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("order.kafka.cancel-request.failed", failedRequests, Map::size)
+                .description("재발행 대기 중인 결제 취소 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 주문이 취소 대기 상태로 커밋된 이후 결제 취소 요청 이벤트 발행
+     * 결과는 CancelSuccessConsumer / CancelFailedConsumer 에서 처리
+     * 발행 실패 시 예외를 던지지 않고 기록만 하며, CancelRequestRepublishScheduler 가 재발행
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleCancelRequest(PayCancelRequestEvent event) {
+        log.info("[handleCancelRequest] 결제 취소 요청 발행 - orderId: {}", event.getOrderId());
+        publish(event);
+    }
+
+    /**
+     * 발행 실패한 취소 요청 재발행
+     * - 주문이 아직 같은 취소 시도로 PENDING_CANCEL 인 경우에만 재발행 (만료 정리/결과 반영된 주문은 제외)
+     */
+    public void republishFailed() {
+        List<PayCancelRequestEvent> events = List.copyOf(failedRequests.values());
+        if (events.isEmpty()) {
+            return;
+        }
+
+        log.info("[handleCancelRequest] 발행 실패한 결제 취소 요청 재발행 - 건수: {}", events.size());
+        for (PayCancelRequestEvent event : events) {
+            failedRequests.remove(event.getOrderId(), event);
+
+            boolean stillPending = orderRepository.findById(event.getOrderId())
+                    .map(order -> order.isPendingCancelAttempt(event.getCancelAttemptId()))
+                    .orElse(false);
+            if (!stillPending) {
+                log.info("[handleCancelRequest] 취소 시도가 종료되어 재발행 생략 - orderId: {}, attemptId: {}",
+                        event.getOrderId(), event.getCancelAttemptId());
+                continue;
+            }
+            publish(event);
+        }
+    }
+
+    private void publish(PayCancelRequestEvent event) {
+        kafkaProducerService.sendCancelRequest(event).whenComplete((result, ex) -> {
+            if (ex != null) {
+                log.error("[handleCancelRequest] 결제 취소 요청 발행 실패, 재발행 대기 - orderId: {}, attemptId: {}, 에러: {}",
+                        event.getOrderId(), event.getCancelAttemptId(), ex.getMessage());
+                failedRequests.put(event.getOrderId(), event);
+            }
+        });
+    }
+}
@@ -0,0 +1,88 @@
+package com.stockmate.order.common.event;
+
+import com.stockmate.order.api.order.dto.OrderStatusSnapshot;
+import com.stockmate.order.api.order.repository.OrderRepository;
+import com.stockmate.order.common.producer.KafkaProducerService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HandleOrderStatusChange {
+
+    private final KafkaProducerService kafkaProducerService;
+    private final OrderRepository orderRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${kafka.order-status.enabled:true}")
+    private boolean enabled;
+
+    // 발행 실패한 스냅샷 (orderId 기준, 재발행 스케줄러가 현재 상태로 다시 발행)
+    private final Map<Long, OrderStatusSnapshot> failedSnapshots = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("order.kafka.order-status.failed", failedSnapshots, Map::size)
+                .description("재발행 대기 중인 주문 상태 스냅샷 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 커밋된 상태 변경만 order-status 토픽으로 발행
+     * - 커밋 시점의 주문 필드로 스냅샷 구성 (같은 트랜잭션에서 채번된 주문번호 포함)
+     * - 상태/수정 시각은 이벤트에 담긴 flush 시점 값 사용 (한 트랜잭션 내 연속 전이도 전이별로 발행)
+     * - 발행 실패는 주문 처리에 영향 없음 (기록 후 OrderStatusRepublishScheduler 가 재발행)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleOrderStatusChange(OrderStatusChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        publish(OrderStatusSnapshot.of(event.order(), event.previousStatus(), event.status(), event.updatedAt()));
+    }
+
+    /**
+     * 발행 실패한 주문의 스냅샷 재발행
+     * - 실패한 스냅샷을 그대로 보내면 그 사이 발행된 최신 스냅샷을 덮어쓸 수 있으므로 DB 의 현재 상태로 다시 구성
+     */
+    public void republishFailed() {
+        List<Long> orderIds = List.copyOf(failedSnapshots.keySet());
+        if (orderIds.isEmpty()) {
+            return;
+        }
+
+        log.info("[handleOrderStatusChange] 발행 실패한 주문 상태 스냅샷 재발행 - 건수: {}", orderIds.size());
+        for (Long orderId : orderIds) {
+            OrderStatusSnapshot failed = failedSnapshots.remove(orderId);
+            if (failed == null) {
+                continue;
+            }
+            orderRepository.findById(orderId).ifPresentOrElse(
+                    order -> publish(OrderStatusSnapshot.of(order, failed.getPreviousStatus())),
+                    () -> log.warn("[handleOrderStatusChange] 주문이 없어 재발행 생략 - orderId: {}", orderId));
+        }
+    }
+
+    private void publish(OrderStatusSnapshot snapshot) {
+        kafkaProducerService.sendOrderStatus(snapshot).whenComplete((result, ex) -> {
+            if (ex != null) {
+                log.error("[handleOrderStatusChange] 주문 상태 스냅샷 발행 실패, 재발행 대기 - orderId: {}, 상태: {}, 에러: {}",
+                        snapshot.getOrderId(), snapshot.getOrderStatus(), ex.getMessage());
+                // 이미 대기 중이면 처음 실패한 스냅샷의 직전 상태 유지
+                failedSnapshots.putIfAbsent(snapshot.getOrderId(), snapshot);
+            }
+        });
+    }
+}
@@ -0,0 +1,12 @@
+package com.stockmate.order.common.event;
+
+import com.stockmate.order.api.order.entity.Order;
+import com.stockmate.order.api.order.entity.OrderStatus;
+
+import java.time.LocalDateTime;
+
+// 주문 상태 변경 (트랜잭션 내부 이벤트 - 커밋 후 스냅샷 발행 / 대시보드 지표 반영)
+// 상태/수정 시각은 flush 시점 값 (같은 트랜잭션에서 여러 번 전이되면 커밋 후 엔티티는 마지막 상태만 가짐)
+public record OrderStatusChangedEvent(Order order, OrderStatus previousStatus, LocalDateTime previousUpdatedAt,
+                                      OrderStatus status, LocalDateTime updatedAt) {
+}
@@ -0,0 +1,13 @@
+package com.stockmate.order.common.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class ConflictException extends BaseException {
+    public ConflictException() {
+        super(HttpStatus.CONFLICT);
+    }
+
+    public ConflictException(String message) {
+        super(HttpStatus.CONFLICT, message);
+    }
+}
@@ -0,0 +1,15 @@
+package com.stockmate.order.common.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+@Getter
+public class TooManyRequestsException extends BaseException {
+
+    private final long retryAfterSeconds; // Retry-After 헤더 값
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(HttpStatus.TOO_MANY_REQUESTS, message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
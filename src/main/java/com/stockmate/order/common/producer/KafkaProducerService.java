@@ -1,6 +1,13 @@
 package com.stockmate.order.common.producer;
 
 import com.stockmate.order.api.order.dto.*;
+import com.stockmate.order.common.exception.ServiceUnavailableException;
+import com.stockmate.order.common.response.ErrorStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -8,7 +15,11 @@ import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -16,6 +27,7 @@ import java.util.concurrent.CompletableFuture;
 public class KafkaProducerService {
 
     private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final MeterRegistry meterRegistry;
 
     @Value("${kafka.topics.pay-request}")
     private String payRequestTopic;
@@ -23,15 +35,29 @@ public class KafkaProducerService {
     @Value("${kafka.topics.cancel-request}")
     private String cancelRequestTopic;
 
+    @Value("${kafka.topics.order-status:order-status}")
+    private String orderStatusTopic;
+
+    @Value("${kafka.producer.max-pending-sends:10000}")
+    private int maxPendingSends;
+
+    @Value("${kafka.producer.acquire-timeout-ms:5000}")
+    private long acquireTimeoutMs;
+
+    // 브로커 응답 대기 중인 발송 수 제한 (브로커 지연 시 호출 측에 배압)
+    private Semaphore pendingSends;
+
+    @PostConstruct
+    void init() {
+        pendingSends = new Semaphore(maxPendingSends);
+        Gauge.builder("order.kafka.producer.pending", pendingSends, s -> maxPendingSends - s.availablePermits())
+                .description("브로커 응답 대기 중인 Kafka 발송 수")
+                .register(meterRegistry);
+    }
+
     // 결제 요청 이벤트 발송
     public void sendPayRequest(PayRequestEvent event) {
-        CompletableFuture<SendResult<String, Object>> future = kafkaTemplate.send(
-                payRequestTopic,
-                event.getOrderId().toString(),
-                event
-        );
-
-        future.whenComplete((result,  ex) -> {
+        send(payRequestTopic, event.getOrderId().toString(), event).whenComplete((result,  ex) -> {
             if (ex == null) {
                 log.info("결제 요청 이벤트 발송 성공 - 토픽: {}, 파티션: {}, 오프셋: {}, Order ID: {}",
                         result.getRecordMetadata().topic(),
@@ -45,15 +71,12 @@ public class KafkaProducerService {
         });
     }
 
-    // 결체 취소 요청 이벤트 발송
-    public void sendCancelRequest(PayCancelRequestEvent event) {
-        CompletableFuture<SendResult<String, Object>> future = kafkaTemplate.send(
-                cancelRequestTopic,
-                event.getOrderId().toString(),
-                event
-        );
-
-        future.whenComplete((result,  ex) -> {
+    /**
+     * 결제 취소 요청 이벤트 발송 - 커밋 이후 호출되므로 대기 발송 한도를 적용하지 않음 (블로킹/예외로 이벤트가 유실되지 않도록)
+     * 발송 실패는 반환된 Future 로 전달
+     */
+    public CompletableFuture<SendResult<String, Object>> sendCancelRequest(PayCancelRequestEvent event) {
+        return sendWithoutLimit(cancelRequestTopic, event.getOrderId().toString(), event).whenComplete((result,  ex) -> {
             if (ex == null) {
                 log.info("결제 취소 요청 이벤트 발송 성공 - 토픽: {}, 파티션: {}, 오프셋: {}, Order ID: {}",
                         result.getRecordMetadata().topic(),
@@ -67,4 +90,113 @@ public class KafkaProducerService {
         });
     }
 
+    /**
+     * 주문 상태 스냅샷 발행 (압축 토픽 - orderId 별 최신 스냅샷만 유지)
+     * - 커밋 이후 요청/Consumer 스레드에서 호출되므로 대기 발송 한도를 적용하지 않음 (브로커 지연 시 호출 스레드가 멈추지 않도록)
+     * - 발송 실패는 반환된 Future 로 전달
+     */
+    public CompletableFuture<SendResult<String, Object>> sendOrderStatus(OrderStatusSnapshot snapshot) {
+        return sendWithoutLimit(orderStatusTopic, snapshot.getOrderId().toString(), snapshot).whenComplete((result, ex) -> {
+            if (ex == null) {
+                log.info("주문 상태 스냅샷 발행 성공 - 파티션: {}, 오프셋: {}, Order ID: {}, 상태: {}",
+                        result.getRecordMetadata().partition(),
+                        result.getRecordMetadata().offset(),
+                        snapshot.getOrderId(),
+                        snapshot.getOrderStatus());
+            } else {
+                log.error("주문 상태 스냅샷 발행 실패 - Order ID: {}, 에러: {}",
+                        snapshot.getOrderId(), ex.getMessage(), ex);
+            }
+        });
+    }
+
+    /**
+     * 이벤트 일괄 발송 - 개별 발송 결과를 기다리지 않고 모두 보낸 뒤 하나의 Future 로 반환
+     * (프로듀서 linger/batch 설정에 따라 브로커 요청이 묶여 전송됨)
+     */
+    public <T> CompletableFuture<Void> sendAll(String topic, List<T> events, Function<T, String> keyExtractor) {
+        CompletableFuture<?>[] futures = events.stream()
+                .map(event -> send(topic, keyExtractor.apply(event), event))
+                .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(futures).whenComplete((result, ex) -> {
+            if (ex != null) {
+                log.error("이벤트 일괄 발송 중 실패 발생 - 토픽: {}, 요청 건수: {}, 에러: {}", topic, events.size(), ex.getMessage());
+            } else {
+                log.info("이벤트 일괄 발송 완료 - 토픽: {}, 건수: {}", topic, events.size());
+            }
+        });
+    }
+
+    /**
+     * 단건 발송 - 대기 발송 수 한도 내에서만 발송하고 지연/오류 지표 기록
+     */
+    public CompletableFuture<SendResult<String, Object>> send(String topic, String key, Object event) {
+        acquire(topic);
+        return doSend(topic, key, event, true);
+    }
+
+    // 대기 발송 한도 없이 발송 (커밋 이후 발행 전용) - 동기 발송 오류도 Future 로 전달
+    private CompletableFuture<SendResult<String, Object>> sendWithoutLimit(String topic, String key, Object event) {
+        try {
+            return doSend(topic, key, event, false);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private CompletableFuture<SendResult<String, Object>> doSend(String topic, String key, Object event, boolean acquired) {
+        long startedAt = System.nanoTime();
+        CompletableFuture<SendResult<String, Object>> future;
+        try {
+            future = kafkaTemplate.send(topic, key, event);
+        } catch (RuntimeException e) {
+            if (acquired) {
+                pendingSends.release();
+            }
+            recordResult(topic, startedAt, e);
+            throw e;
+        }
+
+        return future.whenComplete((result, ex) -> {
+            if (acquired) {
+                pendingSends.release();
+            }
+            recordResult(topic, startedAt, ex);
+        });
+    }
+
+    private void acquire(String topic) {
+        try {
+            if (pendingSends.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        log.error("Kafka 발송 대기 한도 초과 - 토픽: {}, 대기 발송 수: {}", topic, maxPendingSends);
+        Counter.builder("order.kafka.producer.rejected")
+                .tag("topic", topic)
+                .register(meterRegistry)
+                .increment();
+        throw new ServiceUnavailableException(ErrorStatus.KAFKA_SEND_BACKPRESSURE_EXCEPTION.getMessage());
+    }
+
+    private void recordResult(String topic, long startedAt, Throwable ex) {
+        Timer.builder("order.kafka.producer.send")
+                .description("Kafka 발송 요청부터 브로커 응답까지 소요 시간")
+                .tag("topic", topic)
+                .tag("result", ex == null ? "success" : "error")
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+        if (ex != null) {
+            Counter.builder("order.kafka.producer.errors")
+                    .tag("topic", topic)
+                    .tag("exception", ex.getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
 }
@@ -26,6 +26,15 @@ public enum ErrorStatus {
     USER_SERVER_UNAVAILABLE_EXCEPTION(HttpStatus.SERVICE_UNAVAILABLE,"사용자 서버가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요."),
     CART_EMPTY_EXCEPTION(HttpStatus.BAD_REQUEST,"장바구니가 비어있습니다."),
     CART_AMOUNT_1_OVER_EXCEPTION(HttpStatus.BAD_REQUEST,"장바구니 수량은 1개 이상이어야 합니다."),
+    CANCEL_ALREADY_IN_PROGRESS_EXCEPTION(HttpStatus.BAD_REQUEST,"이미 취소 처리 중인 주문입니다."),
+    BULK_APPROVAL_SIZE_EXCEEDED_EXCEPTION(HttpStatus.BAD_REQUEST,"일괄 승인 가능한 주문 수를 초과했습니다."),
+    IDEMPOTENCY_KEY_TOO_LONG_EXCEPTION(HttpStatus.BAD_REQUEST,"Idempotency-Key 길이가 너무 깁니다."),
+    IDEMPOTENCY_KEY_REUSED_EXCEPTION(HttpStatus.BAD_REQUEST,"같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다."),
+    INVALID_DEAD_LETTER_TOPIC_EXCEPTION(HttpStatus.BAD_REQUEST,"재전송할 수 없는 DLT 토픽입니다."),
+    ORDER_INTAKE_DISABLED_EXCEPTION(HttpStatus.BAD_REQUEST,"주문 대기열 접수 모드가 비활성화되어 있습니다."),
+    INVALID_NOTIFICATION_CURSOR_EXCEPTION(HttpStatus.BAD_REQUEST,"유효하지 않은 알림 커서입니다."),
+    APPROVAL_QUEUE_FULL_EXCEPTION(HttpStatus.SERVICE_UNAVAILABLE,"승인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    KAFKA_SEND_BACKPRESSURE_EXCEPTION(HttpStatus.SERVICE_UNAVAILABLE,"이벤트 발송이 지연되고 있습니다. 잠시 후 다시 시도해주세요."),
 
     /**
      * 401 UNAUTHORIZED
@@ -38,6 +47,17 @@ public enum ErrorStatus {
     ORDER_NOT_FOUND_EXCEPTION(HttpStatus.NOT_FOUND,"해당 주문을 찾을 수 없습니다."),
     CART_ITEM_NOT_FOUND_EXCEPTION(HttpStatus.NOT_FOUND, "해당 부품이 없습니다."),
 
+    /**
+     * 409 CONFLICT
+     */
+    IDEMPOTENCY_REQUEST_IN_PROGRESS_EXCEPTION(HttpStatus.CONFLICT,"동일한 요청이 처리 중입니다. 잠시 후 다시 시도해주세요."),
+    IDEMPOTENCY_RESPONSE_UNAVAILABLE_EXCEPTION(HttpStatus.CONFLICT,"이미 처리된 요청이지만 응답을 확인할 수 없습니다. 처리 결과를 조회해주세요."),
+
+    /**
+     * 429 TOO_MANY_REQUESTS
+     */
+    ORDER_INTAKE_QUEUE_FULL_EXCEPTION(HttpStatus.TOO_MANY_REQUESTS,"주문 요청이 많아 접수할 수 없습니다. 잠시 후 다시 시도해주세요."),
+
     /**
      * 500 SERVER_ERROR
      */
@@ -50,6 +70,7 @@ public enum ErrorStatus {
     CHECK_PARTS_DETAIL_EXCEPTION(HttpStatus.INTERNAL_SERVER_ERROR, "부품 상세 정보 조회 중 오류가 발생했습니다."),
     RESPONSE_DATA_NOT_MATCH_EXCEPTION(HttpStatus.INTERNAL_SERVER_ERROR,"외부 서버 응답이 올바르지 않습니다."),
     RESPONSE_DATA_NULL_EXCEPTION(HttpStatus.INTERNAL_SERVER_ERROR,"외부 서버 응답 데이터가 없습니다."),
+    DEAD_LETTER_REPLAY_EXCEPTION(HttpStatus.INTERNAL_SERVER_ERROR,"DLT 재전송 중 오류가 발생했습니다."),
     ;
 
     private final HttpStatus httpStatus;
@@ -51,6 +51,7 @@ public enum SuccessStatus {
 	GET_DAILY_CATEGORY_SALES_SUCCESS(HttpStatus.OK, "일자별 카테고리별 판매량 리포트 조회 성공"),
 	GET_TOP_SALES_SUCCESS(HttpStatus.OK, "월별 TOP 매출량/순이익 리포트 조회 성공"),
 	GET_WAREHOUSE_REPORT_SUCCESS(HttpStatus.OK, "월별 창고별 리포트 조회 성공"),
+	REPLAY_DEAD_LETTER_SUCCESS(HttpStatus.OK, "DLT 재전송 성공"),
 
 	/**
 	 * 201
@@ -58,6 +59,14 @@ public enum SuccessStatus {
 	SEND_PARTS_ORDER_SUCCESS(HttpStatus.CREATED,"부품 주문 성공"),
 	SEND_CART_CREATE_SUCCESS(HttpStatus.CREATED, "장바구니 생성 성공"),
 
+	/**
+	 * 202
+	 */
+	SEND_CANCEL_ORDER_REQUEST_ACCEPTED(HttpStatus.ACCEPTED, "주문 취소 요청 접수"),
+	SEND_ORDER_APPROVAL_REQUEST_ACCEPTED(HttpStatus.ACCEPTED, "주문 승인 요청 접수"),
+	SEND_BULK_ORDER_APPROVAL_REQUEST_ACCEPTED(HttpStatus.ACCEPTED, "주문 일괄 승인 요청 접수"),
+	SEND_ORDER_INTAKE_ACCEPTED(HttpStatus.ACCEPTED, "주문 접수 대기열 등록 성공"),
+
 	;
 
 	private final HttpStatus httpStatus;
@@ -0,0 +1,28 @@
+package com.stockmate.order.common.scheduler;
+
+import com.stockmate.order.common.event.HandleCancelRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CancelRequestRepublishScheduler {
+
+    private final HandleCancelRequest handleCancelRequest;
+
+    /**
+     * 커밋 이후 발행에 실패한 결제 취소 요청 재발행
+     * (서버 재시작으로 유실된 요청은 OrderCancelCleanupScheduler 의 만료 정리로 복구)
+     */
+    @Scheduled(fixedDelayString = "${order.cancel.republish-interval-ms:10000}")
+    public void republishFailedCancelRequests() {
+        try {
+            handleCancelRequest.republishFailed();
+        } catch (Exception e) {
+            log.error("결제 취소 요청 재발행 중 오류 발생 - 에러: {}", e.getMessage(), e);
+        }
+    }
+}
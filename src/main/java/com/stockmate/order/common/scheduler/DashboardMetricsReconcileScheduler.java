@@ -0,0 +1,40 @@
+package com.stockmate.order.common.scheduler;
+
+import com.stockmate.order.api.dashboard.service.DashboardMetricsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardMetricsReconcileScheduler {
+
+    private final DashboardMetricsService dashboardMetricsService;
+
+    /**
+     * 자정에 새 날짜 지표 적재
+     */
+    @Scheduled(cron = "0 0 0 * * *")
+    public void rollover() {
+        try {
+            dashboardMetricsService.reconcile();
+            log.info("대시보드 실시간 지표 날짜 전환 완료");
+        } catch (Exception e) {
+            log.error("대시보드 실시간 지표 날짜 전환 실패 - Error: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 주기적으로 DB 집계와 대조하여 실시간 지표 오차 보정 (기본 5분)
+     */
+    @Scheduled(fixedDelayString = "${dashboard.live.reconcile-interval-ms:300000}", initialDelayString = "${dashboard.live.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        try {
+            dashboardMetricsService.reconcile();
+        } catch (Exception e) {
+            log.error("대시보드 실시간 지표 보정 실패 - Error: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.stockmate.order.common.scheduler;
+
+import com.stockmate.order.api.idempotency.service.IdempotencyService;
+import com.stockmate.order.api.idempotency.service.ProcessedEventStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyCleanupScheduler {
+
+    private final IdempotencyService idempotencyService;
+    private final ProcessedEventStore processedEventStore;
+
+    /**
+     * 매 10분마다 만료된 Idempotency 레코드 삭제
+     */
+    @Scheduled(fixedDelay = 600000) // 10분마다 실행 (600,000ms)
+    public void purgeExpiredIdempotencyRecords() {
+        int deleted = idempotencyService.purgeExpired();
+        if (deleted > 0) {
+            log.info("만료된 Idempotency 레코드 삭제 완료 - 삭제 건수: {}", deleted);
+        }
+    }
+
+    /**
+     * 매 10분마다 보관 기간이 지난 처리 이벤트 레코드 삭제
+     */
+    @Scheduled(fixedDelay = 600000) // 10분마다 실행 (600,000ms)
+    public void purgeExpiredProcessedEvents() {
+        int deleted = processedEventStore.purgeExpired();
+        if (deleted > 0) {
+            log.info("보관 기간이 지난 처리 이벤트 레코드 삭제 완료 - 삭제 건수: {}", deleted);
+        }
+    }
+}
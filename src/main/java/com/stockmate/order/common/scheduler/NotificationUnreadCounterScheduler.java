@@ -0,0 +1,55 @@
+package com.stockmate.order.common.scheduler;
+
+import com.stockmate.order.api.notification.service.NotificationUnreadCounterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationUnreadCounterScheduler {
+
+    private final NotificationUnreadCounterService unreadCounterService;
+
+    /**
+     * 커밋된 증감을 카운터 테이블에 묶어서 반영 (기본 1초)
+     */
+    @Scheduled(fixedDelayString = "${notification.unread-counter.flush-ms:1000}")
+    public void flushDeltas() {
+        try {
+            unreadCounterService.flushDeltas();
+        } catch (Exception e) {
+            log.error("읽지 않은 알림 카운터 반영 실패 - Error: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 카운터 테이블 재조회로 다른 인스턴스의 증감 반영 (기본 5초)
+     */
+    @Scheduled(fixedDelayString = "${notification.unread-counter.refresh-ms:5000}")
+    public void refresh() {
+        try {
+            unreadCounterService.refresh();
+        } catch (Exception e) {
+            log.error("읽지 않은 알림 카운터 갱신 실패 - Error: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * COUNT 결과와 대조하여 카운터 오차 보정 (기본 10분)
+     */
+    @Scheduled(fixedDelayString = "${notification.unread-counter.reconcile-interval-ms:600000}",
+            initialDelayString = "${notification.unread-counter.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        try {
+            int corrected = unreadCounterService.reconcile();
+            if (corrected > 0) {
+                log.warn("읽지 않은 알림 카운터 보정 완료 - 보정된 카운터 수: {}", corrected);
+            }
+        } catch (Exception e) {
+            log.error("읽지 않은 알림 카운터 보정 실패 - Error: {}", e.getMessage(), e);
+        }
+    }
+}
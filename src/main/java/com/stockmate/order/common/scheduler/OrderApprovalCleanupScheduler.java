@@ -27,6 +27,8 @@ public class OrderApprovalCleanupScheduler {
     @Scheduled(fixedDelay = 300000) // 5분마다 실행 (300,000ms)
     @Transactional
     public void cleanupExpiredPendingApprovals() {
+        reportHeldApprovals();
+
         LocalDateTime expiryTime = LocalDateTime.now().minusMinutes(APPROVAL_EXPIRY_MINUTES);
         
         List<Order> expiredOrders = orderRepository.findExpiredPendingApprovals(
@@ -57,5 +59,14 @@ public class OrderApprovalCleanupScheduler {
 
         log.warn("만료된 PENDING_APPROVAL 주문 정리 완료 - 처리된 주문 수: {}", expiredOrders.size());
     }
+
+    // 재고 차감 결과 불명으로 보류된 주문 - 차감됐을 수 있으므로 복원하지 않고 수동 확인 대상으로 기록
+    private void reportHeldApprovals() {
+        List<Order> heldOrders = orderRepository.findByOrderStatusAndDeductBatchKeyIsNotNull(OrderStatus.PENDING_APPROVAL);
+        for (Order order : heldOrders) {
+            log.error("재고 차감 결과 불명으로 승인 보류 중 - 수동 확인 필요 - Order ID: {}, Order Number: {}, Batch Key: {}, 승인 시작 시간: {}",
+                    order.getOrderId(), order.getOrderNumber(), order.getDeductBatchKey(), order.getApprovalStartedAt());
+        }
+    }
 }
 
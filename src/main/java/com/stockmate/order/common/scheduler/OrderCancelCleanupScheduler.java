@@ -0,0 +1,63 @@
+package com.stockmate.order.common.scheduler;
+
+import com.stockmate.order.api.notification.service.ApplicationNotificationService;
+import com.stockmate.order.api.order.entity.Order;
+import com.stockmate.order.api.order.entity.OrderStatus;
+import com.stockmate.order.api.order.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderCancelCleanupScheduler {
+
+    private final OrderRepository orderRepository;
+    private final ApplicationNotificationService applicationNotificationService;
+
+    @Value("${order.cancel.pending-expiry-minutes:30}")
+    private long cancelExpiryMinutes;
+
+    /**
+     * 만료된 PENDING_CANCEL 주문을 취소 요청 이전 상태로 되돌림
+     * (결제 취소 결과 이벤트가 오지 않는 경우 방지 - 이후 도착한 결과는 시도 ID 검증으로 무시됨)
+     */
+    @Scheduled(fixedDelayString = "${order.cancel.cleanup-interval-ms:300000}")
+    @Transactional
+    public void cleanupExpiredPendingCancels() {
+        LocalDateTime expiryTime = LocalDateTime.now().minusMinutes(cancelExpiryMinutes);
+        List<Order> expiredOrders = orderRepository.findExpiredPendingCancels(OrderStatus.PENDING_CANCEL, expiryTime);
+
+        if (expiredOrders.isEmpty()) {
+            log.debug("만료된 PENDING_CANCEL 주문 없음");
+            return;
+        }
+
+        log.warn("만료된 PENDING_CANCEL 주문 발견 - 개수: {}, 만료 기준: {}분 이전", expiredOrders.size(), cancelExpiryMinutes);
+
+        for (Order order : expiredOrders) {
+            log.warn("만료된 취소 요청 복원 - Order ID: {}, Order Number: {}, 취소 시도 ID: {}, 취소 시작 시간: {}",
+                    order.getOrderId(), order.getOrderNumber(), order.getCancelAttemptId(), order.getCancelStartedAt());
+
+            order.revertCancel();
+            order.setEtc("결제 취소 응답 시간 초과");
+            orderRepository.save(order);
+
+            applicationNotificationService.saveNotification(
+                    order,
+                    order.getOrderNumber(),
+                    "결제 취소 응답이 없어 주문 취소가 처리되지 않았습니다. 다시 시도해주세요.",
+                    order.getMemberId()
+            );
+        }
+
+        log.warn("만료된 PENDING_CANCEL 주문 정리 완료 - 처리된 주문 수: {}", expiredOrders.size());
+    }
+}
@@ -0,0 +1,27 @@
+package com.stockmate.order.common.scheduler;
+
+import com.stockmate.order.common.event.HandleOrderStatusChange;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderStatusRepublishScheduler {
+
+    private final HandleOrderStatusChange handleOrderStatusChange;
+
+    /**
+     * 커밋 이후 발행에 실패한 주문 상태 스냅샷 재발행 (기본 10초)
+     */
+    @Scheduled(fixedDelayString = "${kafka.order-status.republish-interval-ms:10000}")
+    public void republishFailedOrderStatuses() {
+        try {
+            handleOrderStatusChange.republishFailed();
+        } catch (Exception e) {
+            log.error("주문 상태 스냅샷 재발행 중 오류 발생 - 에러: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.stockmate.order.api.idempotency.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stockmate.order.api.idempotency.entity.IdempotencyRecord;
+import com.stockmate.order.api.idempotency.entity.IdempotencyStatus;
+import com.stockmate.order.api.idempotency.repository.IdempotencyRecordRepository;
+import com.stockmate.order.common.exception.BadRequestException;
+import com.stockmate.order.common.exception.ConflictException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyService 테스트")
+class IdempotencyServiceTest {
+
+    private static final String KEY = "client-key-1";
+    private static final String SCOPED_KEY = "1:POST /api/v1/order:" + KEY;
+    private static final String OPERATION = "POST /api/v1/order";
+    private static final OrderRequest REQUEST = new OrderRequest(10L, 2);
+
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    private IdempotencyService idempotencyService;
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyService(idempotencyRecordRepository, new ObjectMapper());
+        ReflectionTestUtils.setField(idempotencyService, "ttlHours", 24L);
+        ReflectionTestUtils.setField(idempotencyService, "inProgressTimeoutMinutes", 10L);
+        ReflectionTestUtils.setField(idempotencyService, "cacheSize", 100);
+        ReflectionTestUtils.invokeMethod(idempotencyService, "initCache");
+    }
+
+    @Test
+    @DisplayName("완료된 키로 재요청하면 작업을 다시 실행하지 않고 저장된 응답 반환")
+    void replaysCompletedKey() {
+        // given
+        given(idempotencyRecordRepository.findByIdempotencyKey(SCOPED_KEY)).willReturn(Optional.empty());
+        willAnswer(invocation -> invocation.getArgument(0)).given(idempotencyRecordRepository).saveAndFlush(any());
+        willAnswer(invocation -> invocation.getArgument(0)).given(idempotencyRecordRepository).save(any());
+
+        // when
+        OrderResult first = execute(REQUEST, this::createOrder);
+        OrderResult replayed = execute(REQUEST, this::createOrder);
+
+        // then - 두 번째 요청은 메모리 캐시에서 응답 (DB 조회 1회)
+        assertThat(executions).hasValue(1);
+        assertThat(replayed).isEqualTo(first);
+        verify(idempotencyRecordRepository, times(1)).findByIdempotencyKey(SCOPED_KEY);
+
+        ArgumentCaptor<IdempotencyRecord> saved = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(idempotencyRecordRepository).save(saved.capture());
+        assertThat(saved.getValue().getStatus()).isEqualTo(IdempotencyStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 완료한 키는 DB 레코드의 응답 반환")
+    void replaysCompletedKeyFromDatabase() {
+        // given
+        IdempotencyRecord record = record(IdempotencyStatus.COMPLETED, "{\"orderId\":7,\"orderNumber\":\"SMO-7\"}");
+        given(idempotencyRecordRepository.findByIdempotencyKey(SCOPED_KEY)).willReturn(Optional.of(record));
+
+        // when
+        OrderResult result = execute(REQUEST, this::createOrder);
+
+        // then
+        assertThat(result).isEqualTo(new OrderResult(7L, "SMO-7"));
+        assertThat(executions).hasValue(0);
+        verify(idempotencyRecordRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("같은 키로 본문이 다른 요청은 BadRequestException")
+    void rejectsReusedKeyWithDifferentBody() {
+        // given
+        IdempotencyRecord record = record(IdempotencyStatus.COMPLETED, "{\"orderId\":7,\"orderNumber\":\"SMO-7\"}");
+        given(idempotencyRecordRepository.findByIdempotencyKey(SCOPED_KEY)).willReturn(Optional.of(record));
+
+        // when & then
+        assertThatThrownBy(() -> execute(new OrderRequest(11L, 2), this::createOrder))
+                .isInstanceOf(BadRequestException.class);
+        assertThat(executions).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("처리 중(IN_PROGRESS)인 키로 재요청하면 ConflictException (409)")
+    void rejectsKeyInProgress() {
+        // given
+        given(idempotencyRecordRepository.findByIdempotencyKey(SCOPED_KEY))
+                .willReturn(Optional.of(record(IdempotencyStatus.IN_PROGRESS, null)));
+
+        // when & then
+        assertThatThrownBy(() -> execute(REQUEST, this::createOrder))
+                .isInstanceOf(ConflictException.class);
+        assertThat(executions).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("동시 요청이 먼저 선점한 경우 (unique 제약 위반) ConflictException (409)")
+    void rejectsConcurrentReservation() {
+        // given
+        given(idempotencyRecordRepository.findByIdempotencyKey(SCOPED_KEY))
+                .willReturn(Optional.empty())
+                .willReturn(Optional.of(record(IdempotencyStatus.IN_PROGRESS, null)));
+        given(idempotencyRecordRepository.saveAndFlush(any())).willThrow(new DataIntegrityViolationException("duplicate key"));
+
+        // when & then
+        assertThatThrownBy(() -> execute(REQUEST, this::createOrder))
+                .isInstanceOf(ConflictException.class);
+        assertThat(executions).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("작업이 실패하면 선점을 해제하여 같은 키로 재시도 가능")
+    void releasesKeyWhenActionFails() {
+        // given
+        given(idempotencyRecordRepository.findByIdempotencyKey(SCOPED_KEY)).willReturn(Optional.empty());
+        willAnswer(invocation -> invocation.getArgument(0)).given(idempotencyRecordRepository).saveAndFlush(any());
+
+        // when & then
+        assertThatThrownBy(() -> execute(REQUEST, () -> {
+            throw new BadRequestException("재고 부족");
+        })).isInstanceOf(BadRequestException.class);
+
+        ArgumentCaptor<IdempotencyRecord> released = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(idempotencyRecordRepository).delete(released.capture());
+        assertThat(released.getValue().getIdempotencyKey()).isEqualTo(SCOPED_KEY);
+
+        // when - 같은 키로 재시도
+        willAnswer(invocation -> invocation.getArgument(0)).given(idempotencyRecordRepository).save(any());
+        OrderResult result = execute(REQUEST, this::createOrder);
+
+        // then
+        assertThat(result.orderId()).isEqualTo(1L);
+        verify(idempotencyRecordRepository, times(2)).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("응답 저장에 실패하면 응답은 반환하고 레코드는 FAILED - 재요청은 작업을 다시 실행하지 않음")
+    void marksFailedWhenResponseCannotBeStored() {
+        // given
+        given(idempotencyRecordRepository.findByIdempotencyKey(SCOPED_KEY)).willReturn(Optional.empty());
+        willAnswer(invocation -> invocation.getArgument(0)).given(idempotencyRecordRepository).saveAndFlush(any());
+        given(idempotencyRecordRepository.save(any()))
+                .willThrow(new QueryTimeoutException("lock wait timeout"))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        OrderResult result = execute(REQUEST, this::createOrder);
+
+        // then
+        assertThat(result.orderId()).isEqualTo(1L);
+        ArgumentCaptor<IdempotencyRecord> saved = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(idempotencyRecordRepository, times(2)).save(saved.capture());
+        IdempotencyRecord failed = saved.getValue();
+        assertThat(failed.getStatus()).isEqualTo(IdempotencyStatus.FAILED);
+        assertThat(failed.getResponseBody()).isNull();
+        assertThat(failed.getExpiresAt()).isAfter(LocalDateTime.now().plusHours(23));
+
+        // when - FAILED 레코드로 재요청
+        given(idempotencyRecordRepository.findByIdempotencyKey(SCOPED_KEY)).willReturn(Optional.of(failed));
+
+        // then
+        assertThatThrownBy(() -> execute(REQUEST, this::createOrder))
+                .isInstanceOf(ConflictException.class);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key 가 없으면 기록 없이 그대로 실행")
+    void executesWithoutKey() {
+        // when
+        idempotencyService.execute(null, 1L, OPERATION, REQUEST, OrderResult.class, this::createOrder);
+
+        // then
+        assertThat(executions).hasValue(1);
+        verify(idempotencyRecordRepository, never()).findByIdempotencyKey(any());
+    }
+
+    private OrderResult execute(Object request, Supplier<OrderResult> action) {
+        return idempotencyService.execute(KEY, 1L, OPERATION, request, OrderResult.class, action);
+    }
+
+    private OrderResult createOrder() {
+        int count = executions.incrementAndGet();
+        return new OrderResult((long) count, "SMO-" + count);
+    }
+
+    private IdempotencyRecord record(IdempotencyStatus status, String responseBody) {
+        String fingerprint = ReflectionTestUtils.invokeMethod(idempotencyService, "fingerprint", REQUEST);
+        return IdempotencyRecord.builder()
+                .id(1L)
+                .idempotencyKey(SCOPED_KEY)
+                .fingerprint(fingerprint)
+                .status(status)
+                .responseBody(responseBody)
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .build();
+    }
+
+    record OrderRequest(Long partId, int amount) {
+    }
+
+    record OrderResult(Long orderId, String orderNumber) {
+    }
+}
@@ -0,0 +1,112 @@
+package com.stockmate.order.api.notification.dto;
+
+import com.stockmate.order.common.exception.BadRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("NotificationCursor 테스트")
+class NotificationCursorTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 10, 1, 9, 30, 15, 123_456_000);
+
+    @Test
+    @DisplayName("인코딩한 커서는 생성 시각(마이크로초 포함)과 ID 그대로 복원")
+    void encodeDecodeRoundTrip() {
+        // given
+        NotificationCursor cursor = new NotificationCursor(CREATED_AT, 42L);
+
+        // when
+        NotificationCursor decoded = NotificationCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("초 단위가 0 인 시각도 복원 (LocalDateTime.toString 이 초를 생략하는 경우)")
+    void encodeDecodeWholeMinute() {
+        // given
+        NotificationCursor cursor = new NotificationCursor(LocalDateTime.of(2025, 10, 1, 9, 30), 7L);
+
+        // when
+        NotificationCursor decoded = NotificationCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("인코딩 결과는 URL 에 그대로 쓸 수 있는 문자열")
+    void encodedCursorIsUrlSafe() {
+        // when
+        String encoded = new NotificationCursor(CREATED_AT, Long.MAX_VALUE).encode();
+
+        // then
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지 (null)")
+    void blankCursorMeansFirstPage() {
+        assertThat(NotificationCursor.decode(null)).isNull();
+        assertThat(NotificationCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 커서는 BadRequestException")
+    void invalidCursorIsRejected() {
+        assertThatThrownBy(() -> NotificationCursor.decode("not-a-cursor"))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> NotificationCursor.decode(encodeRaw("2025-10-01T09:30|abc")))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("size + 1 건이면 다음 페이지 존재, 커서는 페이지의 마지막 행 기준")
+    void pageCursorPointsAtLastReturnedRow() {
+        // given - 같은 생성 시각의 알림이 페이지 경계에 걸친 경우 (ID 로 순서 결정)
+        List<Row> rows = List.of(
+                new Row(CREATED_AT, 30L),
+                new Row(CREATED_AT, 20L),
+                new Row(CREATED_AT, 10L)
+        );
+
+        // when
+        NotificationCursorPageDTO<Long> page = NotificationCursorPageDTO.of(rows, 2, Row::createdAt, Row::id, Row::id);
+
+        // then - 다음 페이지는 (CREATED_AT, 20) 보다 작은 행부터 → 같은 시각의 ID 10 이 누락되지 않음
+        assertThat(page.getContent()).containsExactly(30L, 20L);
+        assertThat(page.getSize()).isEqualTo(2);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(NotificationCursor.decode(page.getNextCursor())).isEqualTo(new NotificationCursor(CREATED_AT, 20L));
+    }
+
+    @Test
+    @DisplayName("size 이하이면 마지막 페이지, 커서 없음")
+    void lastPageHasNoCursor() {
+        // given
+        List<Row> rows = List.of(new Row(CREATED_AT, 30L), new Row(CREATED_AT, 20L));
+
+        // when
+        NotificationCursorPageDTO<Long> page = NotificationCursorPageDTO.of(rows, 2, Row::createdAt, Row::id, Row::id);
+
+        // then
+        assertThat(page.getContent()).containsExactly(30L, 20L);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    private static String encodeRaw(String raw) {
+        return java.util.Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(java.nio.charset.StandardCharsets.UTF_8));
+    }
+
+    private record Row(LocalDateTime createdAt, Long id) {
+    }
+}
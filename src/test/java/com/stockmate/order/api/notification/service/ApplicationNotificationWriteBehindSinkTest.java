@@ -0,0 +1,173 @@
+package com.stockmate.order.api.notification.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ApplicationNotificationWriteBehindSink 테스트")
+class ApplicationNotificationWriteBehindSinkTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private NotificationUnreadCounterService unreadCounterService;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ApplicationNotificationWriteBehindSink sink;
+
+    @BeforeEach
+    void setUp() {
+        sink = new ApplicationNotificationWriteBehindSink(jdbcTemplate, transactionManager, unreadCounterService, meterRegistry);
+        ReflectionTestUtils.setField(sink, "queueCapacity", 100);
+        ReflectionTestUtils.setField(sink, "batchSize", 10);
+        ReflectionTestUtils.setField(sink, "flushIntervalMs", 50L);
+        ReflectionTestUtils.setField(sink, "overflowWaitMs", 0L);
+        ReflectionTestUtils.setField(sink, "overflowThreads", 1);
+        ReflectionTestUtils.setField(sink, "overflowQueueCapacity", 10);
+        ReflectionTestUtils.setField(sink, "shutdownTimeoutMs", 5_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (Boolean.TRUE.equals(ReflectionTestUtils.getField(sink, "running"))) {
+            ReflectionTestUtils.invokeMethod(sink, "stop");
+        }
+    }
+
+    @Test
+    @DisplayName("적재한 알림은 묶음 INSERT 로 저장하고 사용자별 카운터를 합쳐서 증가")
+    @SuppressWarnings("unchecked")
+    void flushesInBatch() {
+        // given
+        ReflectionTestUtils.invokeMethod(sink, "start");
+
+        // when
+        sink.enqueue(1L, 10L, "SMO-1", "주문 승인");
+        sink.enqueue(2L, 10L, "SMO-2", "주문 승인");
+        sink.enqueue(3L, 20L, "SMO-3", "주문 승인");
+        ReflectionTestUtils.invokeMethod(sink, "stop");
+
+        // then - 종료 시 남은 알림까지 모두 저장
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+        assertThat(rows.getValue()).hasSize(3);
+        verify(unreadCounterService).incrementUser(10L, 2L);
+        verify(unreadCounterService).incrementUser(20L, 1L);
+        assertThat(meterRegistry.counter("order.notification.write-behind.flushed").count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋 후에만 적재 (롤백 시 저장하지 않음)")
+    void enqueuesOnlyAfterCommit() {
+        // given
+        ReflectionTestUtils.invokeMethod(sink, "start");
+
+        // when - 롤백 (afterCommit 미호출)
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            sink.enqueue(1L, 10L, "SMO-1", "주문 승인");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // when - 커밋
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            sink.enqueue(2L, 10L, "SMO-2", "주문 승인");
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        ReflectionTestUtils.invokeMethod(sink, "stop");
+
+        // then
+        verify(unreadCounterService).incrementUser(10L, 1L);
+        assertThat(meterRegistry.counter("order.notification.write-behind.flushed").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 overflow 메트릭 증가 후 호출 스레드가 아닌 보조 저장 스레드에서 저장")
+    void writesOverflowOffCallerThread() throws InterruptedException {
+        // given - 저장 스레드가 첫 알림 저장 중에 멈춰 있고 대기열(1건)이 가득 찬 상태
+        ReflectionTestUtils.setField(sink, "queueCapacity", 1);
+        ReflectionTestUtils.setField(sink, "batchSize", 1);
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> writerThreads = new CopyOnWriteArrayList<>();
+        willAnswer(invocation -> {
+            writerThreads.add(Thread.currentThread().getName());
+            writing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new int[]{1};
+        }).given(jdbcTemplate).batchUpdate(anyString(), anyList());
+        ReflectionTestUtils.invokeMethod(sink, "start");
+
+        sink.enqueue(1L, 10L, "SMO-1", "주문 승인");
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        sink.enqueue(2L, 10L, "SMO-2", "주문 승인");
+
+        // when - 대기열 초과 (호출 스레드는 저장 완료를 기다리지 않고 바로 반환)
+        sink.enqueue(3L, 10L, "SMO-3", "주문 승인");
+
+        // then
+        assertThat(meterRegistry.counter("order.notification.write-behind.overflow").count()).isEqualTo(1);
+
+        // when - 저장 재개 후 종료
+        release.countDown();
+        ReflectionTestUtils.invokeMethod(sink, "stop");
+
+        // then - 초과분까지 3건 모두 저장, 호출 스레드에서 저장한 건 없음
+        verify(jdbcTemplate, times(3)).batchUpdate(anyString(), anyList());
+        assertThat(meterRegistry.counter("order.notification.write-behind.flushed").count()).isEqualTo(3);
+        assertThat(writerThreads).doesNotContain(Thread.currentThread().getName());
+        assertThat(writerThreads).anyMatch(name -> name.startsWith("notification-overflow-"));
+    }
+
+    @Test
+    @DisplayName("종료 이후 들어온 알림은 버리지 않고 호출 스레드에서 바로 저장")
+    void writesSynchronouslyAfterClose() {
+        // given
+        ReflectionTestUtils.invokeMethod(sink, "start");
+        ReflectionTestUtils.invokeMethod(sink, "stop");
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+
+        // when
+        sink.enqueue(1L, 10L, "SMO-1", "주문 승인");
+
+        // then
+        verify(jdbcTemplate).batchUpdate(anyString(), anyList());
+        verify(unreadCounterService).incrementUser(10L, 1L);
+        assertThat(meterRegistry.counter("order.notification.write-behind.overflow").count()).isZero();
+    }
+}
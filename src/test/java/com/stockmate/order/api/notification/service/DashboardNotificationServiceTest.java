@@ -0,0 +1,114 @@
+package com.stockmate.order.api.notification.service;
+
+import com.stockmate.order.api.notification.dto.NotificationCursor;
+import com.stockmate.order.api.notification.dto.NotificationCursorPageDTO;
+import com.stockmate.order.api.notification.dto.NotificationListResponseDTO;
+import com.stockmate.order.api.notification.entity.DashboardNotification;
+import com.stockmate.order.api.notification.entity.NotificationType;
+import com.stockmate.order.api.notification.repository.DashboardNotificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DashboardNotificationService 커서 페이지 테스트")
+class DashboardNotificationServiceTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 10, 1, 9, 30, 15);
+
+    @Mock
+    private DashboardNotificationRepository notificationRepository;
+
+    @Mock
+    private NotificationUnreadCounterService unreadCounterService;
+
+    @InjectMocks
+    private DashboardNotificationService notificationService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(notificationService, "maxPageSize", 100);
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지 쿼리, size + 1 건 조회")
+    void firstPageQueriesSizePlusOne() {
+        // given
+        given(notificationRepository.findByNotificationTypeAndIsReadFalseOrderByCreatedAtDescIdDesc(eq(NotificationType.ADMIN), any(Pageable.class)))
+                .willReturn(List.of(notification(3L), notification(2L), notification(1L)));
+
+        // when
+        NotificationCursorPageDTO<NotificationListResponseDTO> page =
+                notificationService.getUnreadNotifications(NotificationType.ADMIN, null, 2);
+
+        // then
+        assertThat(page.getContent()).extracting(NotificationListResponseDTO::getId).containsExactly(3L, 2L);
+        assertThat(page.isHasNext()).isTrue();
+        verify(notificationRepository).findByNotificationTypeAndIsReadFalseOrderByCreatedAtDescIdDesc(
+                eq(NotificationType.ADMIN), argThat(pageable -> pageable.getPageSize() == 3));
+        verify(notificationRepository, never()).findUnreadPageByTypeAfter(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("다음 페이지는 커서의 (생성 시각, ID) 그대로 keyset 조회 - 같은 시각의 경계 행은 ID 로 구분")
+    void nextPageUsesCursorTieBreak() {
+        // given
+        String cursor = new NotificationCursor(CREATED_AT, 2L).encode();
+        given(notificationRepository.findUnreadPageByTypeAfter(eq(NotificationType.WAREHOUSE), eq(CREATED_AT), eq(2L), any(Pageable.class)))
+                .willReturn(List.of(notification(1L)));
+
+        // when
+        NotificationCursorPageDTO<NotificationListResponseDTO> page =
+                notificationService.getUnreadNotifications(NotificationType.WAREHOUSE, cursor, 2);
+
+        // then
+        assertThat(page.getContent()).extracting(NotificationListResponseDTO::getId).containsExactly(1L);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("페이지 크기는 1 ~ max-size 로 제한")
+    void pageSizeIsClamped() {
+        // given
+        given(notificationRepository.findByNotificationTypeOrderByCreatedAtDescIdDesc(eq(NotificationType.ADMIN), any(Pageable.class)))
+                .willReturn(List.of());
+
+        // when
+        notificationService.getAllNotifications(NotificationType.ADMIN, null, 10_000);
+
+        // then
+        verify(notificationRepository).findByNotificationTypeOrderByCreatedAtDescIdDesc(
+                eq(NotificationType.ADMIN), argThat(pageable -> pageable.getPageSize() == 101));
+    }
+
+    private static DashboardNotification notification(Long id) {
+        DashboardNotification notification = DashboardNotification.builder()
+                .id(id)
+                .notificationType(NotificationType.ADMIN)
+                .message("알림 " + id)
+                .orderId(id)
+                .orderNumber("SMO-" + id)
+                .isRead(false)
+                .build();
+        ReflectionTestUtils.setField(notification, "createdAt", CREATED_AT);
+        return notification;
+    }
+}
@@ -0,0 +1,216 @@
+package com.stockmate.order.api.notification.service;
+
+import com.stockmate.order.api.notification.entity.NotificationType;
+import com.stockmate.order.api.notification.entity.NotificationUnreadCounter;
+import com.stockmate.order.api.notification.repository.ApplicationNotificationRepository;
+import com.stockmate.order.api.notification.repository.DashboardNotificationRepository;
+import com.stockmate.order.api.notification.repository.NotificationUnreadCounterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationUnreadCounterService 테스트")
+class NotificationUnreadCounterServiceTest {
+
+    @Mock
+    private NotificationUnreadCounterRepository counterRepository;
+
+    @Mock
+    private ApplicationNotificationRepository applicationNotificationRepository;
+
+    @Mock
+    private DashboardNotificationRepository dashboardNotificationRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private NotificationUnreadCounterService counterService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(counterService, "idleTtlMs", 600_000L);
+        ReflectionTestUtils.invokeMethod(counterService, "init");
+    }
+
+    @Test
+    @DisplayName("증감은 커밋 후 메모리에만 반영하고 카운터 테이블은 반영 주기에 묶어서 갱신")
+    void addIsAppliedAfterCommitAndFlushedInBatch() {
+        // given
+        willReturn(Optional.of(counter("type:ADMIN", 3))).given(counterRepository).findById("type:ADMIN");
+        willReturn(1).given(counterRepository).addDelta("type:ADMIN", 2);
+        assertThat(counterService.typeUnread(NotificationType.ADMIN)).isEqualTo(3);
+
+        // when - 주문 트랜잭션 안에서 두 번 증가
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            counterService.incrementType(NotificationType.ADMIN);
+            counterService.incrementType(NotificationType.ADMIN);
+
+            // then - 트랜잭션 안에서는 카운터 테이블도 메모리도 건드리지 않음
+            verify(counterRepository, never()).addDelta(anyString(), anyLong());
+            assertThat(counterService.typeUnread(NotificationType.ADMIN)).isEqualTo(3);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then - 커밋 후 메모리 반영, 테이블은 아직 미반영
+        assertThat(counterService.typeUnread(NotificationType.ADMIN)).isEqualTo(5);
+        verify(counterRepository, never()).addDelta(anyString(), anyLong());
+
+        // when - 반영 주기
+        int flushed = counterService.flushDeltas();
+
+        // then - 키별로 합쳐서 한 번만 증감
+        assertThat(flushed).isEqualTo(1);
+        verify(counterRepository).addDelta("type:ADMIN", 2);
+        assertThat(counterService.flushDeltas()).isZero();
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션의 증감은 버림")
+    void rolledBackDeltaIsDiscarded() {
+        // when
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            counterService.decrementUser(1L, 3);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        assertThat(counterService.flushDeltas()).isZero();
+        verify(counterRepository, never()).addDelta(anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 증감을 되돌려 다음 주기에 합쳐서 재시도")
+    void failedFlushIsRetried() {
+        // given
+        counterService.incrementUser(1L, 2);
+        willThrow(new QueryTimeoutException("lock wait timeout")).given(counterRepository).addDelta("user:1", 2);
+
+        // when & then
+        assertThatThrownBy(() -> counterService.flushDeltas()).isInstanceOf(QueryTimeoutException.class);
+
+        // given - 실패 이후 추가 증감
+        counterService.incrementUser(1L, 1);
+        willReturn(1).given(counterRepository).addDelta("user:1", 3);
+
+        // when
+        counterService.flushDeltas();
+
+        // then
+        verify(counterRepository).addDelta("user:1", 3);
+    }
+
+    @Test
+    @DisplayName("카운터 행이 없으면 COUNT 로 생성 (커밋 후 반영이므로 증감은 COUNT 에 포함)")
+    void missingRowIsSeededFromCount() {
+        // given
+        counterService.incrementType(NotificationType.WAREHOUSE);
+        willReturn(0).given(counterRepository).addDelta("type:WAREHOUSE", 1);
+        given(dashboardNotificationRepository.countByNotificationTypeAndIsReadFalse(NotificationType.WAREHOUSE)).willReturn(7L);
+
+        // when
+        counterService.flushDeltas();
+
+        // then
+        verify(counterRepository).insertOrAdd("type:WAREHOUSE", 7, 0);
+    }
+
+    @Test
+    @DisplayName("재조회는 테이블 값에 아직 반영하지 않은 이 인스턴스의 증감을 더해서 갱신")
+    void refreshKeepsPendingDeltas() {
+        // given
+        willReturn(Optional.of(counter("user:1", 5))).given(counterRepository).findById("user:1");
+        counterService.userUnread(1L);
+        counterService.incrementUser(1L, 2);
+        given(counterRepository.findAllById(List.of("user:1"))).willReturn(List.of(counter("user:1", 10)));
+
+        // when - 다른 인스턴스가 테이블을 10 으로 올린 상태
+        counterService.refresh();
+
+        // then
+        assertThat(counterService.userUnread(1L)).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("조회가 없는 사용자 카운터는 재조회 전에 제거 (타입 카운터는 유지)")
+    void refreshEvictsIdleUserCounters() {
+        // given
+        willReturn(Optional.of(counter("user:1", 5))).given(counterRepository).findById("user:1");
+        willReturn(Optional.of(counter("type:ADMIN", 1))).given(counterRepository).findById("type:ADMIN");
+        counterService.userUnread(1L);
+        counterService.typeUnread(NotificationType.ADMIN);
+        ReflectionTestUtils.setField(counterService, "idleTtlMs", -1L);
+        given(counterRepository.findAllById(List.of("type:ADMIN"))).willReturn(List.of(counter("type:ADMIN", 1)));
+
+        // when
+        counterService.refresh();
+
+        // then - 제거된 사용자 카운터는 다음 조회 시 다시 적재
+        verify(counterRepository).findAllById(List.of("type:ADMIN"));
+        counterService.userUnread(1L);
+        verify(counterRepository, times(2)).findById("user:1");
+    }
+
+    @Test
+    @DisplayName("COUNT 대조 - 미반영 증감을 먼저 반영한 뒤 다른 카운터만 보정")
+    void reconcileCorrectsDrift() {
+        // given
+        willReturn(Optional.of(counter("user:1", 5))).given(counterRepository).findById("user:1");
+        willReturn(Optional.of(counter("type:ADMIN", 2))).given(counterRepository).findById("type:ADMIN");
+        counterService.userUnread(1L);
+        counterService.typeUnread(NotificationType.ADMIN);
+        counterService.incrementType(NotificationType.ADMIN);
+        willReturn(1).given(counterRepository).addDelta("type:ADMIN", 1);
+        given(applicationNotificationRepository.countByUserIdAndIsReadFalse(1L)).willReturn(4L);
+        given(dashboardNotificationRepository.countByNotificationTypeAndIsReadFalse(NotificationType.ADMIN)).willReturn(3L);
+        given(counterRepository.setCount("user:1", 4)).willReturn(1);
+
+        // when
+        int corrected = counterService.reconcile();
+
+        // then
+        assertThat(corrected).isEqualTo(1);
+        verify(counterRepository).addDelta("type:ADMIN", 1);
+        verify(counterRepository).setCount("user:1", 4);
+        verify(counterRepository, never()).setCount("type:ADMIN", 3);
+        assertThat(counterService.userUnread(1L)).isEqualTo(4);
+        assertThat(counterService.typeUnread(NotificationType.ADMIN)).isEqualTo(3);
+    }
+
+    private static NotificationUnreadCounter counter(String key, long count) {
+        return NotificationUnreadCounter.builder()
+                .counterKey(key)
+                .unreadCount(count)
+                .build();
+    }
+}
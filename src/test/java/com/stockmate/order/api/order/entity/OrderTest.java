@@ -38,6 +38,47 @@ class OrderTest {
         assertThat(order.getOrderStatus()).isEqualTo(OrderStatus.CANCELLED);
     }
 
+    @Test
+    @DisplayName("비동기 취소 시작 및 실패 시 이전 상태 복원 테스트")
+    void startCancelAndRevert() {
+        // given
+        order.setOrderStatus(OrderStatus.PAY_COMPLETED);
+
+        // when
+        order.startCancel("CANCEL-1");
+
+        // then
+        assertThat(order.getOrderStatus()).isEqualTo(OrderStatus.PENDING_CANCEL);
+        assertThat(order.getStatusBeforeCancel()).isEqualTo(OrderStatus.PAY_COMPLETED);
+        assertThat(order.getCancelAttemptId()).isEqualTo("CANCEL-1");
+        assertThat(order.getCancelStartedAt()).isNotNull();
+        assertThat(order.isPendingCancelAttempt("CANCEL-1")).isTrue();
+        assertThat(order.isPendingCancelAttempt("CANCEL-0")).isFalse();
+
+        // when
+        order.revertCancel();
+
+        // then
+        assertThat(order.getOrderStatus()).isEqualTo(OrderStatus.PAY_COMPLETED);
+        assertThat(order.getStatusBeforeCancel()).isNull();
+        assertThat(order.isPendingCancelAttempt("CANCEL-1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("비동기 취소 시작 시 승인 시도 정보 유지 테스트")
+    void startCancelKeepsApprovalAttempt() {
+        // given
+        order.startApproval("ATTEMPT-1");
+        order.approve();
+
+        // when
+        order.startCancel("CANCEL-1");
+
+        // then
+        assertThat(order.getApprovalAttemptId()).isEqualTo("ATTEMPT-1");
+        assertThat(order.getCancelAttemptId()).isEqualTo("CANCEL-1");
+    }
+
     @Test
     @DisplayName("주문 승인 시작 테스트")
     void startApproval() {
@@ -204,5 +245,31 @@ class OrderTest {
         order.completeReceiving();
         assertThat(order.getOrderStatus()).isEqualTo(OrderStatus.RECEIVED);
     }
-}
 
+    @Test
+    @DisplayName("재고 차감 결과 불명 보류 키는 승인 완료 / 복원 시 해제")
+    void holdApprovalClearedOnApproveOrRollback() {
+        // given
+        order.startApproval("WS-1");
+        order.holdApproval("DEDUCT-BATCH-1");
+        assertThat(order.getDeductBatchKey()).isEqualTo("DEDUCT-BATCH-1");
+        assertThat(order.getOrderStatus()).isEqualTo(OrderStatus.PENDING_APPROVAL);
+
+        // when
+        order.approve();
+
+        // then
+        assertThat(order.getDeductBatchKey()).isNull();
+
+        // given
+        order.startApproval("WS-2");
+        order.holdApproval("DEDUCT-BATCH-2");
+
+        // when
+        order.rollbackToPayCompleted();
+
+        // then
+        assertThat(order.getDeductBatchKey()).isNull();
+        assertThat(order.getOrderStatus()).isEqualTo(OrderStatus.PAY_COMPLETED);
+    }
+}
@@ -1,5 +1,6 @@
 package com.stockmate.order.api.order.service;
 
+import com.stockmate.order.api.idempotency.service.ProcessedEventStore;
 import com.stockmate.order.api.notification.service.ApplicationNotificationService;
 import com.stockmate.order.api.order.dto.*;
 import com.stockmate.order.api.order.entity.Order;
@@ -62,6 +63,9 @@ class OrderServiceSimpleTest {
     @Mock
     private ApplicationNotificationService applicationNotificationService;
 
+    @Mock
+    private ProcessedEventStore processedEventStore;
+
     @InjectMocks
     private OrderService orderService;
 
@@ -164,6 +168,34 @@ class OrderServiceSimpleTest {
 //        verify(kafkaProducerService, times(1)).sendCancelRequest(any(PayCancelRequestEvent.class));
 //    }
 
+    @Test
+    @DisplayName("주문 결과 이벤트 일괄 반영 - 실패 레코드 격리 테스트")
+    void applyOrderResults_IsolatesFailedRecord() {
+        // given
+        PayResponseEvent paySuccess = PayResponseEvent.builder().orderId(1L).isSuccess(true).build();
+        PayResponseEvent unknownOrder = PayResponseEvent.builder().orderId(2L).isSuccess(false).build();
+
+        List<OrderResultEvent> events = List.of(
+                OrderResultEvent.of(OrderResultEvent.Type.PAY_FAILED, 2L, unknownOrder, "pay-failed-0@1"),
+                OrderResultEvent.of(OrderResultEvent.Type.PAY_SUCCESS, 1L, paySuccess, "pay-success-0@1")
+        );
+
+        given(orderRepository.findAllById(anyIterable())).willReturn(List.of(testOrder));
+
+        // when
+        OrderResultBatchResult result = orderService.applyOrderResults(events);
+
+        // then
+        assertThat(testOrder.getOrderStatus()).isEqualTo(OrderStatus.PENDING_SHIPPING);
+        assertThat(result.getNotifications()).isEmpty();
+        assertThat(result.getFailures()).containsOnlyKeys(events.get(0));
+
+        verify(orderRepository, times(1)).findAllById(anyIterable());
+        verify(orderRepository, never()).findById(anyLong());
+        // 반영에 성공한 레코드만 같은 트랜잭션에서 처리 기록
+        verify(processedEventStore, times(1)).markProcessed(List.of("pay-success-0@1"));
+    }
+
     @Test
     @DisplayName("주문 상세 조회 성공 테스트 - 관리자")
     void getOrderDetail_Success_Admin() {
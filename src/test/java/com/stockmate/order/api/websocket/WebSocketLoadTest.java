@@ -0,0 +1,278 @@
+package com.stockmate.order.api.websocket;
+
+import com.stockmate.order.api.dashboard.service.DashboardMetricsService;
+import com.stockmate.order.api.notification.entity.DashboardNotification;
+import com.stockmate.order.api.notification.service.DashboardNotificationService;
+import com.stockmate.order.api.order.entity.OrderStatus;
+import com.stockmate.order.api.websocket.bus.InMemoryWebSocketBroadcastBus;
+import com.stockmate.order.api.websocket.handler.DashboardWebSocketHandler;
+import com.stockmate.order.api.websocket.handler.OrderWebSocketHandler;
+import com.stockmate.order.api.websocket.session.DashboardNotificationReplayBuffer;
+import com.stockmate.order.api.websocket.session.OrderSessionRegistry;
+import com.stockmate.order.api.websocket.session.WebSocketHeartbeatService;
+import com.stockmate.order.api.websocket.session.WebSocketOutboundSender;
+import com.stockmate.order.common.config.async.AsyncConfig;
+import com.stockmate.order.common.config.webSocket.WebSocketConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.websocket.servlet.WebSocketServletAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * WebSocket 부하 테스트 (./gradlew loadTest)
+ * - 로컬 서버에 다수의 클라이언트를 연결하고 이벤트를 발생시켜 연결 수 / fan-out 지연 백분위 / 세션당 힙 사용량 측정
+ * - 세션 수는 -Dloadtest.sessions (기본 2000), 이벤트 수는 -Dloadtest.events (기본 50)
+ * - 클라이언트와 서버가 같은 JVM 이므로 세션당 힙은 양쪽 합계
+ */
+@Tag("loadtest")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        classes = {
+                WebSocketConfig.class, OrderWebSocketHandler.class, DashboardWebSocketHandler.class,
+                OrderSessionRegistry.class, WebSocketOutboundSender.class, WebSocketHeartbeatService.class,
+                DashboardNotificationReplayBuffer.class, InMemoryWebSocketBroadcastBus.class, AsyncConfig.class,
+                WebSocketLoadTest.MetricsConfig.class
+        },
+        properties = {
+                "server.tomcat.max-connections=20000",
+                "websocket.outbound.executor.max-size=16"
+        })
+@ImportAutoConfiguration({
+        ServletWebServerFactoryAutoConfiguration.class, DispatcherServletAutoConfiguration.class,
+        WebSocketServletAutoConfiguration.class, JacksonAutoConfiguration.class
+})
+@DisplayName("WebSocket 부하 테스트")
+class WebSocketLoadTest {
+
+    private static final int SESSION_COUNT = Integer.getInteger("loadtest.sessions", 2_000);
+    private static final int EVENT_COUNT = Integer.getInteger("loadtest.events", 50);
+    private static final int CONNECT_BATCH = 200;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private OrderWebSocketHandler orderWebSocketHandler;
+
+    @Autowired
+    private DashboardWebSocketHandler dashboardWebSocketHandler;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoBean
+    private DashboardNotificationService notificationService;
+
+    @MockitoBean
+    private DashboardMetricsService dashboardMetricsService;
+
+    private final StandardWebSocketClient client = new StandardWebSocketClient();
+    private final List<WebSocketSession> clientSessions = new ArrayList<>();
+
+    @AfterEach
+    void closeSessions() {
+        for (WebSocketSession session : clientSessions) {
+            try {
+                session.close(CloseStatus.NORMAL);
+            } catch (Exception ignored) {
+                // 이미 종료된 세션
+            }
+        }
+        clientSessions.clear();
+    }
+
+    @Test
+    @DisplayName("대시보드 세션 fan-out 지연")
+    void dashboardFanOut() throws Exception {
+        // given
+        AtomicLong notificationIds = new AtomicLong();
+        given(notificationService.saveNotification(any(), any(), any(), any()))
+                .willAnswer(invocation -> DashboardNotification.builder()
+                        .id(notificationIds.incrementAndGet())
+                        .build());
+
+        LatencyRecorder recorder = new LatencyRecorder(EVENT_COUNT);
+        int connected = connect("dashboard", i -> "ws://localhost:" + port + "/ws/order/dashboard?type=admin", recorder);
+
+        // when - 이벤트 i 의 주문번호는 "LOAD-i"
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            recorder.markSent(i);
+            dashboardWebSocketHandler.notifyAdminNewOrder((long) i, "LOAD-" + i);
+            Thread.sleep(20);
+        }
+
+        // then
+        recorder.awaitDeliveries((long) connected * EVENT_COUNT, 30);
+        recorder.report("dashboard", connected);
+        reportServerMetrics("dashboard");
+        assertThat(connected).isPositive();
+        assertThat(recorder.deliveries()).isPositive();
+    }
+
+    @Test
+    @DisplayName("주문 세션 사용자별 전송 지연")
+    void orderDelivery() throws Exception {
+        // given - 세션 i 는 사용자 i
+        LatencyRecorder recorder = new LatencyRecorder(EVENT_COUNT);
+        int connected = connect("order", i -> "ws://localhost:" + port + "/ws/order?userId=" + i, recorder);
+
+        // when - 이벤트마다 전체 사용자에게 주문 상태 전송, 메시지 단계명은 "LOAD-i"
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            recorder.markSent(i);
+            for (int userId = 0; userId < connected; userId++) {
+                orderWebSocketHandler.sendToUser((long) userId, (long) i, OrderStatus.ORDER_COMPLETED, "LOAD-" + i, "부하 테스트", null);
+            }
+            Thread.sleep(20);
+        }
+
+        // then
+        recorder.awaitDeliveries((long) connected * EVENT_COUNT, 30);
+        recorder.report("order", connected);
+        reportServerMetrics("order");
+        assertThat(connected).isPositive();
+        assertThat(recorder.deliveries()).isPositive();
+    }
+
+    // 배치 단위로 연결 - 성공한 세션 수 반환, 연결 전후 힙 차이로 세션당 힙 출력
+    private int connect(String name, IntFunction<String> uriOf, LatencyRecorder recorder) throws Exception {
+        long heapBefore = usedHeap();
+        long startedAt = System.nanoTime();
+
+        int connected = 0;
+        for (int from = 0; from < SESSION_COUNT; from += CONNECT_BATCH) {
+            List<CompletableFuture<WebSocketSession>> batch = new ArrayList<>();
+            for (int i = from; i < Math.min(from + CONNECT_BATCH, SESSION_COUNT); i++) {
+                batch.add(client.execute(recorder, uriOf.apply(i)));
+            }
+            for (CompletableFuture<WebSocketSession> future : batch) {
+                try {
+                    clientSessions.add(future.get(10, TimeUnit.SECONDS));
+                    connected++;
+                } catch (Exception e) {
+                    // 연결 실패 세션은 용량 초과로 집계
+                }
+            }
+        }
+
+        double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        long heapPerSession = connected > 0 ? (usedHeap() - heapBefore) / connected : 0;
+        System.out.printf("[LoadTest] %s 연결 - 요청: %d, 성공: %d, 소요: %.2fs, 세션당 힙: %d bytes%n",
+                name, SESSION_COUNT, connected, seconds, heapPerSession);
+        return connected;
+    }
+
+    // 서버 측 지표 (송신 대기열 적재 → 송신 완료)
+    private void reportServerMetrics(String name) {
+        Timer send = meterRegistry.get("order.websocket.outbound.send").timer();
+        System.out.printf("[LoadTest] %s 서버 송신 - 건수: %d, 평균: %.2fms, 최대: %.2fms, 대기 바이트: %.0f%n",
+                name, send.count(), send.mean(TimeUnit.MILLISECONDS), send.max(TimeUnit.MILLISECONDS),
+                meterRegistry.get("order.websocket.outbound.queued.bytes").gauge().value());
+    }
+
+    private long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        Thread.sleep(200);
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * 클라이언트 수신 핸들러 - 메시지의 "LOAD-i" 로 이벤트를 찾아 발생 시각 대비 수신 지연 기록
+     */
+    static class LatencyRecorder extends TextWebSocketHandler {
+
+        private final long[] sentAt;
+        private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+
+        LatencyRecorder(int eventCount) {
+            this.sentAt = new long[eventCount];
+        }
+
+        void markSent(int event) {
+            sentAt[event] = System.nanoTime();
+        }
+
+        @Override
+        protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+            long receivedAt = System.nanoTime();
+            String payload = message.getPayload();
+            int index = payload.indexOf("LOAD-");
+            if (index < 0) {
+                return;
+            }
+            int end = index + 5;
+            while (end < payload.length() && Character.isDigit(payload.charAt(end))) {
+                end++;
+            }
+            int event = Integer.parseInt(payload.substring(index + 5, end));
+            latencies.add(receivedAt - sentAt[event]);
+        }
+
+        long deliveries() {
+            return latencies.size();
+        }
+
+        void awaitDeliveries(long expected, int timeoutSeconds) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+            while (latencies.size() < expected && System.nanoTime() < deadline) {
+                Thread.sleep(100);
+            }
+        }
+
+        void report(String name, int connected) {
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            System.out.printf("[LoadTest] %s fan-out - 세션: %d, 수신: %d, p50: %.2fms, p95: %.2fms, p99: %.2fms, max: %.2fms%n",
+                    name, connected, sorted.length,
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99), percentile(sorted, 1.0));
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+
+    @Configuration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
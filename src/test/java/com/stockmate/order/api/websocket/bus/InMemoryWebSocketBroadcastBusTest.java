@@ -0,0 +1,71 @@
+package com.stockmate.order.api.websocket.bus;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InMemoryWebSocketBroadcastBus 테스트")
+class InMemoryWebSocketBroadcastBusTest {
+
+    private InMemoryWebSocketBroadcastBus first;
+    private InMemoryWebSocketBroadcastBus second;
+    private List<WebSocketBroadcast> firstReceived;
+    private List<WebSocketBroadcast> secondReceived;
+
+    @BeforeEach
+    void setUp() {
+        first = new InMemoryWebSocketBroadcastBus();
+        second = new InMemoryWebSocketBroadcastBus();
+        firstReceived = new ArrayList<>();
+        secondReceived = new ArrayList<>();
+        first.subscribe(firstReceived::add);
+        second.subscribe(secondReceived::add);
+    }
+
+    @Test
+    @DisplayName("연결된 버스로만 전달되고 발행 인스턴스에는 다시 전달되지 않음")
+    void publishFansOutToPeersOnly() {
+        // given
+        first.join(second);
+
+        // when
+        first.publish(WebSocketBroadcast.toGroup("admin", "{\"type\":\"NEW_ORDER\"}"));
+
+        // then
+        assertThat(firstReceived).isEmpty();
+        assertThat(secondReceived).hasSize(1);
+        assertThat(secondReceived.get(0).getOriginId()).isEqualTo(first.instanceId());
+        assertThat(secondReceived.get(0).getTarget()).isEqualTo("admin");
+        assertThat(secondReceived.get(0).getPayload()).isEqualTo("{\"type\":\"NEW_ORDER\"}");
+    }
+
+    @Test
+    @DisplayName("연결된 버스가 없으면 아무에게도 전달되지 않음 (단일 인스턴스)")
+    void publishWithoutPeersIsLocalOnly() {
+        // when
+        first.publish(WebSocketBroadcast.metrics("{}"));
+
+        // then
+        assertThat(firstReceived).isEmpty();
+        assertThat(secondReceived).isEmpty();
+    }
+
+    @Test
+    @DisplayName("연결은 양방향")
+    void joinIsBidirectional() {
+        // given
+        first.join(second);
+
+        // when
+        second.publish(WebSocketBroadcast.metrics("{\"orders\":1}"));
+
+        // then
+        assertThat(firstReceived).extracting(WebSocketBroadcast::getOriginId).containsExactly(second.instanceId());
+        assertThat(secondReceived).isEmpty();
+    }
+}
@@ -0,0 +1,128 @@
+package com.stockmate.order.api.websocket.session;
+
+import com.stockmate.order.api.websocket.dto.DashboardNotificationResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DashboardNotificationReplayBuffer 테스트")
+class DashboardNotificationReplayBufferTest {
+
+    private DashboardNotificationReplayBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new DashboardNotificationReplayBuffer();
+        ReflectionTestUtils.setField(buffer, "bufferSize", 3);
+    }
+
+    @Test
+    @DisplayName("lastSeq 이후 알림만 순번 순으로 재전송")
+    void replayAfterLastSeq() {
+        // given
+        append(10L, 11L, 12L);
+
+        // when
+        List<DashboardNotificationResponse> missed = buffer.replayAfter("admin", 10L).orElseThrow();
+
+        // then
+        assertThat(missed).extracting(DashboardNotificationResponse::getSeq).containsExactly(11L, 12L);
+    }
+
+    @Test
+    @DisplayName("첫 알림 이전 구간은 버퍼가 보장하지 않음 (DB 조회)")
+    void lastSeqBeforeFirstNotificationIsNotCovered() {
+        // given
+        append(10L, 11L);
+
+        // when & then
+        assertThat(buffer.replayAfter("admin", 9L)).isEmpty();
+        assertThat(buffer.replayAfter("admin", 10L)).isPresent();
+        assertThat(buffer.replayAfter("warehouse", 10L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("늦게 커밋된 작은 순번 알림은 이미 더 큰 순번을 받은 클라이언트에게도 재전송")
+    void lateArrivalIsReplayedToClientsPastItsSeq() {
+        // given - 13 이 12 보다 먼저 도착
+        append(10L, 11L, 13L);
+
+        // when - 12 가 뒤늦게 도착
+        append(12L);
+
+        // then - 13 까지 받은 클라이언트도 12 를 놓쳤을 수 있음
+        assertThat(buffer.replayAfter("admin", 13L).orElseThrow())
+                .extracting(DashboardNotificationResponse::getSeq).containsExactly(12L);
+        assertThat(buffer.replayAfter("admin", 11L).orElseThrow())
+                .extracting(DashboardNotificationResponse::getSeq).containsExactly(12L, 13L);
+    }
+
+    @Test
+    @DisplayName("늦게 도착한 알림 이후 더 큰 순번을 받은 클라이언트에게는 재전송하지 않음")
+    void lateArrivalIsNotReplayedAfterNewerSeq() {
+        // given
+        ReflectionTestUtils.setField(buffer, "bufferSize", 10);
+        append(10L, 13L, 12L, 14L);
+
+        // when
+        List<DashboardNotificationResponse> missed = buffer.replayAfter("admin", 14L).orElseThrow();
+
+        // then
+        assertThat(missed).isEmpty();
+    }
+
+    @Test
+    @DisplayName("밀려난 알림이 필요한 구간은 DB 조회로 전환")
+    void evictedRangeIsNotCovered() {
+        // given - 버퍼 크기 3, 10 이 밀려남
+        append(10L, 11L, 12L, 13L);
+
+        // when & then
+        assertThat(buffer.replayAfter("admin", 9L)).isEmpty();
+        assertThat(buffer.replayAfter("admin", 10L).orElseThrow())
+                .extracting(DashboardNotificationResponse::getSeq).containsExactly(11L, 12L, 13L);
+    }
+
+    @Test
+    @DisplayName("늦게 도착한 알림이 밀려나면 그 알림이 필요했던 구간 전체를 DB 조회로 전환")
+    void evictedLateArrivalRaisesFloor() {
+        // given - 11 이 13 이후 도착, 이후 11 이 밀려남
+        append(10L, 13L, 11L);
+        append(14L);
+        append(15L);
+
+        // when & then - 13 까지 받은 클라이언트는 11 을 놓쳤을 수 있으므로 버퍼로 응답 불가
+        assertThat(buffer.replayAfter("admin", 13L)).isEmpty();
+        assertThat(buffer.replayAfter("admin", 14L).orElseThrow())
+                .extracting(DashboardNotificationResponse::getSeq).containsExactly(15L);
+    }
+
+    @Test
+    @DisplayName("같은 알림이 중복 도착해도 한 번만 보관")
+    void duplicateArrivalIsIgnored() {
+        // given
+        append(10L, 11L, 11L);
+
+        // when
+        List<DashboardNotificationResponse> missed = buffer.replayAfter("admin", 10L).orElseThrow();
+
+        // then
+        assertThat(missed).extracting(DashboardNotificationResponse::getSeq).containsExactly(11L);
+    }
+
+    private void append(Long... seqs) {
+        for (Long seq : seqs) {
+            buffer.append("admin", DashboardNotificationResponse.builder()
+                    .type("DASHBOARD_NOTIFICATION")
+                    .notificationId(seq)
+                    .seq(seq)
+                    .message("알림 " + seq)
+                    .build());
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.stockmate.order.api.websocket.session;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("WebSocketOutboundSender 테스트")
+class WebSocketOutboundSenderTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Runnable> scheduledDrains = new ArrayList<>();
+
+    private ThreadPoolTaskExecutor executor;
+    private WebSocketSession session;
+    private WebSocketOutboundSender sender;
+
+    @BeforeEach
+    void setUp() {
+        executor = mock(ThreadPoolTaskExecutor.class, RETURNS_DEEP_STUBS);
+        // drain 작업은 예약만 해두고 테스트에서 직접 실행
+        willAnswer(invocation -> scheduledDrains.add(invocation.getArgument(0))).given(executor).execute(any(Runnable.class));
+
+        session = mock(WebSocketSession.class);
+        given(session.getId()).willReturn("session-1");
+        given(session.isOpen()).willReturn(true);
+
+        sender = new WebSocketOutboundSender(executor, meterRegistry);
+        ReflectionTestUtils.setField(sender, "sendTimeLimitMs", 10_000);
+        ReflectionTestUtils.setField(sender, "bufferSizeLimit", 10);
+        ReflectionTestUtils.invokeMethod(sender, "registerMetrics");
+        sender.register(session);
+    }
+
+    @Test
+    @DisplayName("적재한 메시지는 drain 작업에서 순서대로 송신하고 대기 바이트를 차감")
+    void drainsInOrder() throws IOException {
+        // given
+        TextMessage first = new TextMessage("abc");
+        TextMessage second = new TextMessage("def");
+
+        // when
+        assertThat(sender.send(session, first)).isTrue();
+        assertThat(sender.send(session, second)).isTrue();
+
+        // then - 진행 중인 drain 이 있으면 추가 예약하지 않음
+        assertThat(scheduledDrains).hasSize(1);
+        assertThat(queuedBytesGauge()).isEqualTo(6);
+
+        // when
+        runScheduledDrains();
+
+        // then
+        InOrder inOrder = inOrder(session);
+        inOrder.verify(session).sendMessage(first);
+        inOrder.verify(session).sendMessage(second);
+        assertThat(queuedBytesGauge()).isZero();
+        assertThat(sender.queuedBytes(session)).isZero();
+    }
+
+    @Test
+    @DisplayName("대기 바이트가 한도를 넘으면 세션 종료, 대기 바이트는 0 으로 복원")
+    void evictsWhenByteLimitExceeded() throws IOException {
+        // given
+        assertThat(sender.send(session, new TextMessage("abcdef"))).isTrue();
+
+        // when
+        boolean queued = sender.send(session, new TextMessage("ghijkl"));
+
+        // then
+        assertThat(queued).isFalse();
+        verify(session).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(evictedCount()).isEqualTo(1);
+        assertThat(queuedBytesGauge()).isZero();
+        assertThat(sender.send(session, new TextMessage("a"))).isFalse();
+
+        // when - 이미 예약된 drain 이 실행되어도 송신/차감 없음
+        runScheduledDrains();
+
+        // then
+        verify(session, never()).sendMessage(any());
+        assertThat(queuedBytesGauge()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기열에서 송신 시간 한도 이상 기다린 메시지는 송신하지 않고 세션 종료")
+    void evictsWhenMessageWaitedTooLong() throws IOException {
+        // given
+        sender.send(session, new TextMessage("abc"));
+        sender.send(session, new TextMessage("def"));
+        ReflectionTestUtils.setField(sender, "sendTimeLimitMs", -1);
+
+        // when
+        runScheduledDrains();
+
+        // then
+        verify(session, never()).sendMessage(any());
+        verify(session).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(evictedCount()).isEqualTo(1);
+        assertThat(queuedBytesGauge()).isZero();
+    }
+
+    @Test
+    @DisplayName("진행 중인 송신이 시간 한도를 넘긴 상태에서 적재하면 세션 종료")
+    void evictsWhenInFlightSendExceedsTimeLimit() throws Exception {
+        // given - 송신이 멈춰 있는 상태
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            sending.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).given(session).sendMessage(any());
+        sender.send(session, new TextMessage("abc"));
+        Thread drainThread = new Thread(this::runScheduledDrains);
+        drainThread.start();
+        assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+        ReflectionTestUtils.setField(sender, "sendTimeLimitMs", -1);
+
+        // when
+        boolean queued = sender.send(session, new TextMessage("def"));
+
+        // then
+        assertThat(queued).isFalse();
+        verify(session).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(evictedCount()).isEqualTo(1);
+
+        release.countDown();
+        drainThread.join(5_000);
+        assertThat(queuedBytesGauge()).isZero();
+    }
+
+    @Test
+    @DisplayName("drain 작업 예약이 거부되면 세션 종료, 대기 바이트는 0 으로 복원")
+    void evictsWhenDrainRejected() throws IOException {
+        // given
+        willThrow(new TaskRejectedException("queue full")).given(executor).execute(any(Runnable.class));
+
+        // when
+        boolean queued = sender.send(session, new TextMessage("abc"));
+
+        // then
+        assertThat(queued).isFalse();
+        verify(session).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(meterRegistry.counter("order.websocket.outbound.rejected").count()).isEqualTo(1);
+        assertThat(evictedCount()).isEqualTo(1);
+        assertThat(queuedBytesGauge()).isZero();
+    }
+
+    @Test
+    @DisplayName("송신 도중 세션이 해제되어도 대기 바이트는 메시지당 한 번만 차감 (음수가 되지 않음)")
+    void unregisterDuringDrainDoesNotDoubleRelease() throws IOException {
+        // given - 첫 메시지 송신 중에 연결 종료
+        TextMessage first = new TextMessage("abc");
+        willAnswer(invocation -> {
+            sender.unregister(session);
+            return null;
+        }).given(session).sendMessage(first);
+        sender.send(session, first);
+        sender.send(session, new TextMessage("def"));
+        sender.send(session, new TextMessage("ghi"));
+
+        // when
+        runScheduledDrains();
+
+        // then
+        verify(session, times(1)).sendMessage(any());
+        assertThat(queuedBytesGauge()).isZero();
+
+        // when - 해제된 세션 재해제 / 적재
+        sender.unregister(session);
+
+        // then
+        assertThat(sender.send(session, new TextMessage("jkl"))).isFalse();
+        assertThat(queuedBytesGauge()).isZero();
+    }
+
+    private void runScheduledDrains() {
+        while (!scheduledDrains.isEmpty()) {
+            scheduledDrains.remove(0).run();
+        }
+    }
+
+    private double queuedBytesGauge() {
+        return meterRegistry.get("order.websocket.outbound.queued.bytes").gauge().value();
+    }
+
+    private double evictedCount() {
+        return meterRegistry.counter("order.websocket.outbound.evicted").count();
+    }
+}
@@ -0,0 +1,176 @@
+package com.stockmate.order.common.codec;
+
+import com.stockmate.order.api.order.dto.*;
+import com.stockmate.order.api.order.entity.OrderStatus;
+import com.stockmate.order.api.order.entity.PaymentType;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("OrderEventBinaryCodec 테스트")
+class OrderEventBinaryCodecTest {
+
+    private static final String TOPIC = "pay-success";
+
+    static Stream<Object> events() {
+        return Stream.of(
+                PayRequestEvent.builder().orderId(1L).memberId(2L).orderNumber("SMO-1")
+                        .paymentType(PaymentType.CARD).totalPrice(150000).orderStatus(OrderStatus.PAY_COMPLETED).build(),
+                PayRequestEvent.builder().totalPrice(0).build(),
+                PayCancelRequestEvent.builder().orderId(1L).memberId(2L).orderNumber("SMO-1")
+                        .paymentType(PaymentType.CARD).totalPrice(150000).orderStatus(OrderStatus.PAY_COMPLETED)
+                        .cancelAttemptId("CANCEL-1-1").build(),
+                PayCancelRequestEvent.builder().build(),
+                PayResponseEvent.builder().orderId(1L).orderNumber("SMO-1").approvalAttemptId("PAY-1")
+                        .isSuccess(false).etc("잔액 부족").build(),
+                PayResponseEvent.builder().orderId(1L).isSuccess(true).build(),
+                PayResponseEvent.builder().build(),
+                CancelResponseEvent.builder().orderId(1L).orderNumber("SMO-1").approvalAttemptId("CANCEL-1-1").build(),
+                CancelResponseEvent.builder().build(),
+                ReceivingProcessSuccessEvent.builder().orderId(1L).orderNumber("SMO-1").approvalAttemptId("RCV-1")
+                        .message("입고 완료").build(),
+                ReceivingProcessSuccessEvent.builder().build(),
+                ReceivingProcessFailedEvent.builder().orderId(1L).orderNumber("SMO-1").approvalAttemptId("RCV-1")
+                        .errorMessage("재고 반영 실패").data(Map.of("partId", 10, "reasons", List.of("LOCKED"))).build(),
+                ReceivingProcessFailedEvent.builder().build()
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("events")
+    @DisplayName("여섯 가지 이벤트 모두 null 필드를 포함해 그대로 복원")
+    void roundTrip(Object event) {
+        // when
+        byte[] encoded = OrderEventBinaryCodec.encode(event);
+        Object decoded = OrderEventBinaryCodec.decode(encoded);
+
+        // then
+        assertThat(encoded[0]).isEqualTo(OrderEventBinaryCodec.MAGIC);
+        assertThat(encoded[1]).isEqualTo(OrderEventBinaryCodec.SCHEMA_VERSION);
+        assertThat(decoded).isExactlyInstanceOf(event.getClass());
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("스키마 v1 취소 요청 (cancelAttemptId 없음) 도 디코딩")
+    void decodesVersionOnePayCancelRequest() {
+        // given - v2 인코딩에서 마지막 필드(cancelAttemptId=null, 존재 여부 1B)를 빼고 버전을 1로 기록
+        PayCancelRequestEvent event = PayCancelRequestEvent.builder().orderId(1L).memberId(2L).orderNumber("SMO-1")
+                .paymentType(PaymentType.CARD).totalPrice(150000).orderStatus(OrderStatus.PAY_COMPLETED).build();
+        byte[] v2 = OrderEventBinaryCodec.encode(event);
+        byte[] v1 = Arrays.copyOf(v2, v2.length - 1);
+        v1[1] = 1;
+
+        // when
+        PayCancelRequestEvent decoded = (PayCancelRequestEvent) OrderEventBinaryCodec.decode(v1);
+
+        // then
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(event);
+        assertThat(decoded.getCancelAttemptId()).isNull();
+    }
+
+    @Test
+    @DisplayName("매직 바이트 / 스키마 버전 / 타입 ID 가 잘못되거나 데이터가 잘리면 SerializationException")
+    void rejectsMalformedHeader() {
+        assertThatThrownBy(() -> OrderEventBinaryCodec.decode("{\"orderId\":1}".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(SerializationException.class);
+        assertThatThrownBy(() -> OrderEventBinaryCodec.decode(new byte[]{OrderEventBinaryCodec.MAGIC, 99, 1}))
+                .isInstanceOf(SerializationException.class);
+        assertThatThrownBy(() -> OrderEventBinaryCodec.decode(new byte[]{OrderEventBinaryCodec.MAGIC, OrderEventBinaryCodec.SCHEMA_VERSION, 99}))
+                .isInstanceOf(SerializationException.class);
+        assertThatThrownBy(() -> OrderEventBinaryCodec.decode(new byte[]{OrderEventBinaryCodec.MAGIC, OrderEventBinaryCodec.SCHEMA_VERSION, 3, 1}))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 이벤트는 인코딩하지 않음")
+    void rejectsUnsupportedEvent() {
+        assertThat(OrderEventBinaryCodec.supports("order")).isFalse();
+        assertThatThrownBy(() -> OrderEventBinaryCodec.encode("order"))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    @DisplayName("64KB 를 넘는 문자열 필드는 바이너리로 인코딩할 수 없어 Serializer 가 JSON 으로 전송")
+    @SuppressWarnings("unchecked")
+    void oversizedStringFallsBackToJson() {
+        // given
+        ReceivingProcessFailedEvent event = ReceivingProcessFailedEvent.builder()
+                .orderId(1L)
+                .orderNumber("SMO-1")
+                .data(Map.of("detail", "x".repeat(70_000)))
+                .build();
+        Serializer<Object> jsonSerializer = mock(Serializer.class);
+        byte[] json = "{}".getBytes(StandardCharsets.UTF_8);
+        given(jsonSerializer.serialize(eq(TOPIC), any(Headers.class), eq(event))).willReturn(json);
+        OrderEventSerializer serializer = new OrderEventSerializer(jsonSerializer, Set.of(TOPIC));
+        Headers headers = new RecordHeaders();
+
+        // when & then
+        assertThatThrownBy(() -> OrderEventBinaryCodec.encode(event)).isInstanceOf(SerializationException.class);
+        assertThat(serializer.serialize(TOPIC, headers, event)).isSameAs(json);
+        assertThat(headers.lastHeader(OrderEventSerializer.FORMAT_HEADER)).isNull();
+    }
+
+    @Test
+    @DisplayName("바이너리 대상 토픽이면 형식 헤더와 함께 바이너리로 전송, 수신 측은 헤더로 판별")
+    @SuppressWarnings("unchecked")
+    void serializerAndDeserializerRoundTrip() {
+        // given
+        PayResponseEvent event = PayResponseEvent.builder().orderId(1L).orderNumber("SMO-1").isSuccess(true).build();
+        Serializer<Object> jsonSerializer = mock(Serializer.class);
+        Deserializer<Object> jsonDeserializer = mock(Deserializer.class);
+        Headers headers = new RecordHeaders();
+
+        // when
+        byte[] data = new OrderEventSerializer(jsonSerializer, Set.of(TOPIC)).serialize(TOPIC, headers, event);
+        Object decoded = new OrderEventDeserializer(jsonDeserializer).deserialize(TOPIC, headers, data);
+
+        // then
+        assertThat(new String(headers.lastHeader(OrderEventSerializer.FORMAT_HEADER).value(), StandardCharsets.UTF_8))
+                .isEqualTo(OrderEventSerializer.BINARY_FORMAT);
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(event);
+        verify(jsonSerializer, never()).serialize(any(), any(Headers.class), any());
+        verify(jsonDeserializer, never()).deserialize(any(), any(Headers.class), any());
+    }
+
+    @Test
+    @DisplayName("형식 헤더가 없으면 JSON Deserializer 에 위임 (기존 Producer 호환)")
+    @SuppressWarnings("unchecked")
+    void deserializerFallsBackToJsonWithoutHeader() {
+        // given
+        Deserializer<Object> jsonDeserializer = mock(Deserializer.class);
+        byte[] json = "{\"orderId\":1}".getBytes(StandardCharsets.UTF_8);
+        Headers headers = new RecordHeaders();
+        PayResponseEvent expected = PayResponseEvent.builder().orderId(1L).build();
+        given(jsonDeserializer.deserialize(TOPIC, headers, json)).willReturn(expected);
+
+        // when
+        Object decoded = new OrderEventDeserializer(jsonDeserializer).deserialize(TOPIC, headers, json);
+
+        // then
+        assertThat(decoded).isSameAs(expected);
+    }
+}
@@ -0,0 +1,130 @@
+package com.stockmate.order.common.consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("KeyOrderedExecutor 테스트")
+class KeyOrderedExecutorTest {
+
+    private KeyOrderedExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new KeyOrderedExecutor();
+        ReflectionTestUtils.setField(executor, "laneCount", 4);
+        ReflectionTestUtils.setField(executor, "maxPending", 1000);
+        ReflectionTestUtils.setField(executor, "resumePending", 500);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(executor, "stop");
+    }
+
+    @Test
+    @DisplayName("같은 키의 작업은 제출 순서대로 실행")
+    void preservesOrderPerKey() throws InterruptedException {
+        // given
+        ReflectionTestUtils.invokeMethod(executor, "start");
+        int keys = 10;
+        int tasksPerKey = 100;
+        Map<Long, List<Integer>> executed = new ConcurrentHashMap<>();
+        CountDownLatch done = new CountDownLatch(keys * tasksPerKey);
+
+        // when - 키를 섞어서 제출
+        for (int seq = 0; seq < tasksPerKey; seq++) {
+            for (long key = 0; key < keys; key++) {
+                long orderId = key;
+                int order = seq;
+                executor.submit(orderId, () -> {
+                    executed.computeIfAbsent(orderId, k -> Collections.synchronizedList(new ArrayList<>())).add(order);
+                    done.countDown();
+                });
+            }
+        }
+
+        // then
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed).hasSize(keys);
+        executed.values().forEach(orders -> assertThat(orders).hasSize(tasksPerKey).isSorted());
+        assertThat(executor.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("작업이 예외를 던져도 레인은 다음 작업을 계속 처리")
+    void laneSurvivesFailingTask() throws InterruptedException {
+        // given
+        ReflectionTestUtils.invokeMethod(executor, "start");
+        CountDownLatch done = new CountDownLatch(1);
+
+        // when
+        executor.submit(1L, () -> {
+            throw new IllegalStateException("처리 실패");
+        });
+        executor.submit(1L, done::countDown);
+
+        // then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("대기 작업이 max-pending 에 도달하면 한 번만 pause, resume-pending 이하로 줄면 resume")
+    void pausesAndResumesOnThresholds() throws InterruptedException {
+        // given - 레인 1개, 첫 작업이 레인을 막고 있는 상태
+        ReflectionTestUtils.setField(executor, "laneCount", 1);
+        ReflectionTestUtils.setField(executor, "maxPending", 3);
+        ReflectionTestUtils.setField(executor, "resumePending", 1);
+        AtomicInteger pauses = new AtomicInteger();
+        CountDownLatch resumed = new CountDownLatch(1);
+        executor.setBackPressureActions(pauses::incrementAndGet, resumed::countDown);
+        ReflectionTestUtils.invokeMethod(executor, "start");
+
+        CountDownLatch blocking = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(1L, () -> {
+            blocking.countDown();
+            awaitQuietly(release);
+        });
+        assertThat(blocking.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when - 한도 도달 후에도 계속 제출 (제출은 블로킹하지 않음)
+        executor.submit(1L, () -> { });
+        assertThat(pauses).hasValue(0);
+        executor.submit(1L, () -> { });
+        executor.submit(1L, () -> { });
+
+        // then
+        assertThat(pauses).hasValue(1);
+        assertThat(executor.pendingCount()).isEqualTo(4);
+        assertThat(resumed.getCount()).isEqualTo(1);
+
+        // when - 레인 재개
+        release.countDown();
+
+        // then
+        assertThat(resumed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(pauses).hasValue(1);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.stockmate.order.common.producer;
+
+import com.stockmate.order.api.order.dto.PayCancelRequestEvent;
+import com.stockmate.order.api.order.dto.PayRequestEvent;
+import com.stockmate.order.api.order.entity.OrderStatus;
+import com.stockmate.order.api.order.entity.PaymentType;
+import com.stockmate.order.common.config.kafka.KafkaConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("benchmark")
+@SpringJUnitConfig(classes = {KafkaConfig.class, KafkaProducerService.class, KafkaProducerBenchmarkTest.MetricsConfig.class})
+@EmbeddedKafka(partitions = 3, topics = {"pay-request", "cancel-request"}, bootstrapServersProperty = "spring.kafka.bootstrap-servers")
+@TestPropertySource(properties = {
+        "kafka.topics.pay-request=pay-request",
+        "kafka.topics.cancel-request=cancel-request",
+        "kafka.topics.pay-success=pay-success",
+        "kafka.topics.pay-failed=pay-failed",
+        "kafka.topics.cancel-success=cancel-success",
+        "kafka.topics.cancel-failed=cancel-failed",
+        "kafka.topics.receiving-process-success=receiving-process-success",
+        "kafka.topics.receiving-process-failed=receiving-process-failed",
+        "kafka.listener.mode=batch"
+})
+@DisplayName("Kafka 프로듀서 처리량 벤치마크")
+class KafkaProducerBenchmarkTest {
+
+    private static final int WARMUP_COUNT = 2_000;
+    private static final int EVENT_COUNT = 50_000;
+
+    @Autowired
+    private KafkaProducerService kafkaProducerService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("결제 요청 이벤트 발송 처리량")
+    void payRequestThroughput() {
+        // given
+        List<PayRequestEvent> events = IntStream.range(0, EVENT_COUNT)
+                .mapToObj(i -> PayRequestEvent.builder()
+                        .orderId((long) i)
+                        .memberId((long) (i % 100))
+                        .orderNumber("SMO-" + i)
+                        .paymentType(PaymentType.DEPOSIT)
+                        .totalPrice(150000)
+                        .orderStatus(OrderStatus.ORDER_COMPLETED)
+                        .build())
+                .toList();
+
+        // when
+        double eventsPerSecond = measure("pay-request", events, event -> event.getOrderId().toString());
+
+        // then
+        assertThat(eventsPerSecond).isPositive();
+        assertThat(meterRegistry.get("order.kafka.producer.send").tag("topic", "pay-request").timer().count())
+                .isGreaterThanOrEqualTo(EVENT_COUNT);
+    }
+
+    @Test
+    @DisplayName("결제 취소 요청 이벤트 발송 처리량")
+    void payCancelRequestThroughput() {
+        // given
+        List<PayCancelRequestEvent> events = IntStream.range(0, EVENT_COUNT)
+                .mapToObj(i -> PayCancelRequestEvent.builder()
+                        .orderId((long) i)
+                        .memberId((long) (i % 100))
+                        .orderNumber("SMO-" + i)
+                        .paymentType(PaymentType.DEPOSIT)
+                        .totalPrice(150000)
+                        .orderStatus(OrderStatus.PAY_COMPLETED)
+                        .build())
+                .toList();
+
+        // when
+        double eventsPerSecond = measure("cancel-request", events, event -> event.getOrderId().toString());
+
+        // then
+        assertThat(eventsPerSecond).isPositive();
+        assertThat(meterRegistry.get("order.kafka.producer.send").tag("topic", "cancel-request").timer().count())
+                .isGreaterThanOrEqualTo(EVENT_COUNT);
+    }
+
+    private <T> double measure(String topic, List<T> events, Function<T, String> keyExtractor) {
+        // 워밍업 (커넥션/메타데이터/JIT)
+        kafkaProducerService.sendAll(topic, events.subList(0, WARMUP_COUNT), keyExtractor).join();
+
+        long startedAt = System.nanoTime();
+        kafkaProducerService.sendAll(topic, events, keyExtractor).join();
+        double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+        double eventsPerSecond = events.size() / seconds;
+        System.out.printf("[Benchmark] 토픽: %s, 건수: %d, 소요: %.2fs, 처리량: %.0f events/sec%n",
+                topic, events.size(), seconds, eventsPerSecond);
+        return eventsPerSecond;
+    }
+
+    @Configuration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}